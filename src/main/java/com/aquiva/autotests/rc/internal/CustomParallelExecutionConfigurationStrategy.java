@@ -12,7 +12,10 @@ import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigura
  * @see <a href='https://github.com/SeleniumHQ/selenium/issues/10113'>Selenium's issue #10113 on GitHub</a>
  */
 public class CustomParallelExecutionConfigurationStrategy implements ParallelExecutionConfiguration, ParallelExecutionConfigurationStrategy {
-    private static final Integer PARALLELISM = Integer.valueOf(System.getProperty("junit.parallelism"));
+    /**
+     * Number of the worker threads for the parallel execution of the test classes.
+     */
+    public static final Integer PARALLELISM = Integer.valueOf(System.getProperty("junit.parallelism"));
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,245 @@
+package com.aquiva.autotests.rc.internal.proxy;
+
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.AttributeKey;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Registry of the mock responses for the external web services (e.g. Funnel Service) provided via Selenide's proxy
+ * (see {@link SelenideProxyExtension}).
+ * <br/>
+ * All the mock payloads (from the "mock" folder in the resources) are loaded once, when the registry is initialized,
+ * and the mocked requests are matched via the precompiled routing table:
+ * <p> - URL pattern of the request (e.g. "/get-countries") </p>
+ * <p> - optional patterns for the request's body that select another payload
+ * (e.g. unsupported package's ID in the "get-countries" request) </p>
+ * <p></p>
+ * The payload that is selected by the request's body is stored per client connection,
+ * so the parallel requests from different connections (browsers) don't affect each other's responses.
+ * <br/>
+ * The registry also collects the statistics for every mocked endpoint: number of the mocked responses,
+ * and the latency added by the mock (see {@link #getStatsFormatted()}).
+ */
+public class ProxyMockRegistry {
+
+    //  Folder with all the mock payloads in the resources
+    private static final String MOCKS_FOLDER = "mock/";
+
+    //  Routing table for all the mocked endpoints (the first matching route is used)
+    private static final List<MockRoute> ROUTES = List.of(
+            new MockRoute("get-countries", "/get-countries", "get-countries_response.json")
+                    //  Any new unsupported packages' IDs should be incorporated into this RegEx
+                    .withRequestBodyVariant("\"packageId\":\"([678]|1118)\"", "get-countries-unsupported_response.json"),
+            new MockRoute("get-states", "/get-states", "get-states_response.json"),
+            new MockRoute("get-locations", "/get-locations", "get-locations_response.json"),
+            new MockRoute("get-toll-free-prefixes", "/get-toll-free-prefixes", "get-toll-free-prefixes_response.json"),
+            new MockRoute("check-availability", "/check-availability", "check-availability_response.json"),
+            new MockRoute("package-availability", "/package/availability", "package-availability_response.json"),
+            new MockRoute("dam-info", "/dam-info", "dam-info_response.json"),
+            new MockRoute("get-preferred-language", "/get-preferred-language", "get-preferred-language_response.json")
+                    //  Any new packages' IDs that should have different languages should be incorporated into this RegEx
+                    .withRequestBodyVariant("\"packageId\":\"291\"", "get-preferred-language_291_response.json")
+    );
+
+    //  Mock payloads by their file names, loaded once for all the routes
+    private static final Map<String, byte[]> PAYLOADS = loadPayloads();
+
+    //  Payloads selected by the requests' bodies for the current client connection (route's name -> payload's file)
+    private static final AttributeKey<Map<String, String>> SELECTED_PAYLOADS =
+            AttributeKey.valueOf(ProxyMockRegistry.class.getName() + ".selectedPayloads");
+
+    //  Metrics for the mocked endpoints by the route's name
+    private static final Map<String, LongAdder> HITS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> ADDED_NANOS = new ConcurrentHashMap<>();
+
+    /**
+     * Check the mocked request's body, and select the payload for the response,
+     * if the body matches any of the route's variants (e.g. unsupported package's ID in the "get-countries" request).
+     * <br/>
+     * The selected payload is stored for the current client connection until the next matching request.
+     * <br/>
+     * Should be invoked from the proxy's request filter.
+     *
+     * @param request     original HTTP request
+     * @param contents    contents of the HTTP request
+     * @param messageInfo additional info about the HTTP request (URL, client connection)
+     */
+    public static void selectPayloadForRequest(HttpRequest request, HttpMessageContents contents,
+                                               HttpMessageInfo messageInfo) {
+        if (!request.method().name().equalsIgnoreCase("POST")) {
+            return;
+        }
+
+        var route = findRoute(messageInfo.getUrl());
+        if (route == null || route.requestBodyVariants.isEmpty()) {
+            return;
+        }
+
+        var textBody = contents.getTextContents();
+        if (textBody.isBlank()) {
+            return;
+        }
+
+        var selectedPayloads = messageInfo.getChannelHandlerContext().channel().attr(SELECTED_PAYLOADS);
+        selectedPayloads.setIfAbsent(new ConcurrentHashMap<>());
+        selectedPayloads.get().put(route.name, route.getPayloadFileName(textBody));
+    }
+
+    /**
+     * Replace the contents of the HTTP response with the mock payload, if there's a matching route for its URL.
+     * <br/>
+     * Should be invoked from the proxy's response filter.
+     *
+     * @param response    original HTTP response
+     * @param contents    contents of the HTTP response
+     * @param messageInfo additional info about the HTTP request (URL, client connection)
+     * @return true, if the response is replaced with the mock payload
+     */
+    public static boolean mockResponse(HttpResponse response, HttpMessageContents contents,
+                                       HttpMessageInfo messageInfo) {
+        var startTime = System.nanoTime();
+
+        var route = findRoute(messageInfo.getUrl());
+        if (route == null) {
+            return false;
+        }
+
+        var selectedPayloads = messageInfo.getChannelHandlerContext().channel().attr(SELECTED_PAYLOADS).get();
+        var payloadFileName = selectedPayloads != null
+                ? selectedPayloads.getOrDefault(route.name, route.defaultPayloadFileName)
+                : route.defaultPayloadFileName;
+
+        response.headers().remove("Content-Length");
+        contents.setBinaryContents(PAYLOADS.get(payloadFileName));
+
+        HITS.computeIfAbsent(route.name, r -> new LongAdder()).increment();
+        ADDED_NANOS.computeIfAbsent(route.name, r -> new LongAdder()).add(System.nanoTime() - startTime);
+        return true;
+    }
+
+    /**
+     * Get the current statistics for the mocked endpoints in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics for every mocked endpoint
+     * (e.g. "get-countries: hits: 12, avg added latency: 0.35 ms; get-states: hits: 3, avg added latency: 0.12 ms"),
+     * or empty string if there were no mocked responses yet
+     */
+    public static String getStatsFormatted() {
+        return HITS.keySet().stream()
+                .sorted()
+                .map(routeName -> {
+                    var hits = HITS.get(routeName).sum();
+                    var addedNanos = ADDED_NANOS.getOrDefault(routeName, new LongAdder()).sum();
+                    return String.format("%s: hits: %d, avg added latency: %.2f ms", routeName, hits,
+                            hits == 0 ? 0.0 : addedNanos / (double) MILLISECONDS.toNanos(1) / hits);
+                })
+                .collect(joining("; "));
+    }
+
+    /**
+     * Find the first route in the routing table that matches the request's URL.
+     *
+     * @param url full URL of the request
+     * @return matching route, or {@code null} if the request shouldn't be mocked
+     */
+    private static MockRoute findRoute(String url) {
+        for (var route : ROUTES) {
+            if (route.urlPattern.matcher(url).find()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load all the mock payloads for the routes from the resources.
+     *
+     * @return map with the payloads' contents by their file names
+     * @throws RuntimeException if any of the payloads can't be loaded
+     */
+    private static Map<String, byte[]> loadPayloads() {
+        var payloads = new HashMap<String, byte[]>();
+        for (var route : ROUTES) {
+            var payloadFileNames = new ArrayList<>(route.requestBodyVariants.values());
+            payloadFileNames.add(route.defaultPayloadFileName);
+
+            for (var payloadFileName : payloadFileNames) {
+                var payloadURL = ProxyMockRegistry.class.getClassLoader().getResource(MOCKS_FOLDER + payloadFileName);
+                if (payloadURL == null) {
+                    throw new RuntimeException("Mock payload is not found in the resources: " + MOCKS_FOLDER + payloadFileName);
+                }
+
+                try {
+                    payloads.put(payloadFileName, IOUtils.toByteArray(payloadURL));
+                } catch (IOException e) {
+                    throw new RuntimeException("Unable to load the mock payload " + payloadFileName + "! Details: " + e, e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(payloads);
+    }
+
+    /**
+     * Route for the mocked endpoint in the routing table.
+     */
+    private static class MockRoute {
+        private final String name;
+        private final Pattern urlPattern;
+        private final String defaultPayloadFileName;
+        //  Request body's pattern -> payload's file name (for the requests with this body)
+        private final Map<Pattern, String> requestBodyVariants = new LinkedHashMap<>();
+
+        /**
+         * Constructor for the route of the mocked endpoint.
+         *
+         * @param name                   name of the mocked endpoint (e.g. "get-countries")
+         * @param urlRegex               regular expression to find in the request's URL (e.g. "/get-countries")
+         * @param defaultPayloadFileName file name of the mock payload in the "mock" folder
+         */
+        private MockRoute(String name, String urlRegex, String defaultPayloadFileName) {
+            this.name = name;
+            this.urlPattern = Pattern.compile(urlRegex);
+            this.defaultPayloadFileName = defaultPayloadFileName;
+        }
+
+        /**
+         * Add another payload for the requests with the matching body.
+         *
+         * @param requestBodyRegex regular expression to find in the request's body (e.g. "\"packageId\":\"291\"")
+         * @param payloadFileName  file name of the mock payload in the "mock" folder
+         * @return this route (for the chaining)
+         */
+        private MockRoute withRequestBodyVariant(String requestBodyRegex, String payloadFileName) {
+            requestBodyVariants.put(Pattern.compile(requestBodyRegex), payloadFileName);
+            return this;
+        }
+
+        /**
+         * Get the payload's file name for the request with the given body.
+         *
+         * @param requestBody text body of the request
+         * @return file name of the payload for the first matching variant, or the default one
+         */
+        private String getPayloadFileName(String requestBody) {
+            for (var variant : requestBodyVariants.entrySet()) {
+                if (variant.getKey().matcher(requestBody).find()) {
+                    return variant.getValue();
+                }
+            }
+            return defaultPayloadFileName;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.aquiva.autotests.rc.internal.proxy;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Filter stage for Selenide's proxy that blocks the requests for the heavy non-essential resources
+ * (e.g. 3rd-party analytics, fonts, images) to cut the page load time
+ * (see {@link SelenideProxyExtension}).
+ * <br/>
+ * Blocked requests don't leave the proxy: they're short-circuited with empty "204 No Content" responses.
+ * <br/>
+ * The URL patterns for the blocked requests are loaded from the resource file (see {@link #BLOCKLIST_FILE}):
+ * <p> - every line is a regular expression to find in the request's URL </p>
+ * <p> - lines starting with "+" are the allowlist patterns: such requests are never blocked </p>
+ * <p> - lines starting with "#" are comments </p>
+ * <p></p>
+ * The filter collects the number of the blocked requests for every test.
+ * In "dryRun" mode, the matching requests are not blocked, but their number and the size of their responses are collected,
+ * which is useful to estimate the savings before enabling the blocking.
+ */
+public class ProxyRequestBlocker {
+
+    /**
+     * Mode for blocking the requests via proxy server:
+     * <p> - "false": the requests are not blocked (default) </p>
+     * <p> - "true": the requests that match the blocklist are blocked </p>
+     * <p> - "dryRun": the requests are not blocked, but the statistics for the matching requests are collected </p>
+     */
+    public static final String PROXY_BLOCKING_MODE = System.getProperty("proxy.blocking", "false");
+    /**
+     * Path to the resource file with the URL patterns for the blocklist/allowlist.
+     */
+    public static final String BLOCKLIST_FILE = System.getProperty("proxy.blocklistFile", "proxy/blocklist.txt");
+
+    //  Values for the blocking mode
+    private static final String BLOCKING_ENABLED_MODE = "true";
+    private static final String DRY_RUN_MODE = "dryRun";
+
+    private static final String ALLOWLIST_PREFIX = "+";
+    private static final String COMMENT_PREFIX = "#";
+
+    //  Precompiled patterns for all the blocklist/allowlist lines (null, if there are no such lines)
+    private static volatile Pattern blocklistPattern;
+    private static volatile Pattern allowlistPattern;
+    private static boolean isPatternsLoaded;
+
+    //  Statistics for the matching requests by the proxy server (one proxy server per browser)
+    private static final Map<SelenideProxyServer, BlockingStats> STATS_BY_PROXY =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    //  Statistics for the matching requests for all the proxy servers
+    private static final BlockingStats TOTAL_STATS = new BlockingStats();
+
+    /**
+     * Check if the blocking of the requests (or its dry run) is enabled.
+     *
+     * @return true, if the blocking mode is "true" or "dryRun"
+     */
+    public static boolean isEnabled() {
+        return BLOCKING_ENABLED_MODE.equalsIgnoreCase(PROXY_BLOCKING_MODE) || DRY_RUN_MODE.equalsIgnoreCase(PROXY_BLOCKING_MODE);
+    }
+
+    /**
+     * Add the filters for blocking the requests to the proxy server
+     * (if the proxy server doesn't have them yet, e.g. in case of the browser reused between the test classes).
+     *
+     * @param proxy Selenide's proxy server instance
+     */
+    public static void addFilters(SelenideProxyServer proxy) {
+        var stats = new BlockingStats();
+        if (STATS_BY_PROXY.putIfAbsent(proxy, stats) != null) {
+            return;
+        }
+
+        loadPatterns();
+        if (blocklistPattern == null) {
+            return;
+        }
+
+        var isDryRun = DRY_RUN_MODE.equalsIgnoreCase(PROXY_BLOCKING_MODE);
+
+        proxy.addRequestFilter("Blocklist Request Filter", (request, contents, messageInfo) -> {
+            if (isDryRun || request.method().equals(HttpMethod.CONNECT) || !isBlocked(messageInfo.getUrl())) {
+                return null;
+            }
+
+            stats.addRequest(0);
+            TOTAL_STATS.addRequest(0);
+
+            var response = new DefaultFullHttpResponse(request.protocolVersion(), NO_CONTENT);
+            response.headers().set(CONTENT_LENGTH, 0);
+            return response;
+        });
+
+        if (isDryRun) {
+            proxy.addResponseFilter("Blocklist Dry Run Response Filter", (response, contents, messageInfo) -> {
+                if (isBlocked(messageInfo.getUrl())) {
+                    var bytes = contents.getBinaryContents().length;
+                    stats.addRequest(bytes);
+                    TOTAL_STATS.addRequest(bytes);
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the statistics for the requests matched by the blocklist since the previous call,
+     * in the form of the formatted string (e.g. for the per-test report).
+     *
+     * @param proxy Selenide's proxy server instance
+     * @return string with the statistics for the proxy server (e.g. "blocked requests: 42"),
+     * or empty string if there were no matching requests
+     */
+    public static String getStatsFormattedAndReset(SelenideProxyServer proxy) {
+        var stats = STATS_BY_PROXY.get(proxy);
+        if (stats == null) {
+            return "";
+        }
+
+        var formattedStats = stats.getFormatted();
+        stats.reset();
+        return formattedStats;
+    }
+
+    /**
+     * Get the statistics for the requests matched by the blocklist for all the proxy servers,
+     * in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the total statistics (e.g. "blocked requests: 1250"),
+     * or empty string if there were no matching requests
+     */
+    public static String getStatsFormatted() {
+        return TOTAL_STATS.getFormatted();
+    }
+
+    /**
+     * Check if the request with the given URL should be blocked.
+     *
+     * @param url full URL of the request
+     * @return true, if the URL matches the blocklist, and doesn't match the allowlist
+     */
+    private static boolean isBlocked(String url) {
+        return blocklistPattern.matcher(url).find() &&
+                (allowlistPattern == null || !allowlistPattern.matcher(url).find());
+    }
+
+    /**
+     * Load the blocklist/allowlist URL patterns from the resource file,
+     * and compile them into a single pattern for each list (only once).
+     *
+     * @throws RuntimeException if the resource file can't be loaded
+     */
+    private static synchronized void loadPatterns() {
+        if (isPatternsLoaded) {
+            return;
+        }
+
+        var fileURL = ProxyRequestBlocker.class.getClassLoader().getResource(BLOCKLIST_FILE);
+        if (fileURL == null) {
+            throw new RuntimeException("Proxy's blocklist file is not found in the resources: " + BLOCKLIST_FILE);
+        }
+
+        List<String> lines;
+        try (var inputStream = fileURL.openStream()) {
+            lines = IOUtils.readLines(inputStream, UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to load the proxy's blocklist file " + BLOCKLIST_FILE + "! Details: " + e, e);
+        }
+
+        var blocklist = new ArrayList<String>();
+        var allowlist = new ArrayList<String>();
+        for (var line : lines) {
+            var pattern = line.trim();
+            if (pattern.isEmpty() || pattern.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            if (pattern.startsWith(ALLOWLIST_PREFIX)) {
+                allowlist.add(pattern.substring(ALLOWLIST_PREFIX.length()).trim());
+            } else {
+                blocklist.add(pattern);
+            }
+        }
+
+        allowlistPattern = compile(allowlist);
+        blocklistPattern = compile(blocklist);
+        isPatternsLoaded = true;
+    }
+
+    /**
+     * Compile all the given regular expressions into a single pattern.
+     *
+     * @param regexes list of the regular expressions
+     * @return pattern that matches any of the regular expressions, or {@code null} if the list is empty
+     */
+    private static Pattern compile(List<String> regexes) {
+        return regexes.isEmpty()
+                ? null
+                : Pattern.compile(regexes.stream().map(regex -> "(?:" + regex + ")").collect(joining("|")));
+    }
+
+    /**
+     * Statistics for the requests matched by the blocklist.
+     */
+    private static class BlockingStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * Count the matching request.
+         *
+         * @param responseBytes size of the request's response
+         *                      (0, if the request is blocked, and the response's size is unknown)
+         */
+        private void addRequest(long responseBytes) {
+            requests.increment();
+            bytes.add(responseBytes);
+        }
+
+        /**
+         * Reset all the collected statistics.
+         */
+        private void reset() {
+            requests.reset();
+            bytes.reset();
+        }
+
+        /**
+         * Get the statistics in the form of the formatted string.
+         *
+         * @return string with the number of the blocked requests (+ the size of their responses for the dry run),
+         * or empty string if there were no matching requests
+         */
+        private String getFormatted() {
+            var requestsCount = requests.sum();
+            if (requestsCount == 0) {
+                return "";
+            }
+
+            return DRY_RUN_MODE.equalsIgnoreCase(PROXY_BLOCKING_MODE)
+                    ? String.format("requests to block: %d, bytes to save: %d KB", requestsCount, bytes.sum() / 1024)
+                    : String.format("blocked requests: %d", requestsCount);
+        }
+    }
+}
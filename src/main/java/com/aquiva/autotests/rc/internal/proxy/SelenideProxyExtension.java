@@ -4,12 +4,17 @@ import com.browserup.bup.proxy.CaptureType;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.WebDriverRunner;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.WeakHashMap;
 
-import static com.aquiva.autotests.rc.utilities.JsonUtils.readResourceAsString;
 import static com.codeborne.selenide.Selenide.open;
 
 /**
@@ -18,16 +23,23 @@ import static com.codeborne.selenide.Selenide.open;
  * <br/><br/>
  * <h2>For the mock requests/responses:</h2>
  * See {@link #PROXY_IS_MOCK}.
- * Right now all mock responses are set up directly in the main callback method.
- * If the number of mock responses starts to grow, then this needs to be refactored.
+ * All mock responses and the rules for matching the requests are set up in {@link ProxyMockRegistry}.
  * <br/>
  * Should be used for the most test scenarios that don't check integration between CRM and web services.
  * <br/><br/>
+ * <h2>For the blocking of the non-essential requests:</h2>
+ * See {@link ProxyRequestBlocker#PROXY_BLOCKING_MODE}.
+ * The number of the blocked requests is logged after every test.
+ * <br/><br/>
  * <h2>For the capturing of HAR files:</h2>
  * See {@link #PROXY_IS_HAR}.
  * The extension controls the type of content that should be captured in the HAR files.
+ * In the streaming mode (see {@link #PROXY_IS_STREAMING_HAR}), the entries are filtered, cut and written to the disk
+ * when they're recorded (see {@link StreamingHarRecorder}), and only the current test's entries are kept.
  */
-public class SelenideProxyExtension implements BeforeAllCallback {
+public class SelenideProxyExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+    private static final Logger LOG = LoggerFactory.getLogger(SelenideProxyExtension.class);
+
     /**
      * A flag that indicates whether the mock requests/responses should be used via proxy server.
      */
@@ -44,9 +56,24 @@ public class SelenideProxyExtension implements BeforeAllCallback {
      */
     public static final String PROXY_URLS_TO_INCLUDE_IN_HAR = System.getProperty("proxy.urlsToIncludeInHar",
             "rclabenv.com;ApexAction");
+    /**
+     * A flag that indicates whether the HAR files should be captured in the streaming mode
+     * (with the bounded memory/disk usage) instead of the proxy's own HAR capture
+     * that keeps all the requests/responses in memory.
+     */
+    public static final boolean PROXY_IS_STREAMING_HAR = Boolean.parseBoolean(System.getProperty("proxy.isStreamingHar", "false"));
+    /**
+     * Max number of the characters of the request's/response's text contents in the streaming HAR's entries.
+     */
+    public static final int PROXY_HAR_MAX_BODY_SIZE = Integer.parseInt(System.getProperty("proxy.harMaxBodySize", "65536"));
+    /**
+     * Max number of the last entries that are kept for the streaming HAR.
+     */
+    public static final int PROXY_HAR_MAX_ENTRIES = Integer.parseInt(System.getProperty("proxy.harMaxEntries", "500"));
 
-    private boolean isRequestForUnsupportedPackage = false;
-    private boolean isRequestForRcSwitzerlandLanguages = false;
+    //  Proxy servers that already have the mock filters (e.g. the ones of the browsers reused between the test classes)
+    private static final Set<SelenideProxyServer> PROXIES_WITH_MOCKS =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
     /**
      * Open an empty web browser and set up mock responses for external web services.
@@ -68,12 +95,20 @@ public class SelenideProxyExtension implements BeforeAllCallback {
 
         var selenideProxy = WebDriverRunner.getSelenideProxy();
 
-        if (PROXY_IS_MOCK) {
+        if (PROXY_IS_MOCK && PROXIES_WITH_MOCKS.add(selenideProxy)) {
             addRequestFilterForUnsupportedPackages(selenideProxy);
             addResponseFilterForSupportedPackages(selenideProxy);
         }
 
-        if (PROXY_IS_HAR) {
+        if (ProxyRequestBlocker.isEnabled()) {
+            ProxyRequestBlocker.addFilters(selenideProxy);
+        }
+
+        if (PROXY_IS_HAR && PROXY_IS_STREAMING_HAR) {
+            //  stop the proxy's own HAR capture (if any), so it doesn't keep the entries in memory
+            selenideProxy.getProxy().endHar();
+            StreamingHarRecorder.addFilters(selenideProxy);
+        } else if (PROXY_IS_HAR) {
             selenideProxy.getProxy().enableHarCaptureTypes(Set.of(
                     CaptureType.REQUEST_HEADERS, CaptureType.REQUEST_CONTENT, CaptureType.REQUEST_BINARY_CONTENT,
                     CaptureType.RESPONSE_HEADERS, CaptureType.RESPONSE_CONTENT, CaptureType.RESPONSE_BINARY_CONTENT)
@@ -81,6 +116,44 @@ public class SelenideProxyExtension implements BeforeAllCallback {
         }
     }
 
+    /**
+     * Drop the streaming HAR's entries of the previous tests (e.g. in case of the browser reused between the tests),
+     * so the HAR for the failed test contains only its own requests.
+     * <p></p>
+     * Note: this callback is invoked <em>before</em> each test in the current container.
+     *
+     * @param context the current extension context; never {@code null}
+     */
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (!Configuration.proxyEnabled || !PROXY_IS_HAR || !PROXY_IS_STREAMING_HAR ||
+                !WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+
+        StreamingHarRecorder.reset(WebDriverRunner.getSelenideProxy());
+    }
+
+    /**
+     * Log the statistics for the requests blocked by the proxy during the test.
+     * <p></p>
+     * Note: this callback is invoked <em>after</em> each test in the current container.
+     *
+     * @param context the current extension context; never {@code null}
+     */
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (!Configuration.proxyEnabled || !ProxyRequestBlocker.isEnabled() || !WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+
+        var blockingStats = ProxyRequestBlocker.getStatsFormattedAndReset(WebDriverRunner.getSelenideProxy());
+        if (!blockingStats.isEmpty()) {
+            LOG.info("Proxy's blocklist for " + context.getRequiredTestClass().getName()
+                    + " : " + context.getDisplayName() + ": " + blockingStats);
+        }
+    }
+
     /**
      * Filter requests to the Funnel Service.
      * <br/>
@@ -90,22 +163,12 @@ public class SelenideProxyExtension implements BeforeAllCallback {
      * ... to provide a proper mock response via {@link #addResponseFilterForSupportedPackages(SelenideProxyServer)}.
      *
      * @param proxy Selenide's proxy server instance
+     * @see ProxyMockRegistry#selectPayloadForRequest
      */
     private void addRequestFilterForUnsupportedPackages(SelenideProxyServer proxy) {
         proxy.addRequestFilter("Funnel Service Request Filter",
                 (request, contents, messageInfo) -> {
-                    var isPost = request.method().name().equalsIgnoreCase("POST");
-                    var isGetCountries = messageInfo.getUrl().contains("/funnel-area-codes/get-countries");
-                    var isGetPreferredLanguage = messageInfo.getUrl().contains("/funnel-area-codes/get-preferred-language");
-                    var textBody = contents.getTextContents();
-                    if (isPost && isGetCountries && !textBody.isBlank()) {
-                        //  Any new unsupported packages' IDs should be incorporated into this RegEx
-                        isRequestForUnsupportedPackage = textBody.matches(".*\"packageId\":\"([678]|1118)\".*");
-                    } else if (isPost && isGetPreferredLanguage && !textBody.isBlank()) {
-                        //  Any new packages' IDs that should have different languages should be incorporated into this RegEx
-                        isRequestForRcSwitzerlandLanguages = textBody.matches(".*\"packageId\":\"291\".*");
-                    }
-
+                    ProxyMockRegistry.selectPayloadForRequest(request, contents, messageInfo);
                     return null;
                 });
     }
@@ -115,6 +178,7 @@ public class SelenideProxyExtension implements BeforeAllCallback {
      * It is used to mock responses from the service.
      *
      * @param proxy Selenide's proxy server instance
+     * @see ProxyMockRegistry#mockResponse
      */
     private void addResponseFilterForSupportedPackages(SelenideProxyServer proxy) {
         proxy.addResponseFilter("Funnel Service Mock Response Filter", (response,
@@ -126,33 +190,7 @@ public class SelenideProxyExtension implements BeforeAllCallback {
                 return;
             }
 
-            String newJsonResponse = null;
-            if (messageInfo.getUrl().contains("/get-countries")) {
-                newJsonResponse = isRequestForUnsupportedPackage ?
-                        readResourceAsString("mock/get-countries-unsupported_response.json") :
-                        readResourceAsString("mock/get-countries_response.json");
-            } else if (messageInfo.getUrl().contains("/get-states")) {
-                newJsonResponse = readResourceAsString("mock/get-states_response.json");
-            } else if (messageInfo.getUrl().contains("/get-locations")) {
-                newJsonResponse = readResourceAsString("mock/get-locations_response.json");
-            } else if (messageInfo.getUrl().contains("/get-toll-free-prefixes")) {
-                newJsonResponse = readResourceAsString("mock/get-toll-free-prefixes_response.json");
-            } else if (messageInfo.getUrl().contains("/check-availability")) {
-                newJsonResponse = readResourceAsString("mock/check-availability_response.json");
-            } else if (messageInfo.getUrl().contains("/package/availability")) {
-                newJsonResponse = readResourceAsString("mock/package-availability_response.json");
-            } else if (messageInfo.getUrl().contains("/dam-info")) {
-                newJsonResponse = readResourceAsString("mock/dam-info_response.json");
-            } else if (messageInfo.getUrl().contains("/get-preferred-language")) {
-                newJsonResponse = isRequestForRcSwitzerlandLanguages ?
-                        readResourceAsString("mock/get-preferred-language_291_response.json") :
-                        readResourceAsString("mock/get-preferred-language_response.json");
-            }
-
-            if (newJsonResponse != null) {
-                response.headers().remove("Content-Length");
-                contents.setTextContents(newJsonResponse);
-            }
+            ProxyMockRegistry.mockResponse(response, contents, messageInfo);
         });
     }
 }
@@ -0,0 +1,344 @@
+package com.aquiva.autotests.rc.internal.proxy;
+
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.AttributeKey;
+import org.apache.commons.io.FileUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+import static com.aquiva.autotests.rc.internal.proxy.SelenideProxyExtension.*;
+import static com.aquiva.autotests.rc.utilities.JsonUtils.writeJsonAsString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Recorder of the HAR (HTTP Archive) entries for Selenide's proxy with the bounded memory/disk usage
+ * (alternative to the proxy's own HAR capture that keeps all the requests/responses with their contents in the heap).
+ * <br/>
+ * The recorder:
+ * <p> - filters the requests by their URLs when they're recorded (see {@link #isEntryToCapture(String, String)}) </p>
+ * <p> - cuts the text contents of the requests/responses to the max size (see {@link SelenideProxyExtension#PROXY_HAR_MAX_BODY_SIZE}) </p>
+ * <p> - writes every entry straight to the disk, and keeps only the last N entries
+ * (see {@link SelenideProxyExtension#PROXY_HAR_MAX_ENTRIES}) </p>
+ * <p> - drops all the entries at the start of every test (see {@link #reset(SelenideProxyServer)}),
+ * so the HAR contains only the current test's traffic, even if the browser is reused between the tests </p>
+ * <p></p>
+ * The HAR file for the report is assembled from the entries on the disk (see {@link #getHarInputStream(SelenideProxyServer)}).
+ */
+public class StreamingHarRecorder {
+
+    //  Root folder for the entries of all the recorders (removed on JVM shutdown)
+    private static final Path ROOT_FOLDER = createRootFolder();
+
+    //  HTTP methods and URLs' parts of the requests that are never included in the HAR
+    private static final Set<String> METHODS_TO_EXCLUDE =
+            Set.of("HEAD", "PROPFIND", "OPTIONS", "REPORT", "CONNECT", "TRACE", "CCM_POST");
+    private static final List<String> URLS_TO_EXCLUDE = List.of(".js", ".css", ".png", ".gif", ".svg");
+    private static final List<String> URLS_TO_INCLUDE = List.of(PROXY_URLS_TO_INCLUDE_IN_HAR.split(";"));
+
+    //  Recorded request for the current client connection, waiting for its response
+    private static final AttributeKey<PendingEntry> PENDING_REQUEST =
+            AttributeKey.valueOf(StreamingHarRecorder.class.getName() + ".pendingRequest");
+
+    //  Recorders by the proxy server (one proxy server per browser)
+    private static final Map<SelenideProxyServer, StreamingHarRecorder> RECORDERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Path folder;
+    //  Files with the last N entries by their numbers, from the oldest to the newest
+    private final NavigableMap<Long, Path> entryFiles = new TreeMap<>();
+    //  Number of the last entry, and the first entry of the current test (both guarded by entryFiles)
+    private long entriesCounter;
+    private long firstEntryNumber = 1;
+
+    /**
+     * Constructor for the recorder with its own folder for the entries.
+     */
+    private StreamingHarRecorder() {
+        try {
+            this.folder = Files.createTempDirectory(ROOT_FOLDER, "proxy-");
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to create a folder for the HAR entries! Details: " + e, e);
+        }
+    }
+
+    /**
+     * Add the filters for recording the HAR entries to the proxy server
+     * (if the proxy server doesn't have them yet, e.g. in case of the browser reused between the test classes).
+     *
+     * @param proxy Selenide's proxy server instance
+     */
+    public static void addFilters(SelenideProxyServer proxy) {
+        synchronized (RECORDERS) {
+            if (RECORDERS.containsKey(proxy)) {
+                return;
+            }
+            RECORDERS.put(proxy, new StreamingHarRecorder());
+        }
+        var recorder = RECORDERS.get(proxy);
+
+        proxy.addRequestFilter("Streaming HAR Request Filter", (request, contents, messageInfo) -> {
+            recorder.recordRequest(request, contents, messageInfo);
+            return null;
+        });
+        proxy.addResponseFilter("Streaming HAR Response Filter", recorder::recordResponse);
+    }
+
+    /**
+     * Check if the request should be included in the HAR file.
+     *
+     * @param method HTTP method of the request (e.g. "GET", "POST")
+     * @param url    full URL of the request
+     * @return true, if the request's URL contains any of {@link SelenideProxyExtension#PROXY_URLS_TO_INCLUDE_IN_HAR},
+     * and it's not a request for the static resources (scripts, styles, images), or any technical request (e.g. OPTIONS)
+     */
+    public static boolean isEntryToCapture(String method, String url) {
+        return !METHODS_TO_EXCLUDE.contains(method.toUpperCase()) &&
+                URLS_TO_EXCLUDE.stream().noneMatch(url::contains) &&
+                URLS_TO_INCLUDE.stream().anyMatch(url::contains);
+    }
+
+    /**
+     * Drop all the recorded entries of the proxy server (e.g. at the start of the new test).
+     * The entries of the requests that are still in progress are dropped as well, when they're finished.
+     *
+     * @param proxy Selenide's proxy server instance
+     */
+    public static void reset(SelenideProxyServer proxy) {
+        var recorder = RECORDERS.get(proxy);
+        if (recorder != null) {
+            recorder.reset();
+        }
+    }
+
+    /**
+     * Get the HAR (HTTP Archive) with the last recorded entries of the proxy server as a stream.
+     * <br/>
+     * The HAR is assembled on the disk from the separate entries' files, without building the whole JSON in memory.
+     *
+     * @param proxy Selenide's proxy server instance
+     * @return input stream with the contents of the HAR file (JSON),
+     * or {@code null} if there's no recorder for the proxy server
+     */
+    public static InputStream getHarInputStream(SelenideProxyServer proxy) {
+        var recorder = RECORDERS.get(proxy);
+        return recorder != null ? recorder.getHarInputStream() : null;
+    }
+
+    /**
+     * Record the request's data for the current client connection,
+     * so it could be saved together with its response later.
+     *
+     * @param request     original HTTP request
+     * @param contents    contents of the HTTP request
+     * @param messageInfo additional info about the HTTP request (URL, client connection)
+     */
+    private void recordRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+        var pendingRequest = messageInfo.getChannelHandlerContext().channel().attr(PENDING_REQUEST);
+        if (!isEntryToCapture(request.method().name(), messageInfo.getUrl())) {
+            pendingRequest.set(null);
+            return;
+        }
+
+        var harRequest = new LinkedHashMap<String, Object>();
+        harRequest.put("method", request.method().name());
+        harRequest.put("url", messageInfo.getUrl());
+        harRequest.put("httpVersion", request.protocolVersion().text());
+        harRequest.put("cookies", List.of());
+        harRequest.put("headers", getHarHeaders(request.headers()));
+        harRequest.put("queryString", List.of());
+        var bodySize = contents.getBinaryContents().length;
+        if (bodySize > 0) {
+            harRequest.put("postData", Map.of(
+                    "mimeType", Objects.toString(contents.getContentType(), ""),
+                    "text", contents.isText() ? cutText(contents.getTextContents()) : ""));
+        }
+        harRequest.put("headersSize", -1);
+        harRequest.put("bodySize", bodySize);
+
+        var pendingEntry = new PendingEntry();
+        pendingEntry.entry.put("startedDateTime", Instant.ofEpochMilli(pendingEntry.startTime).toString());
+        pendingEntry.entry.put("request", harRequest);
+        pendingRequest.set(pendingEntry);
+    }
+
+    /**
+     * Save the HAR entry with the response and the previously recorded request to the disk.
+     *
+     * @param response    original HTTP response
+     * @param contents    contents of the HTTP response
+     * @param messageInfo additional info about the HTTP request (URL, client connection)
+     */
+    private void recordResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+        var pendingEntry = messageInfo.getChannelHandlerContext().channel().attr(PENDING_REQUEST).getAndSet(null);
+        if (pendingEntry == null) {
+            return;
+        }
+
+        var bodySize = contents.getBinaryContents().length;
+        var content = new LinkedHashMap<String, Object>();
+        content.put("size", bodySize);
+        content.put("mimeType", Objects.toString(contents.getContentType(), ""));
+        if (contents.isText()) {
+            content.put("text", cutText(contents.getTextContents()));
+        }
+
+        var harResponse = new LinkedHashMap<String, Object>();
+        harResponse.put("status", response.status().code());
+        harResponse.put("statusText", response.status().reasonPhrase());
+        harResponse.put("httpVersion", response.protocolVersion().text());
+        harResponse.put("cookies", List.of());
+        harResponse.put("headers", getHarHeaders(response.headers()));
+        harResponse.put("content", content);
+        harResponse.put("redirectURL", Objects.toString(response.headers().get("Location"), ""));
+        harResponse.put("headersSize", -1);
+        harResponse.put("bodySize", bodySize);
+
+        var time = System.currentTimeMillis() - pendingEntry.startTime;
+        var entry = pendingEntry.entry;
+        entry.put("time", time);
+        entry.put("response", harResponse);
+        entry.put("cache", Map.of());
+        entry.put("timings", Map.of("send", 0, "wait", time, "receive", 0));
+
+        writeEntry(writeJsonAsString(entry));
+    }
+
+    /**
+     * Write the entry to the disk, and remove the oldest entry, if there are more entries than allowed.
+     *
+     * @param entryJson HAR entry as a JSON string
+     */
+    private void writeEntry(String entryJson) {
+        long entryNumber;
+        synchronized (entryFiles) {
+            entryNumber = ++entriesCounter;
+        }
+
+        var entryFile = folder.resolve(String.format("entry-%010d.json", entryNumber));
+        try {
+            Files.writeString(entryFile, entryJson, UTF_8);
+        } catch (IOException e) {
+            //  the HAR is only a debugging aid, so it's OK to lose the entry here
+            return;
+        }
+
+        synchronized (entryFiles) {
+            //  the entry was started before the reset (e.g. by the previous test)
+            if (entryNumber < firstEntryNumber) {
+                FileUtils.deleteQuietly(entryFile.toFile());
+                return;
+            }
+
+            entryFiles.put(entryNumber, entryFile);
+            while (entryFiles.size() > PROXY_HAR_MAX_ENTRIES) {
+                FileUtils.deleteQuietly(entryFiles.pollFirstEntry().getValue().toFile());
+            }
+        }
+    }
+
+    /**
+     * Remove all the entries' files, and drop the entries that are being written at the moment.
+     */
+    private void reset() {
+        synchronized (entryFiles) {
+            firstEntryNumber = entriesCounter + 1;
+            entryFiles.values().forEach(entryFile -> FileUtils.deleteQuietly(entryFile.toFile()));
+            entryFiles.clear();
+        }
+    }
+
+    /**
+     * Assemble the HAR file from the current entries' files on the disk, and open it as a stream.
+     *
+     * @return input stream with the contents of the HAR file (JSON)
+     */
+    private InputStream getHarInputStream() {
+        try {
+            var harFile = Files.createTempFile(folder, "har-", ".har");
+            try (var harOutput = new BufferedOutputStream(Files.newOutputStream(harFile))) {
+                harOutput.write("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"StreamingHarRecorder\",\"version\":\"1.0\"},\"entries\":[".getBytes(UTF_8));
+
+                synchronized (entryFiles) {
+                    var isFirstEntry = true;
+                    for (var entryFile : entryFiles.values()) {
+                        if (!isFirstEntry) {
+                            harOutput.write(',');
+                        }
+                        Files.copy(entryFile, harOutput);
+                        isFirstEntry = false;
+                    }
+                }
+
+                harOutput.write("]}}".getBytes(UTF_8));
+            }
+
+            return new FileInputStream(harFile.toFile()) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    Files.deleteIfExists(harFile);
+                }
+            };
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to assemble the HAR file! Details: " + e, e);
+        }
+    }
+
+    /**
+     * Convert the HTTP headers to the list of the HAR headers.
+     *
+     * @param headers HTTP headers of the request/response
+     * @return list of the HAR headers (e.g. [{"name": "Content-Type", "value": "application/json"}])
+     */
+    private static List<Map<String, String>> getHarHeaders(HttpHeaders headers) {
+        var harHeaders = new ArrayList<Map<String, String>>();
+        for (var header : headers) {
+            harHeaders.add(Map.of("name", header.getKey(), "value", header.getValue()));
+        }
+        return harHeaders;
+    }
+
+    /**
+     * Cut the text contents of the request/response to the max size for the HAR.
+     *
+     * @param text full text contents of the request/response
+     * @return text with the max size of {@link SelenideProxyExtension#PROXY_HAR_MAX_BODY_SIZE} characters
+     */
+    private static String cutText(String text) {
+        return text.length() > PROXY_HAR_MAX_BODY_SIZE
+                ? text.substring(0, PROXY_HAR_MAX_BODY_SIZE) + "...[cut " + (text.length() - PROXY_HAR_MAX_BODY_SIZE) + " characters]"
+                : text;
+    }
+
+    /**
+     * Create the root folder for the entries of all the recorders, which is removed on JVM shutdown.
+     *
+     * @return path to the created folder
+     */
+    private static Path createRootFolder() {
+        try {
+            var rootFolder = Files.createTempDirectory("streaming-har-");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> FileUtils.deleteQuietly(rootFolder.toFile())));
+            return rootFolder;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to create a folder for the HAR entries! Details: " + e, e);
+        }
+    }
+
+    /**
+     * HAR entry with the recorded request, waiting for its response.
+     */
+    private static class PendingEntry {
+        private final long startTime = System.currentTimeMillis();
+        private final Map<String, Object> entry = new LinkedHashMap<>();
+    }
+}
@@ -1,9 +1,24 @@
 package com.aquiva.autotests.rc.internal.reporting;
 
+import com.aquiva.autotests.rc.internal.proxy.ProxyMockRegistry;
+import com.aquiva.autotests.rc.internal.proxy.ProxyRequestBlocker;
+import com.aquiva.autotests.rc.internal.reporting.aspects.PageObjectStepAspect;
+import com.aquiva.autotests.rc.internal.util.BrowserReuseExtension;
+import com.aquiva.autotests.rc.internal.util.SelenoidCapacityExtension;
+import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.QuoteWizardReadinessProbe;
+import com.aquiva.autotests.rc.utilities.RestApiConnectionPool;
+import com.aquiva.autotests.rc.utilities.ags.AgsAccountPool;
+import com.aquiva.autotests.rc.utilities.salesforce.AccountFixturePool;
+import com.aquiva.autotests.rc.utilities.salesforce.ConnectionFactory;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceLookupCache;
 import org.junit.jupiter.api.extension.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 /**
  * JUnit Extension class that provides additional logging for test execution context.
  * Useful to monitor test execution in real-time: locally, in CI/CD, or wherever else
@@ -15,6 +30,26 @@ public class JUnitLoggerExtension implements
 
     private static final Logger LOG = LoggerFactory.getLogger(JUnitLoggerExtension.class);
 
+    //  Statistics that are logged after every test class (name -> formatted statistics, or empty string if there's none)
+    private static final Map<String, Supplier<String>> STATS_SUPPLIERS = new LinkedHashMap<>();
+
+    static {
+        STATS_SUPPLIERS.put("REST API connection pool", RestApiConnectionPool::getPoolStatsFormatted);
+        STATS_SUPPLIERS.put("SFDC API connection pools", () -> {
+            var sfdcConnectionPoolsStats = ConnectionFactory.getConnectionPoolsStatsFormatted();
+            return sfdcConnectionPoolsStats.isEmpty() ? sfdcConnectionPoolsStats : "\n" + sfdcConnectionPoolsStats;
+        });
+        STATS_SUPPLIERS.put("SFDC lookup cache", SalesforceLookupCache::getStatsFormatted);
+        STATS_SUPPLIERS.put("Account fixture pool", AccountFixturePool::getStatsFormatted);
+        STATS_SUPPLIERS.put("AGS account pool", AgsAccountPool::getStatsFormatted);
+        STATS_SUPPLIERS.put("Quote Wizard's time to idle", QuoteWizardReadinessProbe::getStatsFormatted);
+        STATS_SUPPLIERS.put("Proxy mocks", ProxyMockRegistry::getStatsFormatted);
+        STATS_SUPPLIERS.put("Proxy's blocklist", ProxyRequestBlocker::getStatsFormatted);
+        STATS_SUPPLIERS.put("Page object steps", PageObjectStepAspect::getStatsFormatted);
+        STATS_SUPPLIERS.put("Browser reuse", BrowserReuseExtension::getStatsFormatted);
+        STATS_SUPPLIERS.put("Selenoid's capacity", SelenoidCapacityExtension::getStatsFormatted);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,5 +99,12 @@ public class JUnitLoggerExtension implements
     @Override
     public void afterAll(ExtensionContext context) {
         LOG.info("Running @AfterAll for " + context.getRequiredTestClass().getName());
+
+        STATS_SUPPLIERS.forEach((statsName, statsSupplier) -> {
+            var stats = statsSupplier.get();
+            if (!stats.isEmpty()) {
+                LOG.info(statsName + " after " + context.getRequiredTestClass().getName() + ": " + stats);
+            }
+        });
     }
 }
@@ -1,18 +1,28 @@
 package com.aquiva.autotests.rc.internal.reporting.aspects;
 
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.openqa.selenium.By;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
-import static io.qameta.allure.util.AspectUtils.getParameters;
-import static io.qameta.allure.util.ResultsUtils.getStatus;
-import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static io.qameta.allure.util.ResultsUtils.*;
+import static java.lang.Boolean.parseBoolean;
 
 /**
  * Aspect class for logging actions from any existing Page Object (PO) methods into Allure reports.
@@ -21,8 +31,20 @@ import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
  * <p> - All class methods in {@link com.aquiva.autotests.rc.page} are logged as a separate Step. </p>
  * <p> - Exception: methods in {@link com.aquiva.autotests.rc.page} with {@link io.qameta.allure.Step}
  * annotation are NOT logged. </p>
+ * <p> - Exception: simple getters (e.g. {@code getDisplayName()}) and element accessors
+ * (methods that return {@link SelenideElement}, {@link ElementsCollection} or {@link By}) are NOT logged,
+ * unless the tracing policy is "all" (see {@link #TRACING_POLICY}). </p>
+ * <p> - Repeated consecutive calls of the same method with the same arguments inside the same parent step are aggregated
+ * into the first call's step (e.g. "setQuantity [CartPage] (x5)"), unless it's disabled
+ * via {@code poSteps.aggregateRepeatedCalls} system property.
+ * Failed calls and calls with their own nested steps are always logged as separate steps. </p>
  * Details are in the implementation below (see class methods).
  * <p></p>
+ * The metadata for every PO method (step's name, parameters' names, tracing decision)
+ * is calculated only once, and cached.
+ * The number of the logged/skipped/aggregated calls and the aspect's own overhead per call
+ * are collected for every test run (see {@link #getStatsFormatted()}).
+ * <p></p>
  * The implementation of this logic may be (and should be) changed whether structure of the framework
  * (with dependent packages) is changed. E.g. package with POs is moved.
  */
@@ -36,6 +58,31 @@ public class PageObjectStepAspect {
         }
     };
 
+    /**
+     * Policy for logging the PO methods as steps:
+     * <p> - "all": all the PO methods are logged </p>
+     * <p> - "skipAccessors": simple getters and element accessors are not logged (default) </p>
+     */
+    public static final String TRACING_POLICY = System.getProperty("poSteps.tracing", "skipAccessors");
+    private static final boolean IS_TRACE_ACCESSORS = "all".equalsIgnoreCase(TRACING_POLICY);
+    private static final boolean IS_AGGREGATE_REPEATED_CALLS =
+            parseBoolean(System.getProperty("poSteps.aggregateRepeatedCalls", "true"));
+
+    //  Names of the simple getters, e.g. "getDisplayName", "isVisible", "hasErrors"
+    private static final Pattern GETTER_NAME_PATTERN = Pattern.compile("^(get|is|has)[A-Z].*");
+
+    //  Cached metadata for every intercepted PO method
+    private static final Map<Method, StepMetadata> METADATA_BY_METHOD = new ConcurrentHashMap<>();
+
+    //  Last logged step for the current thread (for the aggregation of the repeated calls)
+    private static final ThreadLocal<LastStep> LAST_STEP = new ThreadLocal<>();
+
+    //  Statistics for the intercepted calls
+    private static final LongAdder TRACED_CALLS = new LongAdder();
+    private static final LongAdder SKIPPED_CALLS = new LongAdder();
+    private static final LongAdder AGGREGATED_CALLS = new LongAdder();
+    private static final LongAdder OVERHEAD_NANOS = new LongAdder();
+
     /**
      * Pointcut for catching any PO method as is.
      */
@@ -51,7 +98,7 @@ public class PageObjectStepAspect {
     }
 
     /**
-     * Report actions before executing any of the PO methods,
+     * Report actions for executing any of the PO methods,
      * that's NOT annotated with @Step.
      * <p></p>
      * This the main method that creates detailed steps for PO methods like this:
@@ -63,42 +110,116 @@ public class PageObjectStepAspect {
      * <p> - param_2 = value_2 </p>
      *
      * @param joinPoint current intercepted context for aspect
+     * @return result of the PO method
+     * @throws Throwable any exception thrown by the PO method
      */
-    @Before("anyMethod() && !withStepAnnotation()")
-    public void step(JoinPoint joinPoint) {
+    @Around("anyMethod() && !withStepAnnotation()")
+    public Object step(ProceedingJoinPoint joinPoint) throws Throwable {
+        var startTime = System.nanoTime();
         var methodSignature = (MethodSignature) joinPoint.getSignature();
-        var sourceLocation = joinPoint.getSourceLocation();
+        var metadata = METADATA_BY_METHOD.computeIfAbsent(methodSignature.getMethod(),
+                method -> new StepMetadata(methodSignature));
 
-        var uuid = UUID.randomUUID().toString();
-        var stepName = String.format("%s [%s]",
-                methodSignature.getName(),
-                methodSignature.getDeclaringType().getSimpleName()
-        );
+        if (!metadata.isTraced) {
+            SKIPPED_CALLS.increment();
+            var proceedStartTime = System.nanoTime();
+            try {
+                return joinPoint.proceed();
+            } finally {
+                OVERHEAD_NANOS.add(proceedStartTime - startTime);
+            }
+        }
 
-        var parameters = getParameters(methodSignature, joinPoint.getArgs());
+        var timedJoinPoint = new TimedJoinPoint(joinPoint, startTime);
+        try {
+            var parentUuid = getLifecycle().getCurrentTestCaseOrStep().orElse(null);
+            var lastStep = LAST_STEP.get();
+            if (IS_AGGREGATE_REPEATED_CALLS && lastStep != null &&
+                    lastStep.isRepeatedBy(parentUuid, metadata, joinPoint.getArgs())) {
+                return repeatedStep(timedJoinPoint, lastStep);
+            }
+
+            var result = new StepResult()
+                    .setName(metadata.stepName)
+                    .setParameters(metadata.getParameters(joinPoint.getArgs()));
+            getLifecycle().startStep(UUID.randomUUID().toString(), result);
+            LAST_STEP.remove();
+            TRACED_CALLS.increment();
 
-        //  Masking password values in page object's parameters in test steps
-        for (var parameter : parameters) {
-            if (parameter.getName().toLowerCase().contains("password")) {
-                parameter.setValue("***");
+            try {
+                var returnValue = timedJoinPoint.proceed();
+                stepStop();
+                rememberLastStep(new LastStep(parentUuid, metadata, joinPoint.getArgs(), result));
+                return returnValue;
+            } catch (Throwable e) {
+                stepFailed(e);
+                throw e;
             }
+        } finally {
+            OVERHEAD_NANOS.add(timedJoinPoint.getOverheadNanos());
         }
+    }
 
+    /**
+     * Execute the repeated call of the PO method in its own step,
+     * and add it to the step of the previous call, if it has no nested steps.
+     * The failed call and the call with the nested steps are reported as separate steps.
+     *
+     * @param joinPoint current intercepted context for aspect (with the time measurement of the PO method)
+     * @param lastStep  step of the previous call of the same method
+     * @return result of the PO method
+     * @throws Throwable any exception thrown by the PO method
+     */
+    private Object repeatedStep(TimedJoinPoint joinPoint, LastStep lastStep) throws Throwable {
         var result = new StepResult()
-                .setName(stepName)
-                .setParameters(parameters);
+                .setName(lastStep.metadata.stepName)
+                .setParameters(lastStep.metadata.getParameters(joinPoint.getArgs()));
+        getLifecycle().startStep(UUID.randomUUID().toString(), result);
+        LAST_STEP.remove();
+
+        Object returnValue;
+        try {
+            returnValue = joinPoint.proceed();
+        } catch (Throwable e) {
+            TRACED_CALLS.increment();
+            stepFailed(e);
+            throw e;
+        }
 
-        getLifecycle().startStep(uuid, result);
+        stepStop();
+        if (result.getSteps().isEmpty() && result.getAttachments().isEmpty() && lastStep.addCall(result)) {
+            AGGREGATED_CALLS.increment();
+            LAST_STEP.set(lastStep);
+        } else {
+            TRACED_CALLS.increment();
+            rememberLastStep(new LastStep(lastStep.parentUuid, lastStep.metadata, joinPoint.getArgs(), result));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Remember the finished step for the aggregation of the next repeated calls.
+     * <br/>
+     * Only the steps inside the parent steps are remembered
+     * (not the ones right in the test case or fixture),
+     * because the repeated call's step is removed from the parent step by its UUID.
+     *
+     * @param lastStep finished step of the PO method
+     */
+    private void rememberLastStep(LastStep lastStep) {
+        if (lastStep.parentUuid != null &&
+                !lastStep.parentUuid.equals(getLifecycle().getCurrentTestCase().orElse(null))) {
+            LAST_STEP.set(lastStep);
+        }
     }
 
     /**
      * Report action after PO method throws an exception.
-     * Note: only works on PO methods WITHOUT Allure's @Step annotation.
      *
      * @param e any exception that was thrown during the assertion
      */
-    @AfterThrowing(pointcut = "anyMethod() && !withStepAnnotation()", throwing = "e")
-    public void stepFailed(Throwable e) {
+    private void stepFailed(Throwable e) {
+        LAST_STEP.remove();
         getLifecycle().updateStep(s -> s
                 .setStatus(getStatus(e).orElse(Status.BROKEN))
                 .setStatusDetails(getStatusDetails(e).orElse(null)));
@@ -108,8 +229,7 @@ public class PageObjectStepAspect {
     /**
      * Report the end of the successful execution of PO method.
      */
-    @AfterReturning(pointcut = "anyMethod() && !withStepAnnotation()")
-    public void stepStop() {
+    private void stepStop() {
         getLifecycle().updateStep(s -> s.setStatus(Status.PASSED));
         getLifecycle().stopStep();
     }
@@ -123,4 +243,216 @@ public class PageObjectStepAspect {
     public static AllureLifecycle getLifecycle() {
         return lifecycle.get();
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the current statistics for the intercepted PO methods' calls in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics
+     * (e.g. "steps: 1200, skipped accessors: 8400, aggregated calls: 350, avg overhead: 4.20 µs/call"),
+     * or empty string if there were no intercepted calls yet
+     */
+    public static String getStatsFormatted() {
+        var traced = TRACED_CALLS.sum();
+        var skipped = SKIPPED_CALLS.sum();
+        var aggregated = AGGREGATED_CALLS.sum();
+        var total = traced + skipped + aggregated;
+        if (total == 0) {
+            return "";
+        }
+
+        return String.format("steps: %d, skipped accessors: %d, aggregated calls: %d, avg overhead: %.2f µs/call",
+                traced, skipped, aggregated, OVERHEAD_NANOS.sum() / 1_000.0 / total);
+    }
+
+    /**
+     * Cached metadata for the intercepted PO method.
+     */
+    private static class StepMetadata {
+        private final String stepName;
+        private final String[] parameterNames;
+        //  true, if the parameter's value should be masked in the step (e.g. password)
+        private final boolean[] isMaskedParameter;
+        private final boolean isTraced;
+
+        /**
+         * Constructor for the PO method's metadata.
+         *
+         * @param methodSignature signature of the intercepted PO method
+         */
+        private StepMetadata(MethodSignature methodSignature) {
+            this.stepName = String.format("%s [%s]",
+                    methodSignature.getName(),
+                    methodSignature.getDeclaringType().getSimpleName()
+            );
+
+            this.parameterNames = methodSignature.getParameterNames() != null
+                    ? methodSignature.getParameterNames()
+                    : new String[methodSignature.getParameterTypes().length];
+            this.isMaskedParameter = new boolean[parameterNames.length];
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i] == null) {
+                    parameterNames[i] = "arg" + i;
+                }
+                //  Masking password values in page object's parameters in test steps
+                isMaskedParameter[i] = parameterNames[i].toLowerCase().contains("password");
+            }
+
+            this.isTraced = IS_TRACE_ACCESSORS || !isAccessor(methodSignature.getMethod());
+        }
+
+        /**
+         * Check if the method is a simple getter or an element accessor.
+         *
+         * @param method intercepted PO method
+         * @return true, if the method is a getter without parameters (e.g. "getDisplayName()"),
+         * or it returns the web element(s) or its locator
+         */
+        private static boolean isAccessor(Method method) {
+            var returnType = method.getReturnType();
+            if (SelenideElement.class.isAssignableFrom(returnType) ||
+                    ElementsCollection.class.isAssignableFrom(returnType) ||
+                    By.class.isAssignableFrom(returnType)) {
+                return true;
+            }
+
+            return method.getParameterCount() == 0 && returnType != void.class &&
+                    GETTER_NAME_PATTERN.matcher(method.getName()).matches();
+        }
+
+        /**
+         * Get the step's parameters for the PO method's call.
+         *
+         * @param args actual arguments of the PO method's call
+         * @return list of the step's parameters (with the masked passwords)
+         */
+        private ArrayList<Parameter> getParameters(Object[] args) {
+            var parameters = new ArrayList<Parameter>(args.length);
+            for (int i = 0; i < args.length && i < parameterNames.length; i++) {
+                parameters.add(createParameter(parameterNames[i], isMaskedParameter[i] ? "***" : args[i]));
+            }
+            return parameters;
+        }
+    }
+
+    /**
+     * Intercepted context for aspect that measures the time spent in the PO method itself,
+     * so the aspect's own overhead is the whole advice's time without it.
+     */
+    private static class TimedJoinPoint {
+        private final ProceedingJoinPoint joinPoint;
+        //  Start time of the aspect's own processing (from System.nanoTime())
+        private final long startTime;
+        //  Time spent in the PO method (in nanoseconds)
+        private long proceedNanos;
+
+        /**
+         * Constructor for the timed intercepted context.
+         *
+         * @param joinPoint current intercepted context for aspect
+         * @param startTime start time of the aspect's own processing (from {@link System#nanoTime()})
+         */
+        private TimedJoinPoint(ProceedingJoinPoint joinPoint, long startTime) {
+            this.joinPoint = joinPoint;
+            this.startTime = startTime;
+        }
+
+        /**
+         * Execute the PO method, and measure its time.
+         *
+         * @return result of the PO method
+         * @throws Throwable any exception thrown by the PO method
+         */
+        private Object proceed() throws Throwable {
+            var proceedStartTime = System.nanoTime();
+            try {
+                return joinPoint.proceed();
+            } finally {
+                proceedNanos += System.nanoTime() - proceedStartTime;
+            }
+        }
+
+        /**
+         * Get the actual arguments of the PO method's call.
+         */
+        private Object[] getArgs() {
+            return joinPoint.getArgs();
+        }
+
+        /**
+         * Get the aspect's own overhead for the call: time of the whole advice without the PO method's time.
+         *
+         * @return overhead in nanoseconds
+         */
+        private long getOverheadNanos() {
+            return System.nanoTime() - startTime - proceedNanos;
+        }
+    }
+
+    /**
+     * Last logged step of the PO method (for the aggregation of its repeated calls).
+     */
+    private static class LastStep {
+        private final String parentUuid;
+        private final StepMetadata metadata;
+        private final Object[] args;
+        private final StepResult result;
+        private int calls = 1;
+
+        /**
+         * Constructor for the last logged step.
+         *
+         * @param parentUuid UUID of the parent step
+         * @param metadata   metadata of the PO method
+         * @param args       arguments of the PO method's call
+         * @param result     step's result in Allure (still referenced by the parent step)
+         */
+        private LastStep(String parentUuid, StepMetadata metadata, Object[] args, StepResult result) {
+            this.parentUuid = parentUuid;
+            this.metadata = metadata;
+            this.args = args;
+            this.result = result;
+        }
+
+        /**
+         * Check if the new call is a repetition of the last logged step (that has no nested steps).
+         *
+         * @param parentUuid UUID of the current parent step/test case
+         * @param metadata   metadata of the called PO method
+         * @param args       arguments of the new call
+         * @return true, if the same method is called again with the same arguments inside the same parent step,
+         * and the last step has no nested steps
+         */
+        private boolean isRepeatedBy(String parentUuid, StepMetadata metadata, Object[] args) {
+            return this.metadata == metadata && this.parentUuid.equals(parentUuid) && Arrays.equals(this.args, args) &&
+                    result.getSteps().isEmpty() && result.getAttachments().isEmpty();
+        }
+
+        /**
+         * Add the repeated call to the last logged step:
+         * remove the repeated call's own step from the parent step,
+         * and update the last step's name with the number of calls and its stop time.
+         *
+         * @param repeatedResult finished step's result of the repeated call (the last one in the parent step)
+         * @return true, if the repeated call's step is removed from the parent step and added to the last step
+         */
+        private boolean addCall(StepResult repeatedResult) {
+            var isRemoved = new boolean[1];
+            getLifecycle().updateStep(parentUuid, parentStep -> {
+                var steps = parentStep.getSteps();
+                if (!steps.isEmpty() && steps.get(steps.size() - 1) == repeatedResult) {
+                    steps.remove(steps.size() - 1);
+                    isRemoved[0] = true;
+                }
+            });
+            if (!isRemoved[0]) {
+                return false;
+            }
+
+            calls++;
+            result.setName(String.format("%s (x%d)", metadata.stepName, calls));
+            result.setStop(repeatedResult.getStop());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.aquiva.autotests.rc.internal.scheduling;
+
+import com.aquiva.autotests.rc.internal.CustomParallelExecutionConfigurationStrategy;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Orderer for the test classes that dispatches them longest-first (LPT scheduling),
+ * using their durations from the previous runs (see {@link TestClassDurationHistory}).
+ * <br/>
+ * The longest test classes (e.g. sign-up and sync with NGBS) start first,
+ * so they don't start at the end of the run, leaving the rest of the workers idle.
+ * The test classes without the history (e.g. new ones) are estimated with the average duration.
+ * <br/>
+ * The orderer also predicts the makespan of the run (wall-clock time for all the test classes
+ * on {@link CustomParallelExecutionConfigurationStrategy#PARALLELISM} workers),
+ * that is compared with the actual one in the end of the run (see {@link TestClassDurationListener}).
+ * <br/>
+ * The orderer is enabled via {@code junit.jupiter.testclass.order.default} configuration parameter.
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+    private static final Logger LOG = LoggerFactory.getLogger(LongestFirstClassOrderer.class);
+
+    /**
+     * Sort the test classes by their expected durations, longest first.
+     *
+     * @param context context with the test classes to order
+     */
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        var averageDuration = TestClassDurationHistory.getAverageDuration();
+        Comparator<ClassDescriptor> byDuration = comparingLong(classDescriptor ->
+                getExpectedDuration(classDescriptor, averageDuration));
+        context.getClassDescriptors().sort(byDuration.reversed());
+
+        var predictedMakespan = predictMakespan(context, averageDuration);
+        TestClassDurationHistory.setPredictedMakespan(predictedMakespan);
+        LOG.info("Test classes are ordered longest-first: {} test classes, predicted makespan: {} min",
+                context.getClassDescriptors().size(), MILLISECONDS.toMinutes(predictedMakespan));
+    }
+
+    /**
+     * Predict the makespan for the ordered test classes:
+     * every next test class starts on the worker that is free first.
+     *
+     * @param context         context with the ordered test classes
+     * @param averageDuration estimated duration of the test classes without the history
+     * @return predicted wall-clock time for all the test classes in milliseconds
+     */
+    private static long predictMakespan(ClassOrdererContext context, long averageDuration) {
+        var workersBusyUntil = new PriorityQueue<Long>();
+        for (int i = 0; i < CustomParallelExecutionConfigurationStrategy.PARALLELISM; i++) {
+            workersBusyUntil.add(0L);
+        }
+
+        var makespan = 0L;
+        for (var classDescriptor : context.getClassDescriptors()) {
+            var finishTime = workersBusyUntil.poll() + getExpectedDuration(classDescriptor, averageDuration);
+            workersBusyUntil.add(finishTime);
+            makespan = Math.max(makespan, finishTime);
+        }
+        return makespan;
+    }
+
+    /**
+     * Get the expected duration of the test class.
+     *
+     * @param classDescriptor descriptor of the test class
+     * @param averageDuration estimated duration of the test classes without the history
+     * @return duration of the test class from the previous runs, or the average duration
+     */
+    private static long getExpectedDuration(ClassDescriptor classDescriptor, long averageDuration) {
+        return TestClassDurationHistory.getDuration(classDescriptor.getTestClass().getName())
+                .orElse(averageDuration);
+    }
+}
@@ -0,0 +1,144 @@
+package com.aquiva.autotests.rc.internal.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * History of the wall-clock durations of the test classes from the previous test runs.
+ * <br/>
+ * The history is stored in the local properties file (see {@link #DURATIONS_FILE}):
+ * fully qualified test class's name -> its duration in milliseconds.
+ * <br/>
+ * The durations of the new runs are smoothed with the previous ones,
+ * so a single slow (or fast) run doesn't reorder the test classes too much.
+ *
+ * @see LongestFirstClassOrderer
+ * @see TestClassDurationListener
+ */
+public class TestClassDurationHistory {
+    private static final Logger LOG = LoggerFactory.getLogger(TestClassDurationHistory.class);
+
+    /**
+     * Path to the local file with the durations of the test classes from the previous runs.
+     */
+    public static final String DURATIONS_FILE = System.getProperty("junit.durationsFile", "test-class-durations.properties");
+
+    //  Weight of the new duration in the smoothed value (the rest is the weight of the previous value)
+    private static final double NEW_DURATION_WEIGHT = 0.5;
+
+    //  Durations from the previous runs (loaded once)
+    private static Map<String, Long> durations;
+
+    //  Predicted makespan of the current run (in milliseconds), or -1 if it's not predicted
+    private static volatile long predictedMakespan = -1;
+
+    /**
+     * Get the duration of the test class from the previous runs.
+     *
+     * @param className fully qualified name of the test class
+     * @return duration of the test class in milliseconds, or empty if there's no history for it
+     */
+    public static synchronized OptionalLong getDuration(String className) {
+        var duration = getDurations().get(className);
+        return duration != null ? OptionalLong.of(duration) : OptionalLong.empty();
+    }
+
+    /**
+     * Get the average duration of all the test classes from the previous runs
+     * (e.g. to estimate the duration of the new test classes).
+     *
+     * @return average duration of the test classes in milliseconds, or 0 if there's no history yet
+     */
+    public static synchronized long getAverageDuration() {
+        return (long) getDurations().values().stream()
+                .mapToLong(Long::longValue)
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * Merge the durations of the current run into the history, and save it into the local file.
+     *
+     * @param newDurations durations of the test classes in the current run (class's name -> milliseconds)
+     */
+    public static synchronized void save(Map<String, Long> newDurations) {
+        var history = getDurations();
+        newDurations.forEach((className, duration) -> history.merge(className, duration, (previous, current) ->
+                Math.round(previous * (1 - NEW_DURATION_WEIGHT) + current * NEW_DURATION_WEIGHT)));
+
+        var properties = new Properties();
+        history.forEach((className, duration) -> properties.setProperty(className, String.valueOf(duration)));
+
+        var file = Path.of(DURATIONS_FILE).toAbsolutePath();
+        try {
+            var tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (var writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                properties.store(writer, "Durations of the test classes (in milliseconds)");
+            }
+            Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Unable to save the durations of the test classes into {}! Details: {}", file, e.toString());
+        }
+    }
+
+    /**
+     * Get the predicted makespan of the current run.
+     *
+     * @return predicted wall-clock time for all the test classes in milliseconds, or -1 if it's not predicted
+     * @see LongestFirstClassOrderer
+     */
+    public static long getPredictedMakespan() {
+        return predictedMakespan;
+    }
+
+    /**
+     * Set the predicted makespan of the current run.
+     *
+     * @param makespan predicted wall-clock time for all the test classes in milliseconds
+     */
+    static void setPredictedMakespan(long makespan) {
+        predictedMakespan = makespan;
+    }
+
+    /**
+     * Get the durations of the test classes from the previous runs (load them from the file, if necessary).
+     *
+     * @return mutable map with the durations (class's name -> milliseconds)
+     */
+    private static Map<String, Long> getDurations() {
+        if (durations != null) {
+            return durations;
+        }
+
+        durations = new HashMap<>();
+        var file = Path.of(DURATIONS_FILE);
+        if (!Files.exists(file)) {
+            return durations;
+        }
+
+        var properties = new Properties();
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            LOG.warn("Unable to load the durations of the test classes from {}! Details: {}", file, e.toString());
+            return durations;
+        }
+
+        for (var className : properties.stringPropertyNames()) {
+            try {
+                durations.put(className, Long.parseLong(properties.getProperty(className).trim()));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return durations;
+    }
+}
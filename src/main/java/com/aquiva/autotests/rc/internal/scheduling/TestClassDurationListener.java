@@ -0,0 +1,105 @@
+package com.aquiva.autotests.rc.internal.scheduling;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Listener for the test run that records the wall-clock durations of the test classes
+ * into the history for the next runs (see {@link TestClassDurationHistory}),
+ * and reports the predicted makespan of the run (see {@link LongestFirstClassOrderer}) against the actual one.
+ * <br/>
+ * Note: the sharded runs (see {@link TestShardFilter}) don't update the history,
+ * as every agent runs only a part of the test classes, and their history files would diverge,
+ * so the agents would assign the test classes to the shards differently in the next runs.
+ * <br/>
+ * The listener is registered via {@code META-INF/services/org.junit.platform.launcher.TestExecutionListener}.
+ */
+public class TestClassDurationListener implements TestExecutionListener {
+    private static final Logger LOG = LoggerFactory.getLogger(TestClassDurationListener.class);
+
+    //  Start times of the running test classes (unique ID -> nanoTime)
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    //  Durations of the finished test classes in the current run (class's name -> milliseconds)
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    private volatile long runStartTime;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        runStartTime = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (isTestClass(testIdentifier)) {
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        var startTime = startTimes.remove(testIdentifier.getUniqueId());
+        if (startTime != null && isTestClass(testIdentifier)) {
+            var className = ((ClassSource) testIdentifier.getSource().orElseThrow()).getClassName();
+            durations.put(className, NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (durations.isEmpty()) {
+            return;
+        }
+
+        if (TestShardFilter.SHARD_TOTAL > 1) {
+            LOG.info("Test classes' durations are not saved for the sharded run (shard #{} of {})",
+                    TestShardFilter.SHARD_INDEX, TestShardFilter.SHARD_TOTAL);
+        } else {
+            TestClassDurationHistory.save(durations);
+        }
+
+        var actualMakespan = NANOSECONDS.toMillis(System.nanoTime() - runStartTime);
+        var predictedMakespan = TestClassDurationHistory.getPredictedMakespan();
+        if (predictedMakespan >= 0) {
+            LOG.info("Test run's makespan: predicted: {} min, actual: {} min ({} test classes)",
+                    MILLISECONDS.toMinutes(predictedMakespan), MILLISECONDS.toMinutes(actualMakespan), durations.size());
+        } else {
+            LOG.info("Test run's makespan: {} min ({} test classes)",
+                    MILLISECONDS.toMinutes(actualMakespan), durations.size());
+        }
+    }
+
+    /**
+     * Check if the test identifier represents a test class.
+     *
+     * @param testIdentifier identifier of any test or container
+     * @return true, if it's a container for the test class
+     */
+    private static boolean isTestClass(TestIdentifier testIdentifier) {
+        return testIdentifier.isContainer() &&
+                testIdentifier.getSource().filter(source -> source instanceof ClassSource).isPresent();
+    }
+}
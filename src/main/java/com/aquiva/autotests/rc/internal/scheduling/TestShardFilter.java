@@ -0,0 +1,199 @@
+package com.aquiva.autotests.rc.internal.scheduling;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.zip.CRC32;
+
+import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Filter for the discovered tests that selects only the tests of the current shard,
+ * so the test suite can be split between several CI agents (e.g. each with its own Selenoid quota).
+ * <br/>
+ * The test classes are split into the balanced shards by their durations from the previous runs
+ * (see {@link TestClassDurationHistory}):
+ * <p> - test classes without the history (e.g. new ones) are assigned to the shards
+ * by the hash of their names, so their shard doesn't depend on the history </p>
+ * <p> - the rest of the test classes are assigned longest-first to the shard with the least total duration </p>
+ * <p></p>
+ * The assignment is deterministic: all the agents that run the same test classes
+ * with the same history file get the same shards, so every test class runs exactly once.
+ * Make sure that all the agents use the same history file (see {@link TestClassDurationHistory#DURATIONS_FILE}).
+ * Sharded runs don't update the history file (see {@link TestClassDurationListener}),
+ * so it should be updated only by the non-sharded runs, or replaced with a single shared snapshot.
+ * <br/>
+ * The checksums of the inputs (test classes with their durations) and of the resulting assignment are logged,
+ * so the different assignments on the agents can be detected.
+ * If the expected checksum of the assignment is provided, the run fails when the actual one is different.
+ * <p></p>
+ * The shard is selected via system properties:
+ * <p> - {@code shard.total}: total number of the shards (default: 1, i.e. no sharding) </p>
+ * <p> - {@code shard.index}: index of the current shard, from 0 to {@code shard.total - 1} (default: 0) </p>
+ * <p> - {@code shard.checksum}: expected checksum of the assignment, e.g. from the log of the first shard
+ * (default: none, i.e. not checked) </p>
+ * <p></p>
+ * The filter is registered via {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}.
+ */
+public class TestShardFilter implements PostDiscoveryFilter {
+    private static final Logger LOG = LoggerFactory.getLogger(TestShardFilter.class);
+
+    /**
+     * Total number of the shards for the test suite.
+     */
+    public static final int SHARD_TOTAL = parseInt(System.getProperty("shard.total", "1"));
+    /**
+     * Index of the current shard (from 0 to {@link #SHARD_TOTAL} - 1).
+     */
+    public static final int SHARD_INDEX = parseInt(System.getProperty("shard.index", "0"));
+    /**
+     * Expected checksum of the test classes' assignment to the shards (empty, if it's not checked).
+     */
+    public static final String SHARD_CHECKSUM = System.getProperty("shard.checksum", "");
+
+    //  Shard's index for every discovered test class (by the unique ID of the engine's descriptor)
+    private final Map<String, Map<String, Integer>> shardsByEngine = new HashMap<>();
+
+    /**
+     * Include the test, if its test class belongs to the current shard.
+     *
+     * @param testDescriptor descriptor of the discovered test
+     * @return result that includes or excludes the test
+     */
+    @Override
+    public synchronized FilterResult apply(TestDescriptor testDescriptor) {
+        if (SHARD_TOTAL <= 1) {
+            return FilterResult.included("Sharding is disabled");
+        }
+        if (SHARD_INDEX < 0 || SHARD_INDEX >= SHARD_TOTAL) {
+            throw new IllegalArgumentException(String.format("Shard's index should be from 0 to %d, but it's %d!",
+                    SHARD_TOTAL - 1, SHARD_INDEX));
+        }
+
+        var className = getTopLevelClassName(testDescriptor);
+        if (className == null) {
+            return FilterResult.included("Not a part of any test class");
+        }
+
+        var engineDescriptor = testDescriptor;
+        while (engineDescriptor.getParent().isPresent()) {
+            engineDescriptor = engineDescriptor.getParent().get();
+        }
+        var root = engineDescriptor;
+        var shards = shardsByEngine.computeIfAbsent(root.getUniqueId().toString(), id -> assignShards(root));
+
+        var shardIndex = shards.getOrDefault(className, SHARD_INDEX);
+        return shardIndex == SHARD_INDEX
+                ? FilterResult.included("Test class is in the shard #" + SHARD_INDEX)
+                : FilterResult.excluded("Test class is in the shard #" + shardIndex);
+    }
+
+    /**
+     * Split all the test classes of the test engine into the balanced shards.
+     *
+     * @param engineDescriptor descriptor of the test engine with all the discovered test classes
+     * @return shard's index for every test class (class's name -> index)
+     * @throws IllegalStateException if the assignment's checksum differs from the expected one
+     */
+    private static Map<String, Integer> assignShards(TestDescriptor engineDescriptor) {
+        var classNames = new TreeSet<String>();
+        for (var child : engineDescriptor.getChildren()) {
+            child.getSource()
+                    .filter(source -> source instanceof ClassSource)
+                    .ifPresent(source -> classNames.add(((ClassSource) source).getClassName()));
+        }
+
+        var shards = new TreeMap<String, Integer>();
+        var shardDurations = new long[SHARD_TOTAL];
+        var averageDuration = TestClassDurationHistory.getAverageDuration();
+
+        //  Test classes without the history are assigned by the hash of their names
+        var classesWithHistory = new ArrayList<String>();
+        for (var className : classNames) {
+            if (TestClassDurationHistory.getDuration(className).isPresent()) {
+                classesWithHistory.add(className);
+            } else {
+                var shardIndex = Math.floorMod(className.hashCode(), SHARD_TOTAL);
+                shards.put(className, shardIndex);
+                shardDurations[shardIndex] += averageDuration;
+            }
+        }
+
+        //  The rest are assigned longest-first to the shard with the least total duration (ties: by class's name)
+        classesWithHistory.sort(comparingLong((String className) ->
+                TestClassDurationHistory.getDuration(className).orElseThrow()).reversed());
+        for (var className : classesWithHistory) {
+            var shardIndex = 0;
+            for (int i = 1; i < SHARD_TOTAL; i++) {
+                if (shardDurations[i] < shardDurations[shardIndex]) {
+                    shardIndex = i;
+                }
+            }
+            shards.put(className, shardIndex);
+            shardDurations[shardIndex] += TestClassDurationHistory.getDuration(className).orElseThrow();
+        }
+
+        //  Same checksums on all the agents mean the same assignment (and no test class is lost or run twice)
+        var inputs = new StringBuilder().append(SHARD_TOTAL).append(';').append(averageDuration);
+        for (var className : classNames) {
+            inputs.append(';').append(className).append('=')
+                    .append(TestClassDurationHistory.getDuration(className).orElse(-1));
+        }
+        var inputsChecksum = getChecksum(inputs.toString());
+        var assignmentChecksum = getChecksum(shards.toString());
+        LOG.info("Test shards' checksums: inputs: {}, assignment: {}", inputsChecksum, assignmentChecksum);
+
+        if (!SHARD_CHECKSUM.isBlank() && !SHARD_CHECKSUM.equalsIgnoreCase(assignmentChecksum)) {
+            throw new IllegalStateException(String.format("Test shards' assignment checksum is %s, but %s is expected! " +
+                            "Make sure that all the shards run the same test classes with the same history file " +
+                            "(inputs' checksum: %s).",
+                    assignmentChecksum, SHARD_CHECKSUM, inputsChecksum));
+        }
+
+        var shardClassesCount = shards.values().stream().filter(index -> index == SHARD_INDEX).count();
+        LOG.info("Test shard #{} of {}: {} of {} test classes, expected duration: {} min (all shards: {})",
+                SHARD_INDEX, SHARD_TOTAL, shardClassesCount, classNames.size(),
+                MILLISECONDS.toMinutes(shardDurations[SHARD_INDEX]),
+                Arrays.stream(shardDurations).map(MILLISECONDS::toMinutes).boxed().toList());
+        return shards;
+    }
+
+    /**
+     * Get the checksum of the string (e.g. for the comparison of the shards' assignments between the agents).
+     *
+     * @param value any string value
+     * @return CRC32 checksum of the value in hex form (e.g. "3f2a9c1b")
+     */
+    private static String getChecksum(String value) {
+        var crc32 = new CRC32();
+        crc32.update(value.getBytes(UTF_8));
+        return String.format("%08x", crc32.getValue());
+    }
+
+    /**
+     * Get the name of the top-level test class for the test.
+     *
+     * @param testDescriptor descriptor of the discovered test
+     * @return fully qualified name of the top-level test class, or {@code null} if the test doesn't belong to any class
+     */
+    private static String getTopLevelClassName(TestDescriptor testDescriptor) {
+        String className = null;
+        var descriptor = Optional.of(testDescriptor);
+        while (descriptor.isPresent()) {
+            var source = descriptor.get().getSource().orElse(null);
+            if (source instanceof ClassSource) {
+                className = ((ClassSource) source).getClassName();
+            }
+            descriptor = descriptor.get().getParent();
+        }
+        return className;
+    }
+}
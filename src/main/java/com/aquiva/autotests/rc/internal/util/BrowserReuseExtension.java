@@ -0,0 +1,193 @@
+package com.aquiva.autotests.rc.internal.util;
+
+import com.aquiva.autotests.rc.internal.proxy.SelenideProxyMocksDisabledExtension;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.jupiter.api.extension.*;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.aquiva.autotests.rc.utilities.Constants.BASE_URL;
+import static com.aquiva.autotests.rc.utilities.Constants.BASE_VF_URL;
+import static com.codeborne.selenide.Selenide.*;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * JUnit Extension class that controls the lifecycle of the browser for the test classes
+ * (replacement for Selenide's {@code BrowserStrategyExtension}).
+ * <br/>
+ * By default, the browser is closed after all the tests in the test class,
+ * so every test class starts a new browser (e.g. on Selenoid).
+ * <br/>
+ * If the browser reuse is enabled, the browser stays alive for the next test class on the same worker thread
+ * (Selenide keeps a separate browser for every thread).
+ * Between the test classes, the browser's session in Salesforce is reset
+ * (cookies, local and session storage are cleared), so the next test class logs in from scratch
+ * (see {@code SfdcSteps.initLoginToSfdcAsTestUser()} that reuses API session for the login).
+ * <br/>
+ * The browser is closed (recycled), if:
+ * <p> - it's been used by the max number of the test classes </p>
+ * <p> - any test in the test class has failed (the browser might be in the unexpected state) </p>
+ * <p> - the test class has disabled proxy's mocks (see {@link SelenideProxyMocksDisabledExtension}) </p>
+ * <p> - the browser's session can't be reset </p>
+ * <p></p>
+ * Its settings can be controlled via system properties:
+ * <p> - {@code browser.reuse}: if true, the browser is reused between the test classes (default: false) </p>
+ * <p> - {@code browser.reuse.maxClasses}: max number of the test classes for a single browser (default: 10) </p>
+ */
+public class BrowserReuseExtension implements BeforeAllCallback, AfterAllCallback, TestWatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(BrowserReuseExtension.class);
+
+    /**
+     * A flag that indicates whether the browser should be reused between the test classes.
+     */
+    public static final boolean IS_BROWSER_REUSE = parseBoolean(System.getProperty("browser.reuse", "false"));
+    /**
+     * Max number of the test classes that can be executed in a single browser before it's recycled.
+     */
+    public static final int MAX_CLASSES_PER_BROWSER = parseInt(System.getProperty("browser.reuse.maxClasses", "10"));
+
+    //  State of the browser for the current worker thread
+    private static final ThreadLocal<BrowserUsage> BROWSER_USAGE = ThreadLocal.withInitial(BrowserUsage::new);
+
+    //  Metrics for the browser reuse
+    private static final LongAdder TEST_CLASSES_COUNT = new LongAdder();
+    private static final LongAdder REUSED_BROWSER_COUNT = new LongAdder();
+    private static final LongAdder RECYCLED_BROWSER_COUNT = new LongAdder();
+    private static final LongAdder RESETS_COUNT = new LongAdder();
+    private static final LongAdder TOTAL_RESET_NANOS = new LongAdder();
+
+    /**
+     * Count the test classes that reuse the browser from the previous test classes.
+     * <br/>
+     * Note: invoked once <em>before</em> all tests in the current container.
+     */
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!IS_BROWSER_REUSE) {
+            return;
+        }
+
+        TEST_CLASSES_COUNT.increment();
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            REUSED_BROWSER_COUNT.increment();
+        }
+    }
+
+    /**
+     * Mark the current browser as the one that should be recycled after the test class.
+     *
+     * @param context the current extension context; never {@code null}
+     * @param cause   the throwable that caused test failure; may be {@code null}
+     */
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        BROWSER_USAGE.get().isFailed = true;
+    }
+
+    /**
+     * Close the browser, or reset its session in Salesforce for the next test class (if the browser reuse is enabled).
+     * <br/>
+     * Note: invoked once <em>after</em> all tests in the current container.
+     */
+    @Override
+    public void afterAll(ExtensionContext context) {
+        if (!IS_BROWSER_REUSE || !WebDriverRunner.hasWebDriverStarted()) {
+            closeWebDriver();
+            return;
+        }
+
+        var browserUsage = BROWSER_USAGE.get();
+        browserUsage.testClassesCount++;
+
+        var isRecycleNeeded = browserUsage.isFailed ||
+                browserUsage.testClassesCount >= MAX_CLASSES_PER_BROWSER ||
+                context.getExecutionException().isPresent() ||
+                isProxyMocksDisabled(context);
+
+        if (!isRecycleNeeded) {
+            var startTime = System.nanoTime();
+            try {
+                resetBrowserSession();
+
+                RESETS_COUNT.increment();
+                TOTAL_RESET_NANOS.add(System.nanoTime() - startTime);
+                return;
+            } catch (Throwable e) {
+                LOG.warn("Unable to reset the browser's session after {}! The browser will be recycled. Details: {}",
+                        context.getRequiredTestClass().getName(), e.toString());
+            }
+        }
+
+        closeWebDriver();
+        BROWSER_USAGE.remove();
+        RECYCLED_BROWSER_COUNT.increment();
+    }
+
+    /**
+     * Reset the current browser session for the Salesforce resources
+     * (clear the cookies, local and session storage), and open a blank page.
+     */
+    public static void resetBrowserSession() {
+        var domains = List.of(BASE_URL, BASE_VF_URL);
+        for (var url : domains) {
+            open(url + "/favicon.ico");
+
+            clearBrowserCookies();
+            clearBrowserLocalStorage();
+            sessionStorage().clear();
+        }
+
+        open("about:blank");
+    }
+
+    /**
+     * Get the current statistics for the browser reuse in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics for the browser reuse
+     * (e.g. "test classes: 40; reused browser: 34 (85%); recycled: 6; avg reset: 1250 ms"),
+     * or empty string if the browser reuse is disabled
+     */
+    public static String getStatsFormatted() {
+        if (!IS_BROWSER_REUSE) {
+            return "";
+        }
+
+        var testClasses = TEST_CLASSES_COUNT.sum();
+        var reusedBrowser = REUSED_BROWSER_COUNT.sum();
+        var resets = RESETS_COUNT.sum();
+
+        return String.format("test classes: %d; reused browser: %d (%d%%); recycled: %d; avg reset: %d ms",
+                testClasses, reusedBrowser, testClasses == 0 ? 0 : reusedBrowser * 100 / testClasses,
+                RECYCLED_BROWSER_COUNT.sum(),
+                resets == 0 ? 0 : NANOSECONDS.toMillis(TOTAL_RESET_NANOS.sum() / resets));
+    }
+
+    /**
+     * Check if the test class has disabled the mock requests/responses in the proxy.
+     * Such browser can't be reused, as the proxy doesn't have the mocks anymore.
+     *
+     * @param context the current extension context
+     * @return true, if the test class is extended with {@link SelenideProxyMocksDisabledExtension}
+     */
+    private boolean isProxyMocksDisabled(ExtensionContext context) {
+        return AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestClass(), ExtendWith.class).stream()
+                .flatMap(extendWith -> Arrays.stream(extendWith.value()))
+                .anyMatch(SelenideProxyMocksDisabledExtension.class::equals);
+    }
+
+    /**
+     * Data object for the usage of the browser by the current worker thread.
+     */
+    private static class BrowserUsage {
+        private int testClassesCount;
+        private boolean isFailed;
+    }
+}
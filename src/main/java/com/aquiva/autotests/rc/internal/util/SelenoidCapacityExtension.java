@@ -0,0 +1,269 @@
+package com.aquiva.autotests.rc.internal.util;
+
+import com.aquiva.autotests.rc.internal.CustomParallelExecutionConfigurationStrategy;
+import com.aquiva.autotests.rc.utilities.DaemonThreadFactory;
+import com.aquiva.autotests.rc.utilities.RestApiConnectionPool;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.json.JSONObject;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * JUnit Extension class that limits the number of the concurrently running test classes
+ * by the number of the free browser slots in the shared Selenoid hub ({@link Configuration#remote}).
+ * <br/>
+ * When other teams are using the same Selenoid hub, the new browser sessions are queued in Selenoid,
+ * and they might time out during the browser's start.
+ * Instead, the test classes wait for the permit before they start (and acquire the browser),
+ * and release it after all their tests (and the browser's closing).
+ * <br/>
+ * The number of the permits is adjusted by polling Selenoid's {@code /status} endpoint:
+ * it's the number of the browsers used by the current test run + the number of the free slots in Selenoid,
+ * from 1 to {@link CustomParallelExecutionConfigurationStrategy#PARALLELISM}
+ * (the number of the worker threads can't be expanded beyond it).
+ * The browsers used by the current test run include the idle browsers that are kept alive
+ * for the next test classes on the same worker thread (see {@link BrowserReuseExtension}),
+ * as they still occupy Selenoid's slots after the permit is released.
+ * <br/>
+ * The wait time for the permit is logged for every test class (see also {@link #getStatsFormatted()}).
+ * <p></p>
+ * Its settings can be controlled via system properties:
+ * <p> - {@code selenoid.dynamicParallelism}: if true, the capacity of Selenoid is checked (default: false) </p>
+ * <p> - {@code selenoid.statusPollSeconds}: interval between the checks of Selenoid's status (default: 10) </p>
+ */
+public class SelenoidCapacityExtension implements BeforeAllCallback, AfterAllCallback {
+    private static final Logger LOG = LoggerFactory.getLogger(SelenoidCapacityExtension.class);
+
+    /**
+     * A flag that indicates whether the number of the concurrent test classes depends on Selenoid's capacity.
+     */
+    public static final boolean IS_DYNAMIC_PARALLELISM =
+            parseBoolean(System.getProperty("selenoid.dynamicParallelism", "false"));
+    /**
+     * Interval between the checks of Selenoid's status (in seconds).
+     */
+    public static final int STATUS_POLL_SECONDS = parseInt(System.getProperty("selenoid.statusPollSeconds", "10"));
+
+    //  Same as the number of the worker threads (see CustomParallelExecutionConfigurationStrategy.PARALLELISM),
+    //  but with the default value, so the extension works outside the configured parallel run (e.g. from IDE)
+    private static final int MAX_PERMITS = parseInt(System.getProperty("junit.parallelism", "4"));
+
+    //  Key for the flag in the test class's store that indicates whether the permit has been acquired
+    private static final Namespace NAMESPACE = Namespace.create(SelenoidCapacityExtension.class);
+    private static final String PERMIT_KEY = "permit";
+
+    //  Permits for the concurrently running test classes
+    private static final AdjustableSemaphore PERMITS = new AdjustableSemaphore(MAX_PERMITS);
+    //  Current number of the permits (changed only by the status poller)
+    private static int currentPermits = MAX_PERMITS;
+
+    //  Number of the alive browsers that are kept for the next test classes without the permits
+    private static final AtomicInteger IDLE_BROWSERS = new AtomicInteger();
+    //  true, if the current worker thread keeps the idle browser (counted in IDLE_BROWSERS)
+    private static final ThreadLocal<Boolean> HAS_IDLE_BROWSER = ThreadLocal.withInitial(() -> false);
+
+    private static ScheduledExecutorService statusPoller;
+
+    //  Wait times for the permits (in milliseconds)
+    private static final LongSummaryStatistics WAIT_TIMES = new LongSummaryStatistics();
+
+    /**
+     * Wait for the free Selenoid's slot before the test class starts.
+     * <br/>
+     * Note: invoked once <em>before</em> all tests in the current container.
+     */
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        if (!isEnabled()) {
+            return;
+        }
+        startStatusPoller();
+
+        var startTime = System.nanoTime();
+        PERMITS.acquire();
+        context.getStore(NAMESPACE).put(PERMIT_KEY, true);
+        var waitMillis = NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        //  The reused browser is counted by the permit now
+        if (HAS_IDLE_BROWSER.get()) {
+            HAS_IDLE_BROWSER.remove();
+            IDLE_BROWSERS.decrementAndGet();
+        }
+
+        synchronized (WAIT_TIMES) {
+            WAIT_TIMES.accept(waitMillis);
+        }
+        LOG.info("Selenoid's slot for {} is acquired after {} ms", context.getRequiredTestClass().getName(), waitMillis);
+    }
+
+    /**
+     * Release Selenoid's slot after the test class is finished
+     * (only if it has been acquired for the test class, e.g. not interrupted while waiting for it).
+     * <br/>
+     * If the browser is kept alive for the next test class, it's counted as an idle one.
+     * <br/>
+     * Note: invoked once <em>after</em> all tests in the current container
+     * (after {@link BrowserReuseExtension#afterAll(ExtensionContext)} that closes the browser, or keeps it alive).
+     */
+    @Override
+    public void afterAll(ExtensionContext context) {
+        var isPermitAcquired = context.getStore(NAMESPACE).remove(PERMIT_KEY, Boolean.class);
+        if (isPermitAcquired == null) {
+            return;
+        }
+
+        if (WebDriverRunner.hasWebDriverStarted() && !HAS_IDLE_BROWSER.get()) {
+            HAS_IDLE_BROWSER.set(true);
+            IDLE_BROWSERS.incrementAndGet();
+        }
+        PERMITS.release();
+    }
+
+    /**
+     * Get the current statistics for the wait times for Selenoid's slots in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics
+     * (e.g. "permits: 3, idle browsers: 1, waits: 25, avg wait: 1520 ms, max wait: 64000 ms"),
+     * or empty string if the extension is disabled, or there were no waits yet
+     */
+    public static String getStatsFormatted() {
+        synchronized (WAIT_TIMES) {
+            if (WAIT_TIMES.getCount() == 0) {
+                return "";
+            }
+
+            return String.format("permits: %d, idle browsers: %d, waits: %d, avg wait: %.0f ms, max wait: %d ms",
+                    getCurrentPermits(), IDLE_BROWSERS.get(),
+                    WAIT_TIMES.getCount(), WAIT_TIMES.getAverage(), WAIT_TIMES.getMax());
+        }
+    }
+
+    /**
+     * Check if the number of the concurrent test classes depends on Selenoid's capacity.
+     *
+     * @return true, if the dynamic parallelism is enabled, and the tests run on the remote Selenoid hub
+     */
+    private static boolean isEnabled() {
+        return IS_DYNAMIC_PARALLELISM && Configuration.remote != null && !Configuration.remote.isBlank();
+    }
+
+    /**
+     * Start the periodic checks of Selenoid's status (only once).
+     */
+    private static synchronized void startStatusPoller() {
+        if (statusPoller != null) {
+            return;
+        }
+
+        statusPoller = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("selenoid-status-poller"));
+        statusPoller.scheduleWithFixedDelay(SelenoidCapacityExtension::updatePermits, 0, STATUS_POLL_SECONDS, SECONDS);
+    }
+
+    /**
+     * Check Selenoid's status, and adjust the number of the permits for the concurrent test classes.
+     */
+    private static void updatePermits() {
+        try {
+            var status = getSelenoidStatus();
+            var freeSlots = status.optInt("total") - status.optInt("used")
+                    - status.optInt("pending") - status.optInt("queued");
+
+            synchronized (SelenoidCapacityExtension.class) {
+                var usedPermits = currentPermits - PERMITS.availablePermits() + IDLE_BROWSERS.get();
+                var newPermits = max(1, min(MAX_PERMITS, usedPermits + freeSlots));
+                if (newPermits > currentPermits) {
+                    PERMITS.release(newPermits - currentPermits);
+                } else if (newPermits < currentPermits) {
+                    PERMITS.reducePermits(currentPermits - newPermits);
+                }
+
+                if (newPermits != currentPermits) {
+                    LOG.info("Concurrent test classes: {} -> {} (Selenoid's free slots: {})",
+                            currentPermits, newPermits, freeSlots);
+                    currentPermits = newPermits;
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to check Selenoid's status! Details: {}", e.toString());
+        }
+    }
+
+    /**
+     * Get the current status of Selenoid
+     * (e.g. {"total": 20, "used": 12, "queued": 0, "pending": 1, "browsers": {...}}).
+     *
+     * @return JSON with Selenoid's status
+     * @throws Exception in case of any connection problem, or unexpected response
+     */
+    private static JSONObject getSelenoidStatus() throws Exception {
+        var remoteUri = URI.create(Configuration.remote);
+        var statusUri = new URI(remoteUri.getScheme(), null, remoteUri.getHost(), remoteUri.getPort(),
+                "/status", null, null);
+
+        var request = new HttpGet(statusUri);
+        if (remoteUri.getUserInfo() != null) {
+            var credentials = Base64.getEncoder().encodeToString(remoteUri.getUserInfo().getBytes(UTF_8));
+            request.setHeader("Authorization", "Basic " + credentials);
+        }
+
+        try (var response = RestApiConnectionPool.getHttpClient().execute(request)) {
+            return new JSONObject(EntityUtils.toString(response.getEntity(), UTF_8));
+        }
+    }
+
+    /**
+     * Get the current number of the permits for the concurrent test classes.
+     *
+     * @return number of the permits
+     */
+    private static synchronized int getCurrentPermits() {
+        return currentPermits;
+    }
+
+    /**
+     * Semaphore with the number of permits that can be reduced.
+     */
+    private static class AdjustableSemaphore extends Semaphore {
+
+        /**
+         * Constructor for the semaphore.
+         *
+         * @param permits initial number of the permits
+         */
+        private AdjustableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
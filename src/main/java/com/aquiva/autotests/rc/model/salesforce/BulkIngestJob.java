@@ -0,0 +1,48 @@
+package com.aquiva.autotests.rc.model.salesforce;
+
+import com.aquiva.autotests.rc.model.DataModel;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceBulkApiClient;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Data object for the Bulk API 2.0 ingest job (e.g. job for the mass deletion of the records).
+ * <p></p>
+ * Useful data structure for the requests to/responses from Salesforce Bulk API 2.0
+ * (see {@link SalesforceBulkApiClient} for a reference).
+ */
+@JsonInclude(value = NON_NULL)
+public class BulkIngestJob extends DataModel {
+    //  Job's operations
+    public static final String DELETE_OPERATION = "delete";
+    public static final String HARD_DELETE_OPERATION = "hardDelete";
+
+    //  Job's states
+    public static final String UPLOAD_COMPLETE_STATE = "UploadComplete";
+    public static final String JOB_COMPLETE_STATE = "JobComplete";
+    public static final String FAILED_STATE = "Failed";
+    public static final String ABORTED_STATE = "Aborted";
+
+    public String id;
+    public String object;
+    public String operation;
+    public String state;
+    public String contentType;
+    public String lineEnding;
+    public String errorMessage;
+    public Long numberRecordsProcessed;
+    public Long numberRecordsFailed;
+
+    /**
+     * Check if the job is finished, successfully or not
+     * (i.e. its state won't be changed anymore).
+     *
+     * @return true, if the job is in one of the final states ("JobComplete", "Failed", "Aborted")
+     */
+    @JsonIgnore
+    public boolean isFinished() {
+        return JOB_COMPLETE_STATE.equals(state) || FAILED_STATE.equals(state) || ABORTED_STATE.equals(state);
+    }
+}
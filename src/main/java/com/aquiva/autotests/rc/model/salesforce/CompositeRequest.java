@@ -0,0 +1,41 @@
+package com.aquiva.autotests.rc.model.salesforce;
+
+import com.aquiva.autotests.rc.model.DataModel;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceCompositeApiClient;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Data object for the request to Salesforce Composite REST API.
+ * <br/>
+ * Composite request executes a series of REST API subrequests in a single call.
+ * Subrequests can refer to the results of the previous subrequests via reference IDs
+ * (e.g. "@{refAccount1.id}" for the ID of the Account created by the subrequest with "refAccount1" reference ID).
+ * <p></p>
+ * See {@link SalesforceCompositeApiClient} for a reference.
+ */
+@JsonInclude(value = NON_NULL)
+public class CompositeRequest extends DataModel {
+    //  Subrequests' HTTP methods
+    public static final String POST_METHOD = "POST";
+    public static final String PATCH_METHOD = "PATCH";
+
+    public Boolean allOrNone;
+    public List<Subrequest> compositeRequest = new ArrayList<>();
+
+    /**
+     * Data object for a single subrequest of the Composite request.
+     */
+    @JsonInclude(value = NON_NULL)
+    public static class Subrequest extends DataModel {
+        public String method;
+        public String url;
+        public String referenceId;
+        public Map<String, Object> body;
+    }
+}
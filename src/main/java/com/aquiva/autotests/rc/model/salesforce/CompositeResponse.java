@@ -0,0 +1,61 @@
+package com.aquiva.autotests.rc.model.salesforce;
+
+import com.aquiva.autotests.rc.model.DataModel;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceCompositeApiClient;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data object for the response from Salesforce Composite REST API.
+ * <br/>
+ * Contains the results for every subrequest of the Composite request, in the same order.
+ * <p></p>
+ * See {@link SalesforceCompositeApiClient} for a reference.
+ */
+public class CompositeResponse extends DataModel {
+    public List<Subresponse> compositeResponse = new ArrayList<>();
+
+    /**
+     * Data object for the result of a single subrequest of the Composite request.
+     */
+    public static class Subresponse extends DataModel {
+        //  Error code for the subrequests that were not processed because of another failed subrequest
+        public static final String PROCESSING_HALTED_ERROR = "PROCESSING_HALTED";
+
+        public String referenceId;
+        public Integer httpStatusCode;
+        //  Successful result (e.g. {"id":"001...","success":true,"errors":[]}),
+        //  or a list of errors (e.g. [{"errorCode":"REQUIRED_FIELD_MISSING","message":"..."}])
+        public JsonNode body;
+
+        /**
+         * Check if the subrequest has been processed successfully.
+         *
+         * @return true, if the subrequest's HTTP status code is 2xx
+         */
+        public boolean isSuccess() {
+            return httpStatusCode != null && httpStatusCode >= 200 && httpStatusCode < 300;
+        }
+
+        /**
+         * Check if the subrequest failed on its own
+         * (and not just rolled back because of another failed subrequest).
+         *
+         * @return true, if the subrequest failed with any error other than "PROCESSING_HALTED"
+         */
+        public boolean isOriginalFailure() {
+            return !isSuccess() && (body == null || !body.toString().contains(PROCESSING_HALTED_ERROR));
+        }
+
+        /**
+         * Get the ID of the record created by the subrequest.
+         *
+         * @return ID of the created record, or {@code null} if there's no ID in the response
+         */
+        public String getId() {
+            return body != null && body.hasNonNull("id") ? body.get("id").asText() : null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.aquiva.autotests.rc.model.salesforce;
+
+import com.aquiva.autotests.rc.model.DataModel;
+import com.aquiva.autotests.rc.utilities.salesforce.SObjectDescribeCache;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonMerge;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+
+/**
+ * Data object with the SObject's metadata taken from Salesforce via describe SOAP API call
+ * (record types, fields, picklist values, etc.).
+ * <p></p>
+ * Only the useful part of the describe result is stored here,
+ * so the object is compact enough to be kept in memory or on disk between the runs
+ * (see {@link SObjectDescribeCache} for a reference).
+ * <p></p>
+ * Record types and fields are looked up by their names case-insensitively, the same way as in Salesforce
+ * (e.g. "Lead_Source__c" and "lead_source__c" are the same field).
+ * The maps are merged into when the object is read from JSON, so they stay case-insensitive.
+ */
+@JsonInclude(value = NON_NULL)
+public class SObjectDescribe extends DataModel {
+    public String name;
+    //  Record Type's name -> Record Type's ID (e.g. "Partner Leads" -> "0120V000001kGx9QAE")
+    @JsonMerge
+    public Map<String, String> recordTypeIds = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    //  Field's API name -> Field's metadata (e.g. "Status" -> {"label": "Lead Status", "type": "picklist"...})
+    @JsonMerge
+    public Map<String, FieldDescribe> fields = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Inner data structure for the metadata of the SObject's field.
+     */
+    @JsonInclude(value = NON_NULL)
+    public static class FieldDescribe extends DataModel {
+        public String name;
+        public String label;
+        public String type;
+        public Integer length;
+        public Boolean nillable;
+        public Boolean custom;
+        public List<PicklistValue> picklistValues;
+    }
+
+    /**
+     * Inner data structure for the picklist value of the SObject's field.
+     */
+    @JsonInclude(value = NON_NULL)
+    public static class PicklistValue extends DataModel {
+        public String value;
+        public String label;
+        public Boolean active;
+        public Boolean defaultValue;
+    }
+}
@@ -1,12 +1,16 @@
 package com.aquiva.autotests.rc.page;
 
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+
+import java.net.URLEncoder;
 
 import static com.aquiva.autotests.rc.utilities.Constants.*;
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selenide.*;
 import static com.codeborne.selenide.SetValueOptions.withText;
 import static io.qameta.allure.Allure.step;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Duration.ofSeconds;
 
 /**
@@ -14,6 +18,13 @@ import static java.time.Duration.ofSeconds;
  */
 public class LoginPage {
 
+    //  Salesforce's page that logs in the user with the provided session ID
+    private static final String FRONTDOOR_PATH = "/secur/frontdoor.jsp";
+    //  Lightweight resource to return to after the login via 'frontdoor.jsp'
+    private static final String FRONTDOOR_RETURN_URL = "/favicon.ico";
+    //  Browser's cookie with the session ID for the Salesforce domain
+    private static final String SESSION_COOKIE_NAME = "sid";
+
     public final SelenideElement logo = $("#logo");
     public final SelenideElement usernameInput = $("#username");
     public final SelenideElement passwordInput = $("#password");
@@ -60,4 +71,23 @@ public class LoginPage {
 
         loginButton.shouldBe(hidden, ofSeconds(20));
     }
+
+    /**
+     * Login to Salesforce org using the already established API session
+     * (e.g. the one from SOAP API login), without opening the login form.
+     * <br/>
+     * The session ID is passed to 'frontdoor.jsp', which sets the session cookies in the browser,
+     * and redirects to the lightweight resource, so no heavy pages are loaded during the login.
+     *
+     * @param sessionId ID of the valid session for the user (e.g. from SOAP API login)
+     * @return true, if the browser has got the session cookie after the login;
+     * false, if the login has failed (e.g. session is invalid, or it can't be used in the UI)
+     */
+    public boolean loginWithSession(String sessionId) {
+        open(BASE_URL + FRONTDOOR_PATH +
+                "?sid=" + URLEncoder.encode(sessionId, UTF_8) +
+                "&retURL=" + URLEncoder.encode(FRONTDOOR_RETURN_URL, UTF_8));
+
+        return WebDriverRunner.getWebDriver().manage().getCookieNamed(SESSION_COOKIE_NAME) != null;
+    }
 }
@@ -5,12 +5,16 @@ import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.modal.*;
 import com.codeborne.selenide.*;
 import org.openqa.selenium.By;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.aquiva.autotests.rc.utilities.Constants.BASE_URL;
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selectors.byCssSelector;
 import static com.codeborne.selenide.Selenide.*;
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 
 /**
  * Quote Wizard page.
@@ -44,7 +48,8 @@ public class NGBSQuotingWizardPage {
     public final SelenideElement spinner = $("[data-ui-auto='spinner']");
 
     //  Progress bar
-    public final SelenideElement progressBar = $("[role='progressbar']");
+    public static final String PROGRESS_BAR_CSS = "[role='progressbar']";
+    public final SelenideElement progressBar = $(PROGRESS_BAR_CSS);
 
     public final SelenideElement notification = $("notifications h2");
     public final SelenideElement errorNotification = $("notifications .slds-theme_error h2");
@@ -146,7 +151,30 @@ public class NGBSQuotingWizardPage {
      */
     public void waitUntilLoaded() {
         opportunityLink.shouldBe(visible, ofSeconds(120));
-        progressBar.shouldBe(hidden, ofSeconds(180));
+
+        if (!waitUntilIdle("Quote Wizard", 180, emptyList(), emptyList())) {
+            progressBar.shouldBe(hidden, ofSeconds(180));
+        }
+    }
+
+    /**
+     * Wait until the Quote Wizard's tab is idle: no pending requests, no visible progress bar
+     * or any other loading indicators, no DOM changes (see {@link QuoteWizardReadinessProbe}).
+     *
+     * @param tabName                     name of the Quote Wizard's tab for logging (e.g. "Price", "Add Products")
+     * @param timeoutSeconds              max time to wait for the tab to be idle (in seconds)
+     * @param additionalBusyIndicatorsCss CSS selectors of the tab's loading indicators besides the progress bar
+     * @param loadingContainersCss        CSS selectors of the tab's containers for 'loading...' messages
+     * @return true, if the tab is idle; false, if the readiness probe is disabled or failed
+     * (the usual waits for the separate elements should be used in this case)
+     * @throws org.openqa.selenium.TimeoutException if the tab isn't idle within the timeout
+     */
+    protected boolean waitUntilIdle(String tabName, int timeoutSeconds,
+                                    List<String> additionalBusyIndicatorsCss, List<String> loadingContainersCss) {
+        var busyIndicatorsCss = new ArrayList<>(additionalBusyIndicatorsCss);
+        busyIndicatorsCss.add(PROGRESS_BAR_CSS);
+        return QuoteWizardReadinessProbe.waitUntilIdle(tabName, ofSeconds(timeoutSeconds),
+                busyIndicatorsCss, loadingContainersCss);
     }
 
     /**
@@ -0,0 +1,189 @@
+package com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.codeborne.selenide.Selenide.executeAsyncJavaScript;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Event-driven wait strategy for the tabs of the Quote Wizard ({@link NGBSQuotingWizardPage}).
+ * <br/>
+ * Instead of polling every loading indicator over the network one by one (progress bar, placeholders, loading messages),
+ * the probe injects a small script into the Quote Wizard's window that tracks the DOM mutations
+ * and the pending XHR/fetch requests (including Visualforce Remoting calls of the Apex actions),
+ * and resolves a single async script callback when the Quote Wizard is idle:
+ * <p> - there are no pending requests </p>
+ * <p> - none of the loading indicators is visible </p>
+ * <p> - the DOM hasn't changed for a short quiet period
+ * (or the conditions above have been true for a while, in case of the never-ending DOM changes, like animations) </p>
+ * <p></p>
+ * The measured time to idle is logged for every tab.
+ * <br/>
+ * If the probe is disabled or fails, the callers should fall back to the usual waits for the separate elements.
+ * If the Quote Wizard isn't idle within the timeout, the wait fails with the probe's state
+ * (the full timeout is already spent, so the fallback waits would only double it).
+ * See {@link #waitUntilIdle(String, Duration, List, List)}.
+ * <br/>
+ * The probe can be disabled via {@code qw.readinessProbe} system property (default: true).
+ */
+public class QuoteWizardReadinessProbe {
+    private static final Logger LOG = LoggerFactory.getLogger(QuoteWizardReadinessProbe.class);
+
+    private static final boolean IS_ENABLED = parseBoolean(System.getProperty("qw.readinessProbe", "true"));
+
+    //  Min time without DOM changes for the Quote Wizard to be considered idle (in milliseconds)
+    private static final int QUIET_PERIOD = 300;
+    //  Max time to wait for the DOM changes to stop if there are no pending requests and loading indicators
+    private static final int MAX_DOM_CHANGES_WAIT = 5_000;
+    //  Max duration of a single async script call (should be less than WebDriver's default script timeout = 30 s)
+    private static final long MAX_SCRIPT_DURATION = 20_000;
+
+    //  Installs the probe into the window (once), and waits until the Quote Wizard is idle, or the timeout is over.
+    //  Arguments: busy indicators' CSS selectors, CSS selectors of the containers for 'loading...' messages,
+    //  quiet period, max DOM changes wait, timeout (in ms), and the async script's callback
+    private static final String WAIT_UNTIL_IDLE_SCRIPT =
+            "var busyIndicatorsCss = arguments[0], loadingContainersCss = arguments[1], quietPeriod = arguments[2]," +
+            "    maxDomChangesWait = arguments[3], timeout = arguments[4], callback = arguments[arguments.length - 1];" +
+            "var probe = window.__qwReadinessProbe;" +
+            "if (!probe) {" +
+            "  probe = window.__qwReadinessProbe = {pendingRequests: 0, lastChange: Date.now()};" +
+            "  var onRequestEnd = function () {" +
+            "    probe.pendingRequests = Math.max(0, probe.pendingRequests - 1);" +
+            "    probe.lastChange = Date.now();" +
+            "  };" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    probe.pendingRequests++;" +
+            "    this.addEventListener('loadend', onRequestEnd);" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      probe.pendingRequests++;" +
+            "      return originalFetch.apply(this, arguments).finally(onRequestEnd);" +
+            "    };" +
+            "  }" +
+            "  new MutationObserver(function () { probe.lastChange = Date.now(); })" +
+            "    .observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}" +
+            "var isVisible = function (element) {" +
+            "  return !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length);" +
+            "};" +
+            "var getBusyIndicators = function () {" +
+            "  var busyIndicators = busyIndicatorsCss.filter(function (css) {" +
+            "    return Array.from(document.querySelectorAll(css)).some(isVisible);" +
+            "  });" +
+            "  loadingContainersCss.forEach(function (css) {" +
+            "    var hasLoadingMessage = Array.from(document.querySelectorAll(css + ' *')).some(function (element) {" +
+            "      return element.children.length === 0 && element.textContent.trim() === 'loading...' && isVisible(element);" +
+            "    });" +
+            "    if (hasLoadingMessage) { busyIndicators.push(css + ' loading...'); }" +
+            "  });" +
+            "  return busyIndicators;" +
+            "};" +
+            "var start = Date.now(), idleSince = null;" +
+            "var check = function () {" +
+            "  var now = Date.now(), busyIndicators = getBusyIndicators();" +
+            "  var isIdle = probe.pendingRequests === 0 && busyIndicators.length === 0;" +
+            "  idleSince = isIdle ? (idleSince || now) : null;" +
+            "  if (isIdle && (now - probe.lastChange >= quietPeriod || now - idleSince >= maxDomChangesWait)) {" +
+            "    callback({idle: true});" +
+            "  } else if (now - start >= timeout) {" +
+            "    callback({idle: false, pendingRequests: probe.pendingRequests, busyIndicators: busyIndicators});" +
+            "  } else {" +
+            "    setTimeout(check, 50);" +
+            "  }" +
+            "};" +
+            "check();";
+
+    //  Measured time to idle by the Quote Wizard's tab
+    private static final Map<String, LongSummaryStatistics> IDLE_TIMES_BY_TAB = new TreeMap<>();
+
+    /**
+     * Wait until the Quote Wizard's tab is idle: no pending requests, no visible loading indicators, no DOM changes.
+     * <br/>
+     * Note: make sure that the current context is inside the Quote Wizard's window/iframe!
+     *
+     * @param tabName              name of the Quote Wizard's tab for logging (e.g. "Price", "Add Products")
+     * @param timeout              max time to wait for the Quote Wizard to be idle
+     * @param busyIndicatorsCss    CSS selectors of the loading indicators that should be hidden
+     *                             (e.g. progress bar, loading placeholders)
+     * @param loadingContainersCss CSS selectors of the containers that should not have any
+     *                             'loading...' messages inside (e.g. "cart", "licenses")
+     * @return true, if the Quote Wizard is idle;
+     * false, if the probe is disabled or failed (use the usual waits for the separate elements in this case)
+     * @throws TimeoutException if the Quote Wizard isn't idle within the timeout
+     * (with the pending requests and visible loading indicators in the message)
+     */
+    public static boolean waitUntilIdle(String tabName, Duration timeout,
+                                        List<String> busyIndicatorsCss, List<String> loadingContainersCss) {
+        if (!IS_ENABLED) {
+            return false;
+        }
+
+        var startTime = System.nanoTime();
+        Map<String, Object> result;
+        var elapsedMillis = 0L;
+        try {
+            do {
+                var scriptTimeout = min(timeout.toMillis() - elapsedMillis, MAX_SCRIPT_DURATION);
+                result = executeAsyncJavaScript(WAIT_UNTIL_IDLE_SCRIPT, busyIndicatorsCss, loadingContainersCss,
+                        QUIET_PERIOD, MAX_DOM_CHANGES_WAIT, scriptTimeout);
+                elapsedMillis = NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+                if (result != null && TRUE.equals(result.get("idle"))) {
+                    addIdleTime(tabName, elapsedMillis);
+                    return true;
+                }
+            } while (elapsedMillis < timeout.toMillis());
+        } catch (WebDriverException e) {
+            LOG.warn("Unable to check if the Quote Wizard's '{}' tab is idle! " +
+                    "Falling back to the waits for the separate elements... Details: {}", tabName, e.toString());
+            return false;
+        }
+
+        throw new TimeoutException("Quote Wizard's '" + tabName + "' tab is not idle after " + elapsedMillis + " ms! " +
+                "Probe's state: " + result);
+    }
+
+    /**
+     * Get the current statistics for the time to idle of the Quote Wizard's tabs
+     * in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics for every tab
+     * (e.g. "Price: count: 12, avg: 2150 ms, max: 7400 ms; Add Products: count: 8, avg: 950 ms, max: 1800 ms"),
+     * or empty string if there were no waits yet
+     */
+    public static synchronized String getStatsFormatted() {
+        return IDLE_TIMES_BY_TAB.entrySet().stream()
+                .map(entry -> String.format("%s: count: %d, avg: %.0f ms, max: %d ms", entry.getKey(),
+                        entry.getValue().getCount(), entry.getValue().getAverage(), entry.getValue().getMax()))
+                .collect(joining("; "));
+    }
+
+    /**
+     * Log the measured time to idle of the Quote Wizard's tab, and add it to the statistics.
+     *
+     * @param tabName    name of the Quote Wizard's tab (e.g. "Price", "Add Products")
+     * @param idleMillis measured time until the tab is idle (in milliseconds)
+     */
+    private static synchronized void addIdleTime(String tabName, long idleMillis) {
+        LOG.info("Quote Wizard's '{}' tab is idle after {} ms", tabName, idleMillis);
+        IDLE_TIMES_BY_TAB.computeIfAbsent(tabName, t -> new LongSummaryStatistics()).accept(idleMillis);
+    }
+}
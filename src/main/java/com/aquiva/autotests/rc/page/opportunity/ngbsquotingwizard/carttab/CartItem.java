@@ -19,25 +19,40 @@ public class CartItem {
     public static final String MIN_QUANTITY = "1";
     public static final String MIN_DISCOUNT = "0";
 
-    private final By displayName = byCssSelector("[data-ui-auto='cart-item-product-name']");
-    private final By chargeTerm = byCssSelector("[data-ui-auto='cart-item-charge-term']");
-    private final By quantityInput = byCssSelector("[data-ui-auto='cart-item-quantity']");
+    //  CSS selectors for the Cart Item's fields (also used for the batched snapshot in CartPage)
+    static final String DISPLAY_NAME_CSS = "[data-ui-auto='cart-item-product-name']";
+    static final String CHARGE_TERM_CSS = "[data-ui-auto='cart-item-charge-term']";
+    static final String QUANTITY_INPUT_CSS = "[data-ui-auto='cart-item-quantity']";
+    static final String EXISTING_QUANTITY_INPUT_CSS = "[data-ui-auto='cart-item-existing-quantity']";
+    static final String NEW_QUANTITY_INPUT_CSS = "[data-ui-auto='cart-item-new-quantity']";
+    static final String DELIVERED_QUANTITY_INPUT_CSS = "[data-ui-auto='cart-item-delivered-quantity']";
+    static final String LIST_PRICE_CSS = "list-price-range [data-ui-auto='cart-item-unit-price']";
+    static final String YOUR_PRICE_CSS = "[data-ui-auto='cart-item-your-price']";
+    static final String DISCOUNT_INPUT_CSS = "[data-ui-auto='cart-item-discount-value']";
+    static final String DISCOUNT_TYPE_SELECT_CSS = "[data-ui-auto='cart-item-discount-type']";
+    static final String TOTAL_PRICE_CSS = "[data-ui-auto='cart-item-total-price']";
+    static final String TARGET_PRICE_CSS = "target-price [data-ui-auto='cart-item-unit-price']";
+    static final String DISCRETION_CIRCLE_CSS = "discretion > .circle";
+
+    private final By displayName = byCssSelector(DISPLAY_NAME_CSS);
+    private final By chargeTerm = byCssSelector(CHARGE_TERM_CSS);
+    private final By quantityInput = byCssSelector(QUANTITY_INPUT_CSS);
     private final By areaCodeButton = byCssSelector("[data-ui-auto='area-code-badge']");
     private final By deviceAssignmentButton = byCssSelector("[data-ui-auto='device-assignment-badge']");
-    private final By existingQuantityInput = byCssSelector("[data-ui-auto='cart-item-existing-quantity']");
-    private final By newQuantityInput = byCssSelector("[data-ui-auto='cart-item-new-quantity']");
-    private final By deliveredQuantityInput = byCssSelector("[data-ui-auto='cart-item-delivered-quantity']");
-    private final By listPrice = byCssSelector("list-price-range [data-ui-auto='cart-item-unit-price']");
+    private final By existingQuantityInput = byCssSelector(EXISTING_QUANTITY_INPUT_CSS);
+    private final By newQuantityInput = byCssSelector(NEW_QUANTITY_INPUT_CSS);
+    private final By deliveredQuantityInput = byCssSelector(DELIVERED_QUANTITY_INPUT_CSS);
+    private final By listPrice = byCssSelector(LIST_PRICE_CSS);
     private final By deleteButton = byCssSelector("[data-ui-auto='cart-item-delete-button']");
-    private final By yourPrice = byCssSelector("[data-ui-auto='cart-item-your-price']");
-    private final By discountInput = byCssSelector("[data-ui-auto='cart-item-discount-value']");
+    private final By yourPrice = byCssSelector(YOUR_PRICE_CSS);
+    private final By discountInput = byCssSelector(DISCOUNT_INPUT_CSS);
     private final By promoIcon = byCssSelector(".promo-icon icon");
-    private final By discountTypeSelect = byCssSelector("[data-ui-auto='cart-item-discount-type']");
+    private final By discountTypeSelect = byCssSelector(DISCOUNT_TYPE_SELECT_CSS);
     private final By quantityErrorMessage = byCssSelector("[data-ui-auto='quantity-error']");
-    private final By totalPrice = byCssSelector("[data-ui-auto='cart-item-total-price']");
+    private final By totalPrice = byCssSelector(TOTAL_PRICE_CSS);
     private final By numberAssignmentLineItems = byCssSelector(".slds-p-left--xx-small");
-    private final By targetPrice = byCssSelector("target-price [data-ui-auto='cart-item-unit-price']");
-    private final By discretionCircle = byCssSelector("discretion > .circle");
+    private final By targetPrice = byCssSelector(TARGET_PRICE_CSS);
+    private final By discretionCircle = byCssSelector(DISCRETION_CIRCLE_CSS);
 
     public CartItem(SelenideElement cartItemElement) {
         this.cartItemElement = cartItemElement;
@@ -0,0 +1,208 @@
+package com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.carttab;
+
+import java.util.Map;
+
+import static java.lang.Double.valueOf;
+
+/**
+ * Immutable snapshot of the Cart Item's values on the Price tab ({@link CartPage}).
+ * <br/>
+ * Unlike {@link CartItem}, it doesn't look up any web elements:
+ * all the values are collected for all the visible cart items at once (see {@link CartPage#getVisibleCartItemsSnapshot()}),
+ * so it's useful for the checks of many fields on many cart items.
+ * <br/>
+ * Note: the values are not updated after the snapshot is taken,
+ * so make sure that the cart is loaded and stable before taking it (e.g. via {@link CartPage#waitUntilLoaded()}).
+ * <br/>
+ * Values of the missing fields are {@code null} (e.g. 'Existing Quantity' for New Business quotes).
+ */
+public class CartItemSnapshot {
+    private final String dataId;
+    private final String licenseDisplayName;
+    private final String displayName;
+    private final String chargeTerm;
+    private final String quantity;
+    private final String existingQuantity;
+    private final String newQuantity;
+    private final String deliveredQuantity;
+    private final String listPrice;
+    private final String yourPrice;
+    private final String targetPrice;
+    private final String totalPrice;
+    private final String discount;
+    private final String discountType;
+    private final String discretionColorStyle;
+
+    /**
+     * Constructor for the snapshot of the Cart Item
+     * with the values collected via JavaScript on the Price tab.
+     *
+     * @param values map with the Cart Item's values by their names (e.g. "displayName" -> "DigitalLine Unlimited")
+     */
+    CartItemSnapshot(Map<String, Object> values) {
+        this.dataId = getValue(values, "dataId");
+        this.licenseDisplayName = getValue(values, "licenseDisplayName");
+        this.displayName = getValue(values, "displayName");
+        this.chargeTerm = getValue(values, "chargeTerm");
+        this.quantity = getValue(values, "quantity");
+        this.existingQuantity = getValue(values, "existingQuantity");
+        this.newQuantity = getValue(values, "newQuantity");
+        this.deliveredQuantity = getValue(values, "deliveredQuantity");
+        this.listPrice = getValue(values, "listPrice");
+        this.yourPrice = getValue(values, "yourPrice");
+        this.targetPrice = getValue(values, "targetPrice");
+        this.totalPrice = getValue(values, "totalPrice");
+        this.discount = getValue(values, "discount");
+        this.discountType = getValue(values, "discountType");
+        this.discretionColorStyle = getValue(values, "discretionColorStyle");
+    }
+
+    /**
+     * Get the value of the 'data-id' attribute of the Cart Item.
+     */
+    public String getDataId() {
+        return dataId;
+    }
+
+    /**
+     * Get the value of the 'data-ui-auto-license-display-name' attribute of the Cart Item
+     * (the same one that is used by {@link CartPage#getQliFromCartByDisplayName(String)}).
+     */
+    public String getLicenseDisplayName() {
+        return licenseDisplayName;
+    }
+
+    /**
+     * Get the Cart Item product's visible name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Get the Charge Term plan of the Cart Item (e.g. "Monthly", "One - Time").
+     */
+    public String getChargeTerm() {
+        return chargeTerm;
+    }
+
+    /**
+     * Get the value of the Cart Item's 'Quantity' input (New Business).
+     */
+    public String getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Get the value of the Cart Item's 'Existing Quantity' input (Existing Business).
+     */
+    public String getExistingQuantity() {
+        return existingQuantity;
+    }
+
+    /**
+     * Get the value of the Cart Item's 'New Quantity' input (Existing Business).
+     */
+    public String getNewQuantity() {
+        return newQuantity;
+    }
+
+    /**
+     * Get the value of the Cart Item's 'Delivered Quantity' input.
+     */
+    public String getDeliveredQuantity() {
+        return deliveredQuantity;
+    }
+
+    /**
+     * Get the text of the Cart Item's list price (e.g. "USD 29.99").
+     */
+    public String getListPrice() {
+        return listPrice;
+    }
+
+    /**
+     * Get the text of the Cart Item's 'Your Price' (e.g. "USD 25.99").
+     */
+    public String getYourPrice() {
+        return yourPrice;
+    }
+
+    /**
+     * Get the text of the Cart Item's target price (e.g. "USD 20.00").
+     */
+    public String getTargetPrice() {
+        return targetPrice;
+    }
+
+    /**
+     * Get the target price value of the Cart Item.
+     * <p>
+     * The value is taken as a text of Target Price
+     * excluding Currency ISO Code prefix with a length of 3 letters.
+     *
+     * @return target price of Cart Item.
+     * @see CartItem#getTargetPriceValue()
+     */
+    public Double getTargetPriceValue() {
+        return valueOf(targetPrice.substring(3));
+    }
+
+    /**
+     * Get the text of the Cart Item's total price (e.g. "USD 259.90").
+     */
+    public String getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * Get the value of the Cart Item's 'Discount' input.
+     */
+    public String getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Get the text of the selected option in the Cart Item's 'Discount Type' picklist (e.g. "%", "USD").
+     */
+    public String getDiscountType() {
+        return discountType;
+    }
+
+    /**
+     * Get the style of the Cart Item's discretion circle
+     * (e.g. {@link CartItem#GREEN_COLOR_STYLE_VALUE}, {@link CartItem#RED_COLOR_STYLE_VALUE}).
+     */
+    public String getDiscretionColorStyle() {
+        return discretionColorStyle;
+    }
+
+    /**
+     * Get the Cart Item's value from the map of the collected values.
+     *
+     * @param values    map with the Cart Item's values by their names
+     * @param valueName name of the value (e.g. "displayName")
+     * @return string value, or {@code null} if there's no such value
+     */
+    private static String getValue(Map<String, Object> values, String valueName) {
+        var value = values.get(valueName);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "CartItemSnapshot{" +
+                "licenseDisplayName='" + licenseDisplayName + '\'' +
+                ", displayName='" + displayName + '\'' +
+                ", chargeTerm='" + chargeTerm + '\'' +
+                ", quantity='" + quantity + '\'' +
+                ", existingQuantity='" + existingQuantity + '\'' +
+                ", newQuantity='" + newQuantity + '\'' +
+                ", listPrice='" + listPrice + '\'' +
+                ", yourPrice='" + yourPrice + '\'' +
+                ", totalPrice='" + totalPrice + '\'' +
+                ", discount='" + discount + '\'' +
+                ", discountType='" + discountType + '\'' +
+                '}';
+    }
+}
@@ -6,8 +6,11 @@ import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.modal.*;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.carttab.CartItem.*;
 import static com.codeborne.selenide.CollectionCondition.sizeGreaterThan;
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selectors.byText;
@@ -64,13 +67,59 @@ public class CartPage extends NGBSQuotingWizardPage {
     public static final String FINANCE_REVENUE_DQ_APPROVER = "Finance - Revenue";
     public static final String NO_APPROVAL_REQUIRED_DQ_APPROVER = "No Approval Required";
 
+    //  Selector for the loading placeholder of the cart
+    private static final String PLACEHOLDER_LOADING_CSS = "placeholder-loading";
+
+    //  Selectors for the visible cart items and their fields for the batched snapshot
+    private static final String VISIBLE_CART_ITEM_CSS = "[data-ui-auto-license-is-visible='true']";
+    private static final Map<String, String> CART_ITEM_SNAPSHOT_FIELDS_CSS = new LinkedHashMap<>();
+
+    static {
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("displayName", DISPLAY_NAME_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("chargeTerm", CHARGE_TERM_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("quantity", QUANTITY_INPUT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("existingQuantity", EXISTING_QUANTITY_INPUT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("newQuantity", NEW_QUANTITY_INPUT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("deliveredQuantity", DELIVERED_QUANTITY_INPUT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("listPrice", LIST_PRICE_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("yourPrice", YOUR_PRICE_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("targetPrice", TARGET_PRICE_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("totalPrice", TOTAL_PRICE_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("discount", DISCOUNT_INPUT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("discountType", DISCOUNT_TYPE_SELECT_CSS);
+        CART_ITEM_SNAPSHOT_FIELDS_CSS.put("discretionColorStyle", DISCRETION_CIRCLE_CSS);
+    }
+
+    //  Collects the values of all the fields for all the visible cart items:
+    //  value for inputs, selected option's text for picklists, style for discretion circle, text for anything else
+    //  (texts are normalized like in Selenide's text conditions: any whitespace, incl. &nbsp;, is collapsed into a single space)
+    private static final String CART_ITEMS_SNAPSHOT_SCRIPT =
+            "var fieldsCss = arguments[1];" +
+            "return Array.from(document.querySelectorAll(arguments[0])).map(function (row) {" +
+            "  var normalize = function (text) { return text.replace(/\\s+/g, ' ').trim(); };" +
+            "  var item = {dataId: row.getAttribute('data-id'), " +
+            "    licenseDisplayName: row.getAttribute('data-ui-auto-license-display-name')};" +
+            "  Object.keys(fieldsCss).forEach(function (field) {" +
+            "    var element = row.querySelector(fieldsCss[field]);" +
+            "    if (!element) { item[field] = null; }" +
+            "    else if (field === 'discretionColorStyle') { item[field] = element.getAttribute('style'); }" +
+            "    else if (element.tagName === 'SELECT') {" +
+            "      var option = element.options[element.selectedIndex];" +
+            "      item[field] = option ? normalize(option.text) : null;" +
+            "    }" +
+            "    else if (element.tagName === 'INPUT') { item[field] = element.value; }" +
+            "    else { item[field] = normalize(element.innerText); }" +
+            "  });" +
+            "  return item;" +
+            "});";
+
     public final SelenideElement loadingMessage = $("cart").$(byText("loading..."));
     public final SelenideElement notificationBar = $("[data-auto-ui='notification-bar']");
     public final ElementsCollection notifications = $$("[data-auto-ui='notification-text']");
-    public final SelenideElement placeholderLoading = $("placeholder-loading");
+    public final SelenideElement placeholderLoading = $(PLACEHOLDER_LOADING_CSS);
 
     //  Cart items
-    public final ElementsCollection visibleCartItems = $$("[data-ui-auto-license-is-visible='true']");
+    public final ElementsCollection visibleCartItems = $$(VISIBLE_CART_ITEM_CSS);
     public final ElementsCollection allCartItemElements = $$("[data-ui-auto='cart-item']");
     public final ElementsCollection cartItemNames = $$("[data-ui-auto='cart-item-product-name']");
     public final ElementsCollection taxCartItems = $$x("//*[@data-ui-auto='cart-item'][.//div[text()='Tax']]");
@@ -144,6 +193,27 @@ public class CartPage extends NGBSQuotingWizardPage {
         return visibleCartItems.asDynamicIterable().stream().map(CartItem::new).collect(toList());
     }
 
+    /**
+     * Get the snapshot of all items that are visible in the cart with all their values
+     * (name, charge term, quantities, prices, discount, discretion).
+     * <br/>
+     * All the values are collected in a single JavaScript call,
+     * instead of a separate web element lookup for every field of every {@link CartItem}.
+     * Useful for the checks of many fields on many cart items.
+     * <br/>
+     * Note: the snapshot is not updated after it's taken, and there's no waiting for the expected values,
+     * so make sure that the cart is loaded and stable before taking it (e.g. via {@link #waitUntilLoaded()}).
+     *
+     * @return list of immutable Cart Item snapshots in the same order as the items in the cart
+     */
+    public List<CartItemSnapshot> getVisibleCartItemsSnapshot() {
+        List<Map<String, Object>> cartItemsValues = executeJavaScript(CART_ITEMS_SNAPSHOT_SCRIPT,
+                VISIBLE_CART_ITEM_CSS, CART_ITEM_SNAPSHOT_FIELDS_CSS);
+        return cartItemsValues == null
+                ? List.of()
+                : cartItemsValues.stream().map(CartItemSnapshot::new).collect(toList());
+    }
+
     /**
      * Get all Tax items in the cart as a collection of {@link CartItem} elements.
      * <br/>
@@ -171,11 +241,13 @@ public class CartPage extends NGBSQuotingWizardPage {
      * {@inheritDoc}
      */
     public void waitUntilLoaded() {
-        progressBar.shouldBe(hidden, ofSeconds(PROGRESS_BAR_TIMEOUT_AFTER_SAVE));
-        placeholderLoading.shouldBe(hidden, ofSeconds(60));
+        if (!waitUntilIdle("Price", PROGRESS_BAR_TIMEOUT_AFTER_SAVE, List.of(PLACEHOLDER_LOADING_CSS), List.of("cart"))) {
+            progressBar.shouldBe(hidden, ofSeconds(PROGRESS_BAR_TIMEOUT_AFTER_SAVE));
+            placeholderLoading.shouldBe(hidden, ofSeconds(60));
 
-        //  Wait for cart items to rearrange in DOM
-        loadingMessage.shouldBe(hidden, ofSeconds(90));
+            //  Wait for cart items to rearrange in DOM
+            loadingMessage.shouldBe(hidden, ofSeconds(90));
+        }
         visibleCartItems.shouldHave(sizeGreaterThan(0), ofSeconds(30));
 
         errorNotification.shouldBe(hidden);
@@ -5,12 +5,15 @@ import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import com.sforce.soap.enterprise.sobject.Product2;
 
+import java.util.List;
+
 import static com.codeborne.selenide.Condition.hidden;
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selectors.byText;
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.Selenide.$$x;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 
 /**
  * 'Deal Qualification' tab in {@link NGBSQuotingWizardPage}.
@@ -69,8 +72,12 @@ public class DealQualificationPage extends NGBSQuotingWizardPage {
      * {@inheritDoc}
      */
     public void waitUntilLoaded() {
-        super.waitUntilLoaded();
-        loadingMessage.shouldBe(hidden, ofSeconds(60));
+        opportunityLink.shouldBe(visible, ofSeconds(120));
+
+        if (!waitUntilIdle("Deal Qualification", 180, emptyList(), List.of("dq-details"))) {
+            progressBar.shouldBe(hidden, ofSeconds(180));
+            loadingMessage.shouldBe(hidden, ofSeconds(60));
+        }
         dqApprovalStatus.shouldBe(visible, ofSeconds(60));
     }
 
@@ -13,6 +13,7 @@ import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selectors.byText;
 import static com.codeborne.selenide.Selenide.*;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -147,9 +148,12 @@ public class ProductsPage extends NGBSQuotingWizardPage {
      */
     @Override
     public void waitUntilLoaded() {
-        super.waitUntilLoaded();
+        opportunityLink.shouldBe(visible, ofSeconds(120));
 
-        loadingMessage.shouldBe(hidden, ofSeconds(60));
+        if (!waitUntilIdle("Add Products", 180, emptyList(), List.of("licenses"))) {
+            progressBar.shouldBe(hidden, ofSeconds(180));
+            loadingMessage.shouldBe(hidden, ofSeconds(60));
+        }
         products.shouldHave(sizeGreaterThan(0), ofSeconds(60));
     }
 
@@ -10,6 +10,7 @@ import org.openqa.selenium.By;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.modal.EngageLegalRequestModal.AMENDMENT_ENGAGEMENT_TYPE;
 import static com.aquiva.autotests.rc.utilities.NumberHelper.doubleToIntToString;
@@ -21,6 +22,7 @@ import static com.codeborne.selenide.Selectors.*;
 import static com.codeborne.selenide.Selenide.$;
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 
 /**
  * Quote Details tab in {@link NGBSQuotingWizardPage}
@@ -169,9 +171,11 @@ public class QuotePage extends NGBSQuotingWizardPage {
      * User may safely interact with any of the page's elements after this method is finished.
      */
     public void waitUntilLoaded() {
-        progressBar.shouldBe(hidden, ofSeconds(PROGRESS_BAR_TIMEOUT_AFTER_SAVE));
+        if (!waitUntilIdle("Quote Details", PROGRESS_BAR_TIMEOUT_AFTER_SAVE, emptyList(), List.of("quote-details"))) {
+            progressBar.shouldBe(hidden, ofSeconds(PROGRESS_BAR_TIMEOUT_AFTER_SAVE));
+            loadingMessage.shouldBe(hidden, ofSeconds(60));
+        }
         quoteNameInput.shouldBe(visible, ofSeconds(90));
-        loadingMessage.shouldBe(hidden, ofSeconds(60));
         errorNotification.shouldBe(hidden);
     }
 
@@ -0,0 +1,38 @@
+package com.aquiva.autotests.rc.utilities;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the named daemon threads of the background executors
+ * (e.g. pre-creating the test data, polling the statuses, writing the reports).
+ * <br/>
+ * Daemon threads don't prevent JVM from the exit after the test run,
+ * so the executors that are shared for the whole run don't need to be shut down explicitly.
+ * <br/>
+ * Threads are named with the given prefix and the sequence number (e.g. "sf-dml-chunks-1", "sf-dml-chunks-2"),
+ * so they can be easily found in the thread dumps and logs.
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+    private final String threadNamePrefix;
+    private final AtomicInteger threadsCounter = new AtomicInteger();
+
+    /**
+     * Constructor for the factory of the daemon threads.
+     *
+     * @param threadNamePrefix prefix for the names of the threads (e.g. "sf-dml-chunks")
+     */
+    public DaemonThreadFactory(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Thread newThread(Runnable runnable) {
+        var thread = new Thread(runnable, threadNamePrefix + "-" + threadsCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -1,5 +1,7 @@
 package com.aquiva.autotests.rc.utilities;
 
+import java.util.function.Supplier;
+
 /**
  * Authentication parameters for connecting to REST API services.
  */
@@ -8,6 +10,7 @@ public class RestApiAuthentication {
     public String password;
     public String tokenKey;
     public String tokenValue;
+    public Supplier<String> tokenValueSupplier;
 
     public Method method;
 
@@ -63,6 +66,28 @@ public class RestApiAuthentication {
         return tokenAuthorization;
     }
 
+    /**
+     * Create new authorization data for Authentication with API Key (token)
+     * which value is obtained right before every request.
+     * <br/>
+     * Useful for tokens that might change over time (e.g. renewed session IDs).
+     * REST API client will add the following authorization header to its requests:
+     * <br/>
+     * {@code "Authorization: {{API_Key}} {{current_API_Value}}"}
+     *
+     * @param tokenKey           string to use as a key for Token
+     * @param tokenValueSupplier operation to get the current value for Token
+     * @return authentication parameters for REST API client with token key and the current token value
+     */
+    public static RestApiAuthentication usingApiKey(String tokenKey, Supplier<String> tokenValueSupplier) {
+        var tokenAuthorization = new RestApiAuthentication();
+        tokenAuthorization.method = Method.API_KEY;
+        tokenAuthorization.tokenKey = tokenKey;
+        tokenAuthorization.tokenValueSupplier = tokenValueSupplier;
+
+        return tokenAuthorization;
+    }
+
     /**
      * Authentication methods (HTTP Authentication Schemes, API Keys, etc.).
      */
@@ -4,12 +4,10 @@ import io.qameta.allure.Step;
 import org.apache.http.*;
 import org.apache.http.auth.AuthenticationException;
 import org.apache.http.auth.UsernamePasswordCredentials;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.*;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 
@@ -25,10 +23,15 @@ import static org.assertj.core.api.Assertions.assertThat;
  * <br/>
  * It contains a generic implementation for the useful HTTP methods,
  * like GET, POST, PUT, DELETE, etc...
+ * <br/>
+ * All the requests are sent via the shared pool of the persistent connections.
+ *
+ * @see RestApiConnectionPool
  */
 public class RestApiClient {
     //  REST API constants
     public static final String APPLICATION_JSON = "application/json";
+    public static final String TEXT_CSV = "text/csv";
     public static final String ACCEPT_HEADER = "Accept";
     public static final String CONTENT_TYPE_HEADER = "Content-Type";
     public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
@@ -80,6 +83,41 @@ public class RestApiClient {
         return httpRequest(new HttpGet(url));
     }
 
+    /**
+     * Invoke a GET request using the given endpoint without reporting it as a separate step.
+     * <br/>
+     * Useful for frequent background requests (e.g. polling the status of the long-running job)
+     * that are executed outside the test's thread and would only clutter the report.
+     *
+     * @param url endpoint URL to send a request to
+     * @return raw response from the service after the request
+     * (usually, in the JSON format).
+     */
+    public String getWithoutReporting(String url) {
+        return httpRequest(new HttpGet(url));
+    }
+
+    /**
+     * Invoke a GET request using the given endpoint
+     * and accept the response in the given non-JSON format.
+     *
+     * @param url       endpoint URL to send a request to
+     * @param mediaType media type of the expected response (e.g. "text/csv", "text/plain")
+     * @return raw response from the service after the request
+     */
+    @Step
+    public String getAsText(String url, String mediaType) {
+        var request = new HttpGet(url);
+        try {
+            setHeaders(request);
+            request.setHeader(ACCEPT_HEADER, mediaType);
+
+            return executeAndGetResponse(RestApiConnectionPool.getHttpClient(), request);
+        } catch (IOException | AuthenticationException e) {
+            throw new RuntimeException(exceptionPrefix + e.getMessage());
+        }
+    }
+
     /**
      * Invoke a GET request using the given endpoint.
      *
@@ -190,6 +228,38 @@ public class RestApiClient {
         httpRequest(new HttpPut(url), jsonBody);
     }
 
+    /**
+     * Invoke a PUT request using the given endpoint and the payload in the given non-JSON format.
+     *
+     * @param url       endpoint URL to send a request to
+     * @param content   payload (request's body) in the form of the string (e.g. CSV data)
+     * @param mediaType media type of the payload (e.g. "text/csv", "text/plain")
+     * @return raw response from the service after the request
+     */
+    @Step
+    public String putAsText(String url, String content, String mediaType) {
+        return httpRequest(new HttpPut(url), content, mediaType);
+    }
+
+    /**
+     * Invoke a PATCH request using the given endpoint and the payload.
+     *
+     * @param url                endpoint URL to send a request to
+     * @param bodyObject         any data object used as a payload (body) for the request
+     * @param classObjectToParse any valid type of the Java class
+     *                           that contains a proper structure (variables, constructor...)
+     *                           for mapping the response to
+     * @return mapped response from the service in the form of the Java object
+     * that was provided as an argument for the method
+     * @see JsonUtils#readJson(String, Class)
+     */
+    @Step
+    public <PAYLOAD, RESPONSE> RESPONSE patch(String url, PAYLOAD bodyObject, Class<RESPONSE> classObjectToParse) {
+        var jsonBody = JsonUtils.writeJsonAsString(bodyObject);
+        var responseJson = httpRequest(new HttpPatch(url), jsonBody);
+        return JsonUtils.readJson(responseJson, classObjectToParse);
+    }
+
     /**
      * Invoke a DELETE request using the given endpoint.
      *
@@ -210,10 +280,10 @@ public class RestApiClient {
      * (usually, in the JSON format).
      */
     private String httpRequest(HttpRequestBase request) {
-        try (var client = createCustomHttpClient()) {
+        try {
             setHeaders(request);
 
-            return executeAndGetResponse(client, request);
+            return executeAndGetResponse(RestApiConnectionPool.getHttpClient(), request);
         } catch (IOException | AuthenticationException e) {
             throw new RuntimeException(exceptionPrefix + e.getMessage());
         }
@@ -222,7 +292,7 @@ public class RestApiClient {
     /**
      * Execute an HTTP request with a payload (body) and get a response.
      * <p>
-     * This method should be used for POST and PUT methods.
+     * This method should be used for POST, PUT and PATCH methods.
      *
      * @param request  HTTP request that should be invoked
      * @param jsonBody payload for the request in the form of JSON string
@@ -230,12 +300,27 @@ public class RestApiClient {
      * (usually, in the JSON format).
      */
     private String httpRequest(HttpEntityEnclosingRequest request, String jsonBody) {
-        try (var client = createCustomHttpClient()) {
-            setHeaders(request);
+        return httpRequest(request, jsonBody, APPLICATION_JSON);
+    }
 
-            request.setEntity(new StringEntity(jsonBody));
+    /**
+     * Execute an HTTP request with a payload (body) in the given format and get a response.
+     * <p>
+     * This method should be used for POST, PUT and PATCH methods.
+     *
+     * @param request   HTTP request that should be invoked
+     * @param body      payload for the request in the form of string
+     * @param mediaType media type of the payload (e.g. "application/json", "text/csv")
+     * @return raw response from the service after the request
+     * (usually, in the JSON format).
+     */
+    private String httpRequest(HttpEntityEnclosingRequest request, String body, String mediaType) {
+        try {
+            setHeaders(request, mediaType);
+
+            request.setEntity(new StringEntity(body));
 
-            return executeAndGetResponse(client, (HttpUriRequest) request);
+            return executeAndGetResponse(RestApiConnectionPool.getHttpClient(), (HttpUriRequest) request);
         } catch (IOException | AuthenticationException e) {
             throw new RuntimeException(exceptionPrefix + e.getMessage());
         }
@@ -243,6 +328,9 @@ public class RestApiClient {
 
     /**
      * Execute an HTTP request and get a response from the service.
+     * <br/>
+     * The response is always fully consumed and closed,
+     * so the underlying connection is returned to the shared pool for reuse.
      *
      * @param client  any valid HTTP client that executes requests and reads responses
      * @param request any HTTP request that needs to be send to the service
@@ -268,8 +356,19 @@ public class RestApiClient {
      * @throws AuthenticationException in case of the incorrect credentials
      */
     private void setHeaders(HttpRequest request) throws AuthenticationException {
+        setHeaders(request, APPLICATION_JSON);
+    }
+
+    /**
+     * Set basic headers for the HTTP request with the payload in the given format.
+     *
+     * @param request     HTTP request to set headers to
+     * @param contentType media type of the request's payload (e.g. "application/json", "text/csv")
+     * @throws AuthenticationException in case of the incorrect credentials
+     */
+    private void setHeaders(HttpRequest request, String contentType) throws AuthenticationException {
         request.setHeader(ACCEPT_HEADER, APPLICATION_JSON);
-        request.setHeader(CONTENT_TYPE_HEADER, APPLICATION_JSON);
+        request.setHeader(CONTENT_TYPE_HEADER, contentType);
         request.addHeader(getAuthorizationHeader(request));
         additionalHeaders.forEach(header -> request.setHeader(header));
     }
@@ -289,28 +388,13 @@ public class RestApiClient {
                 var credentials = new UsernamePasswordCredentials(authentication.username, authentication.password);
                 return new BasicScheme().authenticate(credentials, httpRequest, null);
             case API_KEY:
-                return new BasicHeader(authentication.tokenKey, authentication.tokenValue);
+                var tokenValue = authentication.tokenValueSupplier != null
+                        ? authentication.tokenValueSupplier.get()
+                        : authentication.tokenValue;
+                return new BasicHeader(authentication.tokenKey, tokenValue);
             case NONE:
             default:
                 return null;
         }
     }
-
-    /**
-     * Create a custom HTTP client with the custom request configuration.
-     * <br/>
-     * Some custom settings are needed in order to deal with problematic REST API services
-     * (e.g. services that may hang the connection, or have a long response time).
-     */
-    private CloseableHttpClient createCustomHttpClient() {
-        var clientRequestConfig = RequestConfig.custom()
-                .setConnectTimeout(10_000)
-                .setSocketTimeout(30_000)
-                .setConnectionRequestTimeout(10_000)
-                .build();
-
-        return HttpClients.custom()
-                .setDefaultRequestConfig(clientRequestConfig)
-                .build();
-    }
 }
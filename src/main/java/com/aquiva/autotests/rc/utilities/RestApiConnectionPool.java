@@ -0,0 +1,110 @@
+package com.aquiva.autotests.rc.utilities;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Shared pool of the persistent (keep-alive) HTTP connections for all the REST API clients.
+ * <br/>
+ * All instances of {@link RestApiClient} (NGBS, AGS, SCP, TestIt, Salesforce...) send their requests
+ * via the single thread-safe HTTP client that reuses already established TCP/TLS connections,
+ * instead of creating (and closing) a new HTTP client for every request.
+ * <p></p>
+ * Pool settings can be controlled via system properties:
+ * <p> - {@code rest.pool.maxTotal}: max number of the connections in the pool (default: 50) </p>
+ * <p> - {@code rest.pool.maxPerRoute}: max number of the connections per host (default: 10) </p>
+ * <p> - {@code rest.pool.idleTimeout}: time (in seconds) after which idle connections are closed (default: 30) </p>
+ * <p> - {@code rest.pool.keepAlive}: time (in seconds) to keep the connection alive
+ * if the service doesn't provide its own "Keep-Alive" value (default: 60) </p>
+ */
+public class RestApiConnectionPool {
+    private static final int MAX_TOTAL = parseInt(System.getProperty("rest.pool.maxTotal", "50"));
+    private static final int MAX_PER_ROUTE = parseInt(System.getProperty("rest.pool.maxPerRoute", "10"));
+    private static final long IDLE_TIMEOUT_SECONDS = parseLong(System.getProperty("rest.pool.idleTimeout", "30"));
+    private static final long KEEP_ALIVE_MILLIS = parseLong(System.getProperty("rest.pool.keepAlive", "60")) * 1000;
+
+    private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+    private static final CloseableHttpClient HTTP_CLIENT = createHttpClient();
+
+    /**
+     * Get the shared HTTP client that works with the pool of the persistent connections.
+     * <br/>
+     * <b> Note: the client should NOT be closed after the request! </b>
+     * Only the response should be closed to return the connection to the pool.
+     *
+     * @return thread-safe HTTP client with the pooled connections
+     */
+    public static CloseableHttpClient getHttpClient() {
+        return HTTP_CLIENT;
+    }
+
+    /**
+     * Get the current statistics for the pool of the connections.
+     *
+     * @return pool statistics with the number of leased, available and pending connections
+     */
+    public static PoolStats getPoolStats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    /**
+     * Get the current statistics for the pool of the connections in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current pool statistics
+     * (e.g. "leased: 2; pending: 0; available: 5; max: 50")
+     */
+    public static String getPoolStatsFormatted() {
+        var poolStats = getPoolStats();
+        return String.format("leased: %d; pending: %d; available: %d; max: %d",
+                poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(), poolStats.getMax());
+    }
+
+    /**
+     * Create a connection manager with the limits for the total number of the connections
+     * and the number of the connections per route (host).
+     */
+    private static PoolingHttpClientConnectionManager createConnectionManager() {
+        var connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_TOTAL);
+        connectionManager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        //  Stale connections are revalidated if they've been idle for some time
+        connectionManager.setValidateAfterInactivity(2_000);
+
+        return connectionManager;
+    }
+
+    /**
+     * Create a shared HTTP client with the custom request configuration.
+     * <br/>
+     * Some custom settings are needed in order to deal with problematic REST API services
+     * (e.g. services that may hang the connection, or have a long response time).
+     */
+    private static CloseableHttpClient createHttpClient() {
+        var clientRequestConfig = RequestConfig.custom()
+                .setConnectTimeout(10_000)
+                .setSocketTimeout(30_000)
+                .setConnectionRequestTimeout(10_000)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(CONNECTION_MANAGER)
+                .setDefaultRequestConfig(clientRequestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    var keepAliveFromService = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return keepAliveFromService > 0 ? keepAliveFromService : KEEP_ALIVE_MILLIS;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_TIMEOUT_SECONDS, SECONDS)
+                .build();
+    }
+}
@@ -2,15 +2,23 @@ package com.aquiva.autotests.rc.utilities.ags;
 
 import com.aquiva.autotests.rc.model.ags.AccountAgsDTO;
 import com.aquiva.autotests.rc.model.ags.JobResultInfoDTO;
+import com.aquiva.autotests.rc.utilities.DaemonThreadFactory;
+import com.aquiva.autotests.rc.utilities.JsonUtils;
 import com.aquiva.autotests.rc.utilities.RestApiClient;
 import io.qameta.allure.Step;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import static com.aquiva.autotests.rc.utilities.RestApiAuthentication.usingNoAuthentication;
 import static com.aquiva.autotests.rc.utilities.ags.AGSRestApiHelper.*;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Class for handling calls to AGS API (Account Generation System).
@@ -29,6 +37,14 @@ public class AGSRestApiClient {
     private static final long JOB_STATUS_TIMEOUT = 
             Long.parseLong(System.getProperty("ags.create.timeout", "420")) * 1000;
     private static final long POLLING_INTERVAL = 3_000L;
+    private static final long MAX_POLLING_INTERVAL =
+            Long.parseLong(System.getProperty("ags.polling.maxInterval", "15")) * 1000;
+    private static final double POLLING_BACKOFF_MULTIPLIER = 1.5;
+
+    //  Shared scheduler for polling job results of all the AGS jobs (no thread is busy while waiting)
+    private static final ScheduledExecutorService POLLING_EXECUTOR = Executors.newScheduledThreadPool(
+            Integer.parseInt(System.getProperty("ags.polling.threads", "2")),
+            new DaemonThreadFactory("ags-job-polling"));
 
     /**
      * Generate a new account in NGBS via AGS.
@@ -48,42 +64,104 @@ public class AGSRestApiClient {
      * after successful account creation.
      * @throws RuntimeException if timeout for job status waiting is exceeded, or job has failed,
      *                          or if there's an error returned from AGS services (4xx, 5xx response codes).
+     * @see #createAccountAsync(String)
      */
     @Step("Generate a new account in NGBS via AGS REST API")
     public static AccountAgsDTO createAccount(String scenario) {
+        return getGeneratedAccount(createAccountAsync(scenario));
+    }
+
+    /**
+     * Wait for the account's generation that was started via {@link #createAccountAsync(String)},
+     * and get the generated account.
+     *
+     * @param accountGeneration future of the account's generation via AGS
+     * @return {@link AccountAgsDTO} object which is deserialized version of JSON response from AGS API
+     * after successful account creation.
+     * @throws RuntimeException the same exception as the one that the generation has failed with
+     *                          (e.g. if timeout for job status waiting is exceeded, or job has failed)
+     */
+    public static AccountAgsDTO getGeneratedAccount(CompletableFuture<AccountAgsDTO> accountGeneration) {
+        try {
+            return accountGeneration.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Start generating a new account in NGBS via AGS, and get the result asynchronously.
+     * <p></p>
+     * The job is submitted right away, and its status is polled in the background
+     * via the shared scheduler with the increasing interval between the checks
+     * (from 3 seconds up to {@code ags.polling.maxInterval} seconds).
+     * No thread is blocked while waiting for the next check,
+     * so several AGS jobs can be submitted and awaited concurrently.
+     *
+     * @param scenario scenario for AGS API to create account with parameters
+     *                 (e.g. <b>"ngbs(brand=1210,package=1231005v2,dlCount=30)"</b>)
+     * @return future that is completed with {@link AccountAgsDTO} object after successful account creation,
+     * or completed exceptionally if timeout for job status waiting is exceeded, or job has failed,
+     * or if there's an error returned from AGS services (4xx, 5xx response codes).
+     * @see #createAccount(String)
+     */
+    public static CompletableFuture<AccountAgsDTO> createAccountAsync(String scenario) {
         var jobId = generateNewAccount(scenario);
+        var deadline = System.currentTimeMillis() + JOB_STATUS_TIMEOUT;
 
-        //  Below is just an implementation of interval polling of "jobStatus" service without using any Thread.sleep()
-        var start = System.currentTimeMillis();
-
-        String jobStatus;
-        while (!(jobStatus = checkJobStatus(jobId)).equalsIgnoreCase("SUCCESS")) {
-            var cycleStart = System.currentTimeMillis();
-
-            if (System.currentTimeMillis() - start > JOB_STATUS_TIMEOUT) {
-                throw new RuntimeException("Timeout exceeded getting 'SUCCESS' job status! " +
-                        "Current job status = " + jobStatus);
-            } else if (jobStatus.equalsIgnoreCase("FAILED")) {
-                var errorDetails = getJobResultErrorDescription(jobId);
-                throw new RuntimeException(
-                        format("Current AGS job with id=%d failed! \n" +
-                                        "Please review your AGS scenario '%s' in test data or check AGS availability.\n" +
-                                        "Additional details from AGS: \n'%s'",
-                                jobId, scenario, errorDetails));
+        var result = new CompletableFuture<AccountAgsDTO>();
+        scheduleJobStatusCheck(jobId, scenario, deadline, 0L, POLLING_INTERVAL, result);
+        return result;
+    }
+
+    /**
+     * Schedule the next check of the account generation's job status.
+     * <p></p>
+     * If the job is still in progress, the next check is scheduled with the increased interval.
+     * Otherwise, the provided future is completed with the generated account's info (or with the error).
+     *
+     * @param jobId        ID of job for account generation (e.g. 93744, 84347, etc...)
+     * @param scenario     scenario for AGS API that the job was started with (for error messages)
+     * @param deadline     time (in millis) after which the job is considered as timed out
+     * @param delay        delay (in millis) before the current check
+     * @param nextInterval delay (in millis) before the next check, if the job is still in progress
+     * @param result       future to complete with the generated account's info
+     */
+    private static void scheduleJobStatusCheck(long jobId, String scenario, long deadline, long delay,
+                                               long nextInterval, CompletableFuture<AccountAgsDTO> result) {
+        POLLING_EXECUTOR.schedule(() -> {
+            if (result.isDone()) {
+                return;
             }
 
-            while (true) {
-                if (System.currentTimeMillis() - cycleStart > POLLING_INTERVAL) {
-                    break;
+            try {
+                var jobStatus = checkJobStatus(jobId);
+
+                if (jobStatus.equalsIgnoreCase("SUCCESS")) {
+                    var accountInfo = getGeneratedAccountInfo(jobId);
+                    LOG.info(String.format("NGBS Account created via AGS: billingId = %s, packageId = %s",
+                            accountInfo.getAccountBillingId(), accountInfo.getAccountPackageId()));
+                    result.complete(accountInfo);
+                } else if (System.currentTimeMillis() > deadline) {
+                    result.completeExceptionally(new RuntimeException("Timeout exceeded getting 'SUCCESS' job status! " +
+                            "Current job status = " + jobStatus));
+                } else if (jobStatus.equalsIgnoreCase("FAILED")) {
+                    var errorDetails = getJobResultErrorDescription(jobId);
+                    result.completeExceptionally(new RuntimeException(
+                            format("Current AGS job with id=%d failed! \n" +
+                                            "Please review your AGS scenario '%s' in test data or check AGS availability.\n" +
+                                            "Additional details from AGS: \n'%s'",
+                                    jobId, scenario, errorDetails)));
+                } else {
+                    var increasedInterval = Math.min((long) (nextInterval * POLLING_BACKOFF_MULTIPLIER), MAX_POLLING_INTERVAL);
+                    scheduleJobStatusCheck(jobId, scenario, deadline, nextInterval, increasedInterval, result);
                 }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
             }
-        }
-
-        var accountInfo = getGeneratedAccountInfo(jobId);
-        LOG.info(String.format("NGBS Account created via AGS: billingId = %s, packageId = %s",
-                accountInfo.getAccountBillingId(), accountInfo.getAccountPackageId()));
-
-        return accountInfo;
+        }, delay, MILLISECONDS);
     }
 
     /**
@@ -113,7 +191,7 @@ public class AGSRestApiClient {
      */
     private static String checkJobStatus(long jobId) {
         var url = getJobStatusURL(jobId);
-        var response = CLIENT.get(url);
+        var response = CLIENT.getWithoutReporting(url);
         return new JSONObject(response).getString("status");
     }
 
@@ -125,7 +203,7 @@ public class AGSRestApiClient {
      */
     private static String getJobResultErrorDescription(long jobId) {
         var url = getJobResultInfoURL(jobId);
-        var jobResultInfo = CLIENT.get(url, JobResultInfoDTO.class);
+        var jobResultInfo = JsonUtils.readJson(CLIENT.getWithoutReporting(url), JobResultInfoDTO.class);
         return jobResultInfo.getMainJob().error;
     }
 
@@ -143,7 +221,7 @@ public class AGSRestApiClient {
      */
     private static AccountAgsDTO getGeneratedAccountInfo(long jobId) {
         var url = getJobResultURL(jobId);
-        var generatedAccounts = CLIENT.getAsList(url, AccountAgsDTO.class);
+        var generatedAccounts = JsonUtils.readJsonAsList(CLIENT.getWithoutReporting(url), AccountAgsDTO.class);
         return generatedAccounts.get(0);
     }
 }
@@ -0,0 +1,425 @@
+package com.aquiva.autotests.rc.utilities.ags;
+
+import com.aquiva.autotests.rc.model.ags.AccountAgsDTO;
+import com.aquiva.autotests.rc.utilities.DaemonThreadFactory;
+import com.aquiva.autotests.rc.utilities.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Persistent pool of the NGBS accounts that are pre-generated via AGS
+ * for the tests related to the Existing Business functionality (see {@link AGSRestApiClient}).
+ * <br/>
+ * Account generation via AGS takes minutes, so the accounts are generated ahead of time,
+ * stored in the local folder (see {@link #POOL_FOLDER}), and the tests lease them in milliseconds.
+ * <p></p>
+ * The pool's folder has the following structure:
+ * <p> - {@code ready/<scenario>/*.json}: generated accounts that are ready to be leased
+ * (full AGS response with billing ID, package ID, RC user ID, etc.) </p>
+ * <p> - {@code consumed/<scenario>/*.json}: accounts that have already been leased by the tests </p>
+ * <p> - {@code pending/<scenario>/*.pending}: markers of the accounts that are being generated by any JVM </p>
+ * <p> - {@code pool.lock}: lock file for the leases and the refills </p>
+ * <p></p>
+ * Every account is leased exclusively: the lease holds the lock on the pool's lock file
+ * (so the parallel workers and the separate JVMs never get the same account),
+ * and moves the account's file into the "consumed" folder.
+ * <br/>
+ * The pool is filled by the background producer: after every lease, the new accounts for the same scenario
+ * are generated asynchronously until there are {@link #POOL_SIZE} ready and pending accounts.
+ * The pending accounts are counted via the marker files under the same lock,
+ * so the JVMs that share the pool's folder don't generate the extra accounts.
+ * The markers of the abandoned generations (e.g. after the JVM's crash) expire after {@link #PENDING_MAX_AGE}.
+ * <br/>
+ * At the end of the run, the new refills are cancelled, and the pending generations
+ * are awaited for {@link #SHUTDOWN_WAIT_MINUTES} at most, so their accounts are not lost.
+ * If they're not finished in time, their markers are removed, so the other JVMs can refill the pool right away.
+ * Note: the test runner should not kill the JVM before that
+ * (e.g. see {@code forkedProcessExitTimeoutInSeconds} of Maven Surefire plugin in pom.xml).
+ * <br/>
+ * The pool can also be filled before the test run via {@link #main(String[])}.
+ * If there's no ready account for the scenario, it's generated right away (as usual).
+ * <br/>
+ * The accounts that are older than {@link #MAX_AGE} are never leased (they're removed from the pool).
+ * <p></p>
+ * Its settings can be controlled via system properties:
+ * <p> - {@code ags.pool}: if true, the accounts are leased from the pool (default: false) </p>
+ * <p> - {@code ags.pool.folder}: path to the pool's folder (default: "ags-account-pool") </p>
+ * <p> - {@code ags.pool.size}: number of the ready accounts to keep for every scenario (default: 2) </p>
+ * <p> - {@code ags.pool.maxAgeHours}: max age of the ready accounts (default: 72) </p>
+ * <p> - {@code ags.pool.shutdownWaitMinutes}: max time to wait for the pending generations
+ * at the end of the run (default: 10) </p>
+ */
+public class AgsAccountPool {
+    private static final Logger LOG = LoggerFactory.getLogger(AgsAccountPool.class);
+
+    /**
+     * A flag that indicates whether the generated accounts are leased from the pool.
+     */
+    public static final boolean IS_ENABLED = parseBoolean(System.getProperty("ags.pool", "false"));
+    /**
+     * Path to the local folder with the pool's accounts.
+     */
+    public static final Path POOL_FOLDER = Path.of(System.getProperty("ags.pool.folder", "ags-account-pool"));
+    /**
+     * Number of the ready accounts to keep for every scenario.
+     */
+    public static final int POOL_SIZE = parseInt(System.getProperty("ags.pool.size", "2"));
+    /**
+     * Max age of the ready accounts in the pool.
+     */
+    public static final Duration MAX_AGE = Duration.ofHours(parseInt(System.getProperty("ags.pool.maxAgeHours", "72")));
+    /**
+     * Max time to wait for the pending generations at the end of the run (in minutes).
+     */
+    public static final int SHUTDOWN_WAIT_MINUTES = parseInt(System.getProperty("ags.pool.shutdownWaitMinutes", "10"));
+    /**
+     * Max age of the pending generation's marker, after which the generation is considered abandoned
+     * (much longer than AGS job's timeout).
+     */
+    public static final Duration PENDING_MAX_AGE = Duration.ofHours(1);
+
+    private static final Path READY_FOLDER = POOL_FOLDER.resolve("ready");
+    private static final Path CONSUMED_FOLDER = POOL_FOLDER.resolve("consumed");
+    private static final Path PENDING_FOLDER = POOL_FOLDER.resolve("pending");
+    private static final Path LOCK_FILE = POOL_FOLDER.resolve("pool.lock");
+
+    //  Lock for the leases inside the current JVM (file locks are held on behalf of the whole JVM)
+    private static final Object JVM_LOCK = new Object();
+
+    //  Executor for the refills, so the test threads don't wait for AGS jobs' submission (only if the pool is enabled)
+    private static final ExecutorService REFILL_EXECUTOR = IS_ENABLED
+            ? Executors.newSingleThreadExecutor(new DaemonThreadFactory("ags-account-pool"))
+            : null;
+    //  Generations started by the current JVM that are not finished yet, and their markers
+    private static final Set<CompletableFuture<Void>> PENDING_GENERATIONS = ConcurrentHashMap.newKeySet();
+    private static final Set<Path> PENDING_MARKERS = ConcurrentHashMap.newKeySet();
+
+    //  Metrics for the leases
+    private static final LongAdder LEASES = new LongAdder();
+    private static final LongAdder HITS = new LongAdder();
+
+    static {
+        if (IS_ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(AgsAccountPool::awaitPendingGenerations));
+        }
+    }
+
+    /**
+     * Lease a pre-generated NGBS account for the scenario from the pool,
+     * or generate a new one via AGS, if there's no ready account (or the pool is disabled).
+     *
+     * @param scenario scenario for AGS API to create account with parameters
+     *                 (e.g. <b>"ngbs(brand=1210,package=1231005v2,dlCount=30)"</b>)
+     * @return {@link AccountAgsDTO} object with the generated account's info
+     * @throws RuntimeException if the account can't be generated via AGS
+     * @see AGSRestApiClient#createAccount(String)
+     */
+    public static AccountAgsDTO leaseOrCreate(String scenario) {
+        if (!IS_ENABLED) {
+            return AGSRestApiClient.createAccount(scenario);
+        }
+
+        LEASES.increment();
+        AccountAgsDTO account = null;
+        try {
+            account = lease(scenario);
+        } catch (Exception e) {
+            LOG.warn("Unable to lease the account from AGS account pool! Details: {}", e.toString());
+        }
+
+        REFILL_EXECUTOR.execute(() -> refill(scenario));
+
+        if (account != null) {
+            HITS.increment();
+            LOG.info("NGBS Account is leased from AGS account pool: billingId = {}, packageId = {}",
+                    account.getAccountBillingId(), account.getAccountPackageId());
+            return account;
+        }
+        return AGSRestApiClient.createAccount(scenario);
+    }
+
+    /**
+     * Get the current statistics for the leases from the pool in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics (e.g. "leases: 40, hits: 36 (90%)"),
+     * or empty string if there were no leases yet
+     */
+    public static String getStatsFormatted() {
+        var leases = LEASES.sum();
+        if (leases == 0) {
+            return "";
+        }
+
+        var hits = HITS.sum();
+        return String.format("leases: %d, hits: %d (%d%%)", leases, hits, hits * 100 / leases);
+    }
+
+    /**
+     * Fill the pool with the accounts for the given scenarios before the test run
+     * (e.g. as a separate step in CI pipeline), and wait until all of them are generated.
+     *
+     * @param scenarios scenarios for AGS API (e.g. "ngbs(brand=1210,package=1231005v2,dlCount=30)")
+     */
+    public static void main(String[] scenarios) {
+        var generations = new ArrayList<CompletableFuture<Void>>();
+        for (var scenario : scenarios) {
+            generations.addAll(refill(scenario));
+        }
+
+        CompletableFuture.allOf(generations.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Lease the ready account for the scenario: take the oldest one from the pool,
+     * and mark it as consumed (under the lock for all the JVMs).
+     *
+     * @param scenario scenario for AGS API
+     * @return {@link AccountAgsDTO} object with the leased account's info,
+     * or {@code null} if there are no ready accounts for the scenario
+     * @throws IOException in case of errors while accessing the pool's files
+     */
+    private static AccountAgsDTO lease(String scenario) throws IOException {
+        synchronized (JVM_LOCK) {
+            Files.createDirectories(POOL_FOLDER);
+            try (var lockChannel = FileChannel.open(LOCK_FILE, CREATE, WRITE);
+                 var ignored = lockChannel.lock()) {
+                var consumedFolder = CONSUMED_FOLDER.resolve(getFolderName(scenario));
+                for (var accountFile : getReadyAccountFiles(scenario)) {
+                    var consumedFile = consumedFolder.resolve(accountFile.getFileName());
+                    Files.createDirectories(consumedFolder);
+                    Files.move(accountFile, consumedFile, ATOMIC_MOVE);
+
+                    if (isExpired(consumedFile)) {
+                        LOG.info("Account in AGS account pool is expired: {}", consumedFile.getFileName());
+                        continue;
+                    }
+                    return JsonUtils.readJson(Files.readString(consumedFile, UTF_8), AccountAgsDTO.class);
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Start generating the new accounts for the scenario,
+     * until there are {@link #POOL_SIZE} ready and pending accounts (in all the JVMs that share the pool).
+     * <br/>
+     * The pending generations are marked with the files under the pool's lock,
+     * and the markers are removed when the generations are finished (after their accounts are added to the pool).
+     *
+     * @param scenario scenario for AGS API
+     * @return futures that are completed when the new accounts are added to the pool (or their generation fails)
+     */
+    private static List<CompletableFuture<Void>> refill(String scenario) {
+        var pendingMarkers = new ArrayList<Path>();
+        try {
+            synchronized (JVM_LOCK) {
+                Files.createDirectories(POOL_FOLDER);
+                try (var lockChannel = FileChannel.open(LOCK_FILE, CREATE, WRITE);
+                     var ignored = lockChannel.lock()) {
+                    var pendingFolder = PENDING_FOLDER.resolve(getFolderName(scenario));
+                    Files.createDirectories(pendingFolder);
+
+                    var missingCount = POOL_SIZE - getReadyAccountFiles(scenario).size() - getPendingCount(pendingFolder);
+                    for (int i = 0; i < missingCount; i++) {
+                        pendingMarkers.add(Files.createTempFile(pendingFolder, "generation", ".pending"));
+                    }
+                    PENDING_MARKERS.addAll(pendingMarkers);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to refill AGS account pool! Details: {}", e.toString());
+        }
+
+        var generations = new ArrayList<CompletableFuture<Void>>();
+        for (var pendingMarker : pendingMarkers) {
+            generations.add(generate(scenario).whenComplete((result, error) -> removePendingMarker(pendingMarker)));
+        }
+        return generations;
+    }
+
+    /**
+     * Generate a new account for the scenario via AGS asynchronously, and add it to the pool.
+     *
+     * @param scenario scenario for AGS API
+     * @return future that is completed when the account is added to the pool (or the generation fails)
+     */
+    private static CompletableFuture<Void> generate(String scenario) {
+        CompletableFuture<Void> generation;
+        try {
+            generation = AGSRestApiClient.createAccountAsync(scenario)
+                    .thenAccept(account -> addToPool(scenario, account))
+                    .exceptionally(error -> {
+                        LOG.warn("Unable to generate the account for AGS account pool! Details: {}", error.toString());
+                        return null;
+                    });
+        } catch (Exception e) {
+            LOG.warn("Unable to generate the account for AGS account pool! Details: {}", e.toString());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        PENDING_GENERATIONS.add(generation);
+        generation.whenComplete((result, error) -> PENDING_GENERATIONS.remove(generation));
+        return generation;
+    }
+
+    /**
+     * Cancel the new refills, and wait for the pending generations of the current JVM
+     * (for {@link #SHUTDOWN_WAIT_MINUTES} at most), so their accounts are added to the pool before the JVM's exit.
+     * The markers of the generations that are not finished in time are removed,
+     * so they don't block the refills in the other JVMs for {@link #PENDING_MAX_AGE}.
+     * <br/>
+     * Note: invoked at the end of the run (in the shutdown hook).
+     */
+    private static void awaitPendingGenerations() {
+        REFILL_EXECUTOR.shutdownNow();
+        try {
+            REFILL_EXECUTOR.awaitTermination(1, MINUTES);
+
+            if (PENDING_GENERATIONS.isEmpty()) {
+                return;
+            }
+            LOG.info("Waiting for {} account(s) being generated for AGS account pool...", PENDING_GENERATIONS.size());
+            CompletableFuture.allOf(PENDING_GENERATIONS.toArray(new CompletableFuture[0]))
+                    .get(SHUTDOWN_WAIT_MINUTES, MINUTES);
+        } catch (TimeoutException e) {
+            LOG.warn("{} account(s) for AGS account pool are not generated in {} min, and they're abandoned",
+                    PENDING_GENERATIONS.size(), SHUTDOWN_WAIT_MINUTES);
+            PENDING_MARKERS.forEach(AgsAccountPool::removePendingMarker);
+        } catch (InterruptedException | ExecutionException ignored) {
+        }
+    }
+
+    /**
+     * Get the number of the accounts for the scenario that are being generated by all the JVMs,
+     * and remove the markers of the abandoned generations (older than {@link #PENDING_MAX_AGE}).
+     * <br/>
+     * Note: should be called under the pool's lock.
+     *
+     * @param pendingFolder folder with the markers of the pending generations for the scenario
+     * @return number of the pending generations
+     * @throws IOException in case of errors while accessing the pool's files
+     */
+    private static int getPendingCount(Path pendingFolder) throws IOException {
+        var pendingCount = 0;
+        try (Stream<Path> files = Files.list(pendingFolder)) {
+            for (var pendingMarker : (Iterable<Path>) files::iterator) {
+                var createdTime = Instant.ofEpochMilli(pendingMarker.toFile().lastModified());
+                if (createdTime.plus(PENDING_MAX_AGE).isBefore(Instant.now())) {
+                    LOG.info("Pending generation in AGS account pool is abandoned: {}", pendingMarker.getFileName());
+                    Files.deleteIfExists(pendingMarker);
+                } else {
+                    pendingCount++;
+                }
+            }
+        }
+        return pendingCount;
+    }
+
+    /**
+     * Remove the marker of the pending generation that is started by the current JVM.
+     *
+     * @param pendingMarker marker's file of the pending generation
+     */
+    private static void removePendingMarker(Path pendingMarker) {
+        try {
+            Files.deleteIfExists(pendingMarker);
+            PENDING_MARKERS.remove(pendingMarker);
+        } catch (IOException e) {
+            LOG.warn("Unable to remove the pending generation's marker {}! Details: {}", pendingMarker, e.toString());
+        }
+    }
+
+    /**
+     * Add the generated account to the pool's ready accounts.
+     * <br/>
+     * The account's file is written under a temporary name first,
+     * so the leases never read the incomplete file.
+     *
+     * @param scenario scenario for AGS API that the account was generated with
+     * @param account  generated account's info
+     */
+    private static void addToPool(String scenario, AccountAgsDTO account) {
+        try {
+            var readyFolder = READY_FOLDER.resolve(getFolderName(scenario));
+            Files.createDirectories(readyFolder);
+
+            var tempFile = Files.createTempFile(readyFolder, account.getAccountBillingId(), ".tmp");
+            Files.writeString(tempFile, JsonUtils.writeJsonAsString(account), UTF_8);
+            Files.move(tempFile, readyFolder.resolve(account.getAccountBillingId() + ".json"), ATOMIC_MOVE);
+
+            LOG.info("NGBS Account is added to AGS account pool: billingId = {}, scenario = {}",
+                    account.getAccountBillingId(), scenario);
+        } catch (IOException e) {
+            LOG.warn("Unable to add the account to AGS account pool! Details: {}", e.toString());
+        }
+    }
+
+    /**
+     * Get the files of the ready accounts for the scenario, oldest first.
+     *
+     * @param scenario scenario for AGS API
+     * @return list of the ready accounts' files (empty list, if there are none)
+     */
+    private static List<Path> getReadyAccountFiles(String scenario) {
+        var readyFolder = READY_FOLDER.resolve(getFolderName(scenario));
+        if (!Files.isDirectory(readyFolder)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(readyFolder)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(file -> file.toFile().lastModified()))
+                    .collect(toList());
+        } catch (IOException e) {
+            LOG.warn("Unable to read AGS account pool's folder {}! Details: {}", readyFolder, e.toString());
+            return List.of();
+        }
+    }
+
+    /**
+     * Check if the account in the pool is too old to be used in the tests.
+     *
+     * @param accountFile file with the account's info
+     * @return true, if the account is older than {@link #MAX_AGE}
+     */
+    private static boolean isExpired(Path accountFile) {
+        var createdTime = Instant.ofEpochMilli(accountFile.toFile().lastModified());
+        return createdTime.plus(MAX_AGE).isBefore(Instant.now());
+    }
+
+    /**
+     * Get the name of the pool's folder for the scenario.
+     *
+     * @param scenario scenario for AGS API (e.g. "ngbs(brand=1210,package=1231005v2,dlCount=30)")
+     * @return name of the folder that is safe for any file system (e.g. "ngbs_brand=1210,package=1231005v2,dlCount=30_")
+     */
+    private static String getFolderName(String scenario) {
+        return scenario.replaceAll("[^A-Za-z0-9=,._-]", "_");
+    }
+}
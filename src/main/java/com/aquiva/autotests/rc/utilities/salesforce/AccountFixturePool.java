@@ -0,0 +1,195 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.utilities.DaemonThreadFactory;
+import com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory.AccountData;
+import com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory.AccountFixture;
+import com.sforce.soap.enterprise.sobject.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory.createAccountInSFDC;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.AccountHelper.getPrimaryContactOnAccount;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Run-scoped pool of the pre-created test Accounts with the related Contact and Primary Signatory AccountContactRole
+ * (see {@link com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory#createAccountInSFDC(User, AccountData)}).
+ * <br/>
+ * The fixtures are created in the background, and the tests lease the ready ones instantly
+ * instead of waiting for their creation via API.
+ * The fixtures are grouped by the attributes that define the Account
+ * (owner user, currency, billing country, brand).
+ * <br/>
+ * The pool for the attributes is warmed up only after the second lease with them
+ * (so the one-off attributes don't leave the unused fixtures in the org),
+ * and then it's refilled asynchronously after every lease.
+ * If there's no ready fixture, the new one is created right away (as usual).
+ * <p></p>
+ * Note: only the New Business Accounts (without billing ID) are pooled.
+ * Existing Business Accounts are linked to the unique billing accounts in NGBS, and they're always created right away.
+ * <br/>
+ * Note: Opportunities are not pre-created, as many tests create their own Opportunities
+ * (or none at all), and an additional Opportunity on the Account would affect such tests.
+ * <br/>
+ * Note: the fixtures that are not leased until the end of the run are left in the org, like any other test data.
+ * <p></p>
+ * Its settings can be controlled via system properties:
+ * <p> - {@code sf.fixturePool}: if true, the fixtures are pre-created in the background (default: false) </p>
+ * <p> - {@code sf.fixturePool.size}: number of the ready fixtures to keep for every group of attributes (default: 2) </p>
+ * <p> - {@code sf.fixturePool.threads}: number of the background threads to create the fixtures (default: 2) </p>
+ */
+public class AccountFixturePool {
+    private static final Logger LOG = LoggerFactory.getLogger(AccountFixturePool.class);
+
+    private static final boolean IS_ENABLED = parseBoolean(System.getProperty("sf.fixturePool", "false"));
+    private static final int POOL_SIZE = parseInt(System.getProperty("sf.fixturePool.size", "2"));
+    private static final int THREADS = parseInt(System.getProperty("sf.fixturePool.threads", "2"));
+
+    //  Ready fixtures by the group of the Account's attributes
+    private static final Map<String, Queue<PooledFixture>> READY_FIXTURES = new ConcurrentHashMap<>();
+    //  Number of the ready + in-progress fixtures by the group of the Account's attributes
+    private static final Map<String, AtomicInteger> POOLED_COUNTS = new ConcurrentHashMap<>();
+    //  Number of the leases by the group of the Account's attributes
+    private static final Map<String, AtomicInteger> LEASE_COUNTS = new ConcurrentHashMap<>();
+
+    //  Min number of the leases with the same attributes before their fixtures are pre-created
+    private static final int MIN_LEASES_TO_REFILL = 2;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS,
+            new DaemonThreadFactory("account-fixture-pool"));
+
+    //  Metrics for the leases
+    private static final LongAdder LEASES = new LongAdder();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder SAVED_NANOS = new LongAdder();
+
+    /**
+     * Lease a ready Account with the related Contact and AccountContactRole,
+     * or create a new one via API, if there's no ready fixture with the same attributes.
+     * <br/>
+     * The leased fixture belongs to the caller only, and it's never leased again.
+     *
+     * @param ownerUser   Salesforce User that will be the owner of the resulting records
+     *                    (usually, a sales user used for testing)
+     * @param accountData data object with the Account's data
+     *                    (should contain Currency ISO Code, Billing Country, Brand, etc.)
+     * @return fixture with the Account and its primary Contact with their IDs from Salesforce
+     * @throws Exception in case of malformed query, DB or network errors.
+     */
+    public static AccountFixture lease(User ownerUser, AccountData accountData) throws Exception {
+        if (!IS_ENABLED || (accountData.billingId != null && !accountData.billingId.isBlank())) {
+            return createFixture(ownerUser, accountData);
+        }
+
+        LEASES.increment();
+        var key = String.join(":", ownerUser.getId(), accountData.currencyIsoCode, accountData.billingCountry,
+                accountData.rcBrand, accountData.permittedBrands);
+
+        var pooledFixture = READY_FIXTURES.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).poll();
+        if (pooledFixture != null) {
+            POOLED_COUNTS.get(key).decrementAndGet();
+            HITS.increment();
+            SAVED_NANOS.add(pooledFixture.creationNanos);
+        }
+
+        var leaseCount = LEASE_COUNTS.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        if (leaseCount >= MIN_LEASES_TO_REFILL) {
+            refill(key, ownerUser, accountData);
+        }
+
+        return pooledFixture != null
+                ? pooledFixture.fixture
+                : createFixture(ownerUser, accountData);
+    }
+
+    /**
+     * Get the current statistics for the leases of the fixtures in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics
+     * (e.g. "leases: 120, hits: 96 (80%), setup time saved: 1150 s"),
+     * or empty string if there were no leases yet
+     */
+    public static String getStatsFormatted() {
+        var leases = LEASES.sum();
+        if (leases == 0) {
+            return "";
+        }
+
+        var hits = HITS.sum();
+        return String.format("leases: %d, hits: %d (%d%%), setup time saved: %d s",
+                leases, hits, hits * 100 / leases, NANOSECONDS.toSeconds(SAVED_NANOS.sum()));
+    }
+
+    /**
+     * Start the creation of the new fixtures in the background, until the pool for the attributes is full.
+     *
+     * @param key         group of the Account's attributes
+     * @param ownerUser   Salesforce User that will be the owner of the resulting records
+     * @param accountData data object with the Account's data
+     */
+    private static void refill(String key, User ownerUser, AccountData accountData) {
+        var pooledCount = POOLED_COUNTS.computeIfAbsent(key, k -> new AtomicInteger());
+        while (true) {
+            var count = pooledCount.get();
+            if (count >= POOL_SIZE) {
+                return;
+            }
+            if (pooledCount.compareAndSet(count, count + 1)) {
+                EXECUTOR.submit(() -> {
+                    try {
+                        var startTime = System.nanoTime();
+                        var fixture = createFixture(ownerUser, accountData);
+                        READY_FIXTURES.get(key).add(new PooledFixture(fixture, System.nanoTime() - startTime));
+                    } catch (Exception e) {
+                        pooledCount.decrementAndGet();
+                        LOG.warn("Unable to pre-create the Account fixture! Details: {}", e.toString());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Create a new Account with the related Contact and AccountContactRole via API.
+     *
+     * @param ownerUser   Salesforce User that will be the owner of the resulting records
+     * @param accountData data object with the Account's data
+     * @return fixture with the Account and its primary Contact with their IDs from Salesforce
+     * @throws Exception in case of malformed query, DB or network errors.
+     */
+    private static AccountFixture createFixture(User ownerUser, AccountData accountData) throws Exception {
+        var fixture = new AccountFixture();
+        fixture.account = createAccountInSFDC(ownerUser, accountData);
+        fixture.contact = getPrimaryContactOnAccount(fixture.account);
+        return fixture;
+    }
+
+    /**
+     * Ready fixture in the pool.
+     */
+    private static class PooledFixture {
+        private final AccountFixture fixture;
+        //  Time that was spent to create the fixture (in nanoseconds)
+        private final long creationNanos;
+
+        /**
+         * Constructor for the ready fixture in the pool.
+         *
+         * @param fixture       pre-created Account with the related records
+         * @param creationNanos time that was spent to create the fixture (in nanoseconds)
+         */
+        private PooledFixture(AccountFixture fixture, long creationNanos) {
+            this.fixture = fixture;
+            this.creationNanos = creationNanos;
+        }
+    }
+}
@@ -6,7 +6,12 @@ import com.sforce.soap.tooling.ToolingConnection;
 import com.sforce.ws.ConnectionException;
 import com.sforce.ws.ConnectorConfig;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import static com.aquiva.autotests.rc.utilities.Constants.*;
+import static java.lang.Integer.parseInt;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Factory class for producing instances of API connection objects.
@@ -15,9 +20,28 @@ import static com.aquiva.autotests.rc.utilities.Constants.*;
  * Supported object types are:
  * <p> - Enterprise Connection (for most operations with SFDC objects) </p>
  * <p> - Tooling Connection (for access to metadata; for invoking Apex code) </p>
+ * <p> - Metadata Connection (for creating/deleting metadata, e.g. records of Custom Metadata Types) </p>
+ * <p></p>
+ * Connections for the default configuration share the same session
+ * (see {@link SalesforceSessionManager}), so the test user logs in only once.
+ * <br/>
+ * Also, it produces pools of the connection objects for every type,
+ * to let the parallel test threads access SFDC via SOAP API without waiting for each other.
  */
 public class ConnectionFactory {
 
+    /**
+     * Max number of the connection objects in the pool for every connection type
+     * (should be close to the number of the parallel test threads).
+     */
+    private static final int CONNECTION_POOL_SIZE = parseInt(System.getProperty("sf.connectionPool.size",
+            System.getProperty("junit.parallelism", "4")));
+
+    /**
+     * All the connection pools created by the factory (for the reporting).
+     */
+    private static final List<SalesforceConnectionPool<?>> CONNECTION_POOLS = new CopyOnWriteArrayList<>();
+
     /**
      * URL Endpoint for SOAP API connection.
      */
@@ -32,12 +56,28 @@ public class ConnectionFactory {
 
     /**
      * Get Enterprise connection object using the default configuration.
+     * <br/>
+     * The connection uses the shared session (see {@link SalesforceSessionManager#getSession()}).
      *
      * @return API Connection object for interaction with SFDC via SOAP API
      * @throws ConnectionException in case of errors while accessing API
      * @see ConnectionFactory#SALESFORCE_CONFIG
      */
     public static EnterpriseConnection getDefaultEnterpriseConnection() throws ConnectionException {
+        return getEnterpriseConnection(SalesforceSessionManager.getSession());
+    }
+
+    /**
+     * Get Enterprise connection object with the new login using the default configuration.
+     * <br/>
+     * Note: use {@link #getDefaultEnterpriseConnection()} instead to reuse the shared session!
+     * This method is only needed to create a new session.
+     *
+     * @return API Connection object for interaction with SFDC via SOAP API
+     * @throws ConnectionException in case of errors while accessing API
+     * @see ConnectionFactory#SALESFORCE_CONFIG
+     */
+    static EnterpriseConnection getDefaultEnterpriseLoginConnection() throws ConnectionException {
         return getEnterpriseConnection(SALESFORCE_CONFIG);
     }
 
@@ -61,17 +101,59 @@ public class ConnectionFactory {
         return com.sforce.soap.enterprise.Connector.newConnection(enterpriseConfig);
     }
 
+    /**
+     * Get Enterprise connection object that uses the already established session.
+     * <br/>
+     * No additional login is performed, so the new connection is created almost instantly.
+     *
+     * @param session authenticated session with Salesforce
+     * @return API Connection for interaction with SFDC via SOAP API with the given session
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    public static EnterpriseConnection getEnterpriseConnection(SalesforceSession session) throws ConnectionException {
+        var enterpriseConfig = new ConnectorConfig();
+        enterpriseConfig.setSessionId(session.sessionId);
+        enterpriseConfig.setServiceEndpoint(session.serviceEndpoint);
+        enterpriseConfig.setManualLogin(false);
+
+        return com.sforce.soap.enterprise.Connector.newConnection(enterpriseConfig);
+    }
+
+    /**
+     * Get a pool of Enterprise connection objects with the shared session.
+     * <br/>
+     * New connections in the pool get the same query options (e.g. batch size) as the provided connection.
+     *
+     * @param connection Enterprise connection with the shared session, the first connection in the pool
+     * @return pool of the Enterprise connections for the concurrent access to SFDC via SOAP API
+     */
+    public static SalesforceConnectionPool<EnterpriseConnection> getEnterpriseConnectionPool(EnterpriseConnection connection) {
+        return registerConnectionPool(new SalesforceConnectionPool<>("Enterprise", CONNECTION_POOL_SIZE,
+                connection,
+                () -> {
+                    var newConnection = getDefaultEnterpriseConnection();
+                    if (connection.getQueryOptions() != null) {
+                        newConnection.setQueryOptions(connection.getQueryOptions().getBatchSize());
+                    }
+                    return newConnection;
+                },
+                pooledConnection -> pooledConnection.getSessionHeader().getSessionId(),
+                EnterpriseConnection::setSessionHeader));
+    }
+
     //  ### Tooling Connection ###
 
     /**
      * Get Tooling connection object using the default configuration.
+     * <br/>
+     * The connection uses the shared session (see {@link SalesforceSessionManager#getSession()}).
      *
      * @return API Connection object for interaction with SFDC via SOAP API
      * @throws ConnectionException in case of errors while accessing API
      * @see ConnectionFactory#SALESFORCE_CONFIG
      */
     public static ToolingConnection getDefaultToolingConnection() throws ConnectionException {
-        return getToolingConnection(SALESFORCE_CONFIG);
+        return getToolingConnection(SalesforceSessionManager.getSession());
     }
 
     /**
@@ -86,10 +168,22 @@ public class ConnectionFactory {
         //  to get valid Session ID and Service Endpoint values for the Tooling's ConnectorConfig
         var connection = getEnterpriseConnection(config);
 
+        return getToolingConnection(new SalesforceSession(connection.getSessionHeader().getSessionId(),
+                connection.getConfig().getServiceEndpoint()));
+    }
+
+    /**
+     * Get Tooling connection object that uses the already established session.
+     *
+     * @param session authenticated session with Salesforce
+     * @return API Connection for interaction with SFDC via SOAP API with the given session
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    public static ToolingConnection getToolingConnection(SalesforceSession session) throws ConnectionException {
         var toolingConfig = new ConnectorConfig();
-        toolingConfig.setSessionId(connection.getSessionHeader().getSessionId());
+        toolingConfig.setSessionId(session.sessionId);
 
-        var toolingServiceEndpoint = connection.getConfig().getServiceEndpoint()
+        var toolingServiceEndpoint = session.serviceEndpoint
                 .replaceAll("Soap/\\w/", "Soap/T/");
         toolingConfig.setServiceEndpoint(toolingServiceEndpoint);
 
@@ -98,17 +192,33 @@ public class ConnectionFactory {
         return com.sforce.soap.tooling.Connector.newConnection(toolingConfig);
     }
 
+    /**
+     * Get a pool of Tooling connection objects with the shared session.
+     *
+     * @param connection Tooling connection with the shared session, the first connection in the pool
+     * @return pool of the Tooling connections for the concurrent access to SFDC via SOAP API
+     */
+    public static SalesforceConnectionPool<ToolingConnection> getToolingConnectionPool(ToolingConnection connection) {
+        return registerConnectionPool(new SalesforceConnectionPool<>("Tooling", CONNECTION_POOL_SIZE,
+                connection,
+                ConnectionFactory::getDefaultToolingConnection,
+                pooledConnection -> pooledConnection.getSessionHeader().getSessionId(),
+                ToolingConnection::setSessionHeader));
+    }
+
     //  ### Metadata Connection ###
 
     /**
      * Get Metadata connection object using the default configuration.
+     * <br/>
+     * The connection uses the shared session (see {@link SalesforceSessionManager#getSession()}).
      *
      * @return API Connection object for interaction with SFDC via SOAP API
      * @throws ConnectionException in case of errors while accessing API
      * @see ConnectionFactory#SALESFORCE_CONFIG
      */
     public static MetadataConnection getDefaultMetadataConnection() throws ConnectionException {
-        return getMetadataConnection(SALESFORCE_CONFIG);
+        return getMetadataConnection(SalesforceSessionManager.getSession());
     }
 
     /**
@@ -123,10 +233,22 @@ public class ConnectionFactory {
         //  to get valid Session ID and Service Endpoint values for the Metadata's ConnectorConfig
         var connection = getEnterpriseConnection(config);
 
+        return getMetadataConnection(new SalesforceSession(connection.getSessionHeader().getSessionId(),
+                connection.getConfig().getServiceEndpoint()));
+    }
+
+    /**
+     * Get Metadata connection object that uses the already established session.
+     *
+     * @param session authenticated session with Salesforce
+     * @return API Connection for interaction with SFDC via SOAP API with the given session
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    public static MetadataConnection getMetadataConnection(SalesforceSession session) throws ConnectionException {
         var metadataConfig = new ConnectorConfig();
-        metadataConfig.setSessionId(connection.getSessionHeader().getSessionId());
+        metadataConfig.setSessionId(session.sessionId);
 
-        var metadataServiceEndpoint = connection.getConfig().getServiceEndpoint()
+        var metadataServiceEndpoint = session.serviceEndpoint
                 .replaceAll("Soap/\\w/", "Soap/m/");
         metadataConfig.setServiceEndpoint(metadataServiceEndpoint);
 
@@ -134,4 +256,46 @@ public class ConnectionFactory {
 
         return com.sforce.soap.metadata.Connector.newConnection(metadataConfig);
     }
+
+    /**
+     * Get a pool of Metadata connection objects with the shared session.
+     *
+     * @param connection Metadata connection with the shared session, the first connection in the pool
+     * @return pool of the Metadata connections for the concurrent access to SFDC via SOAP API
+     */
+    public static SalesforceConnectionPool<MetadataConnection> getMetadataConnectionPool(MetadataConnection connection) {
+        return registerConnectionPool(new SalesforceConnectionPool<>("Metadata", CONNECTION_POOL_SIZE,
+                connection,
+                ConnectionFactory::getDefaultMetadataConnection,
+                pooledConnection -> pooledConnection.getSessionHeader().getSessionId(),
+                MetadataConnection::setSessionHeader));
+    }
+
+    //  ### Connection Pools ###
+
+    /**
+     * Get the current statistics for all the connection pools created by the factory
+     * in the form of the formatted string.
+     * Useful for logging, and for adjusting the pool size to the number of the parallel threads.
+     *
+     * @return string with the current statistics for every pool,
+     * or empty string if no pools have been created yet
+     * @see SalesforceConnectionPool#getStatsFormatted()
+     */
+    public static String getConnectionPoolsStatsFormatted() {
+        return CONNECTION_POOLS.stream()
+                .map(SalesforceConnectionPool::getStatsFormatted)
+                .collect(joining("; \n"));
+    }
+
+    /**
+     * Register the connection pool for the reporting.
+     *
+     * @param connectionPool any new pool of the connection objects
+     * @return the same connection pool
+     */
+    private static <C> SalesforceConnectionPool<C> registerConnectionPool(SalesforceConnectionPool<C> connectionPool) {
+        CONNECTION_POOLS.add(connectionPool);
+        return connectionPool;
+    }
 }
@@ -1,5 +1,9 @@
 package com.aquiva.autotests.rc.utilities.salesforce;
 
+import com.aquiva.autotests.rc.model.salesforce.SObjectDescribe;
+import com.aquiva.autotests.rc.model.salesforce.SObjectDescribe.FieldDescribe;
+import com.aquiva.autotests.rc.utilities.DaemonThreadFactory;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceConnectionPool.PooledOperation;
 import com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.ProcessWorkitemRequestHelper;
 import com.sforce.soap.enterprise.*;
 import com.sforce.soap.enterprise.sobject.ProcessInstanceWorkitem;
@@ -8,12 +12,19 @@ import com.sforce.ws.ConnectionException;
 import io.qameta.allure.Step;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.aquiva.autotests.rc.utilities.StringHelper.EMPTY_STRING;
 import static com.codeborne.selenide.Selenide.sleep;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -23,14 +34,40 @@ import static java.util.stream.Collectors.toList;
  * <p></p>
  * The class is designed using Singleton pattern
  * to be the "single point of contact" for users of Enterprise connection API.
+ * <p></p>
+ * DML operations (insert, update, delete) accept any number of records:
+ * the records are split into chunks of the max allowed size for a single API call,
+ * and the chunks can be processed concurrently via several connections with the same session
+ * (see 'sf.dmlParallelism' system property).
+ * <p></p>
+ * All the API calls are sent via the pool of the connections with the same session,
+ * so the parallel test threads don't wait for each other (see {@link SalesforceConnectionPool}).
  */
 public class EnterpriseConnectionUtils {
 
+    //  Max number of records returned in a single batch of the streamed query results (200..2000, Salesforce default = 500)
+    //  Note: it's applied only to queryStream/queryAllStream, other queries use Salesforce's default batch size
+    private static final int QUERY_BATCH_SIZE = parseInt(System.getProperty("sf.queryBatchSize", "2000"));
+    //  Max number of records in a single create/update/delete API call (1..200, 200 is the SOAP API limit)
+    private static final int DML_CHUNK_SIZE = parseInt(System.getProperty("sf.dmlChunkSize", "200"));
+    //  Max number of chunks of records that are processed concurrently in a single DML operation (1 = sequentially)
+    //  Note: the actual concurrency is also limited by the size of the connection pool ('sf.connectionPool.size')
+    private static final int DML_PARALLELISM = parseInt(System.getProperty("sf.dmlParallelism", "1"));
+
+    //  Parts of the exception messages for API errors that are eligible for the retry
+    private static final List<String> EXCEPTIONS_FOR_RETRY = List.of("UNABLE_TO_LOCK_ROW", "Failed to send request to",
+            "ConnectionTimeout", "An unexpected error occurred",
+            "QUERY_TIMEOUT", "Your query request was running for too long");
+
     //  Single instance of the class
     private static final EnterpriseConnectionUtils INSTANCE = new EnterpriseConnectionUtils();
 
-    //  Connection object for accessing SFDC via SOAP API
-    private final EnterpriseConnection enterpriseConnection;
+    //  Connection objects (with the same session) for accessing SFDC via SOAP API concurrently
+    private final SalesforceConnectionPool<EnterpriseConnection> connectionPool;
+    //  Executor for processing chunks of records in DML operations concurrently (null, if processed sequentially)
+    private final ExecutorService dmlExecutor;
+    //  Cache for the SObjects' metadata (record types, fields, picklist values...)
+    private final SObjectDescribeCache describeCache = new SObjectDescribeCache();
 
     /**
      * Class constructor.
@@ -39,7 +76,12 @@ public class EnterpriseConnectionUtils {
      */
     private EnterpriseConnectionUtils() {
         try {
-            enterpriseConnection = ConnectionFactory.getDefaultEnterpriseConnection();
+            var enterpriseConnection = ConnectionFactory.getDefaultEnterpriseConnection();
+            connectionPool = ConnectionFactory.getEnterpriseConnectionPool(enterpriseConnection);
+
+            dmlExecutor = DML_PARALLELISM > 1
+                    ? Executors.newFixedThreadPool(DML_PARALLELISM, new DaemonThreadFactory("sf-dml-chunks"))
+                    : null;
         } catch (ConnectionException e) {
             throw new RuntimeException("Unable to create an Enterprise Connection! Details: " + e, e);
         }
@@ -59,9 +101,12 @@ public class EnterpriseConnectionUtils {
      * Get the Connection's session ID.
      * Useful in case of additional authorized access to the SFDC's content via other contexts
      * (e.g. web, REST API).
+     * <br/>
+     * Note: the session might be renewed during the run (see {@link SalesforceSessionManager}),
+     * so it's better to get the session ID right before its usage, and not to store it.
      */
     public String getSessionId() {
-        return enterpriseConnection.getSessionHeader().getSessionId();
+        return SalesforceSessionManager.getSessionId();
     }
 
     //  ### QUERY ###
@@ -98,7 +143,8 @@ public class EnterpriseConnectionUtils {
      */
     @Step
     public <T extends SObject> List<T> query(String queryString, Class<T> valueType) throws ConnectionException {
-        var records = transactionWithRetries(() -> enterpriseConnection.query(queryString).getRecords());
+        var records = transactionWithRetries(() ->
+                connectionPool.execute(connection -> connection.query(queryString).getRecords()));
 
         return Arrays.stream(records)
                 .map(valueType::cast)
@@ -132,20 +178,153 @@ public class EnterpriseConnectionUtils {
         }
     }
 
+    /**
+     * Query the Salesforce database with the provided SOQL expression and
+     * get a lazy stream of all the found records mapped to the provided SObject's type.
+     * <p></p>
+     * Unlike {@link #query(String, Class)}, the method returns ALL the found records,
+     * not only the first batch of them. The next batch of records is requested via {@code queryMore()}
+     * only when the stream's consumer gets to it, so the large result sets can be processed
+     * without loading all of them into memory
+     * (the size of a batch is controlled via {@code sf.queryBatchSize} system property).
+     *
+     * <pre><code class='java'>
+     * var connectionUtils = EnterpriseConnectionUtils.getInstance();
+     * connectionUtils.queryStream(
+     *         "SELECT Id " +
+     *         "FROM Lead " +
+     *         "WHERE CreatedById = '005...'",
+     *     Lead.class)
+     *     .forEach(lead -> ...);
+     * </code></pre>
+     *
+     * @param queryString SOQL expression that queries one or several fields for any SObject
+     *                    (e.g. <i>"SELECT Id, FirstName, LastName FROM Contact WHERE Email != null"</i>)
+     * @param valueType   any valid standard or custom SObject type
+     *                    (e.g. Account, Contact, Opportunity...)
+     * @return lazy stream of all the SObjects that were found using the provided query
+     * @see #query(String, Class)
+     */
+    public <T extends SObject> Stream<T> queryStream(String queryString, Class<T> valueType) {
+        return queryStream(connection -> connection.query(queryString), valueType);
+    }
+
+    /**
+     * Query the Salesforce database with the provided SOQL expression,
+     * including deleted (in the Recycle Bin) and archived records,
+     * and get a lazy stream of all the found records mapped to the provided SObject's type.
+     *
+     * @param queryString SOQL expression that queries one or several fields for any SObject
+     *                    (e.g. <i>"SELECT Id FROM Lead WHERE IsDeleted = true"</i>)
+     * @param valueType   any valid standard or custom SObject type
+     *                    (e.g. Account, Contact, Opportunity...)
+     * @return lazy stream of all the SObjects that were found using the provided query
+     * @see #queryStream(String, Class)
+     */
+    public <T extends SObject> Stream<T> queryAllStream(String queryString, Class<T> valueType) {
+        return queryStream(connection -> connection.queryAll(queryString), valueType);
+    }
+
+    /**
+     * Get a lazy stream of all the records from the query results
+     * that are requested batch by batch via {@code queryMore()}.
+     * <br/>
+     * The size of the batches is set only for the API calls of the stream
+     * (see {@link #executeWithQueryBatchSize(PooledOperation)}).
+     *
+     * @param initialQuery API operation that returns the first batch of the query results
+     *                     (e.g. query or queryAll)
+     * @param valueType    any valid standard or custom SObject type
+     *                     (e.g. Account, Contact, Opportunity...)
+     * @return lazy stream of all the SObjects from the query results
+     */
+    private <T extends SObject> Stream<T> queryStream(PooledOperation<EnterpriseConnection, QueryResult> initialQuery,
+                                                      Class<T> valueType) {
+        var iterator = new Iterator<SObject>() {
+            private QueryResult queryResult;
+            private int currentIndex;
+
+            @Override
+            public boolean hasNext() {
+                if (queryResult == null) {
+                    queryResult = transactionWithRetries(() -> executeWithQueryBatchSize(initialQuery));
+                }
+
+                while (currentIndex >= queryResult.getRecords().length && !queryResult.getDone()) {
+                    var queryLocator = queryResult.getQueryLocator();
+                    queryResult = transactionWithRetries(() ->
+                            executeWithQueryBatchSize(connection -> connection.queryMore(queryLocator)));
+                    currentIndex = 0;
+                }
+
+                return currentIndex < queryResult.getRecords().length;
+            }
+
+            @Override
+            public SObject next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return queryResult.getRecords()[currentIndex++];
+            }
+        };
+
+        return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | NONNULL), false)
+                .map(valueType::cast);
+    }
+
+    /**
+     * Execute the query operation on the pooled connection with the batch size of {@link #QUERY_BATCH_SIZE}.
+     * <br/>
+     * The batch size is reset right after the operation, so the pooled connection
+     * returns Salesforce's default number of records for the rest of the queries.
+     *
+     * @param queryOperation any query operation (e.g. query, queryAll, queryMore)
+     * @return results of the query operation
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    private QueryResult executeWithQueryBatchSize(PooledOperation<EnterpriseConnection, QueryResult> queryOperation)
+            throws ConnectionException {
+        return connectionPool.execute(connection -> {
+            connection.setQueryOptions(QUERY_BATCH_SIZE);
+            try {
+                return queryOperation.run(connection);
+            } finally {
+                connection.clearQueryOptions();
+            }
+        });
+    }
+
     //  ### CREATE ###
 
     /**
      * Insert the provided SObject(-s) into the Salesforce DB and return the list of its/their resulting ID(-s).
      * <p></p>
      * This method also assigns resulting IDs to their corresponding provided SObjects.
+     * <br/>
+     * Any number of SObjects can be provided, they are inserted by chunks
+     * (see {@link #executeByChunks(Object[], ChunkOperation)}).
      *
      * @param objects array of SObjects (or a single SObject) to insert into the database
      * @return list of the IDs for all provided SObjects after inserting them into the database
+     * (in the same order as the provided SObjects)
      * @throws ConnectionException in case of errors while accessing API
      */
     @Step
     public List<String> insertAndGetIds(SObject... objects) throws ConnectionException {
-        var insertResult = transactionWithRetries(() -> SalesforceUtils.create(enterpriseConnection, objects));
+        var saveResults = executeByChunks(objects, (connection, chunk) -> {
+            var chunkResults = connection.create(chunk);
+
+            //  Chunk is inserted again only if none of its records were created (to avoid duplicates)
+            var isAnyRecordCreated = Arrays.stream(chunkResults).anyMatch(SaveResult::getSuccess);
+            if (!isAnyRecordCreated) {
+                throwIfAnyErrorForRetry(Arrays.stream(chunkResults).map(SaveResult::getErrors));
+            }
+
+            return chunkResults;
+        });
+        var insertResult = SalesforceUtils.getCreatedIds(saveResults.toArray(new SaveResult[0]));
 
         for (int i = 0; i < insertResult.size(); i++) {
             objects[i].setId(insertResult.get(i));
@@ -177,6 +356,9 @@ public class EnterpriseConnectionUtils {
      * i.e. exist in the database.
      * Of course, they should also carry the updated state
      * (e.g. new values on their fields).
+     * <br/>
+     * Any number of SObjects can be provided, they are updated by chunks
+     * (see {@link #executeByChunks(Object[], ChunkOperation)}).
      *
      * @param objects SObjects that needs to be updated.
      * @return list of SObjects' IDs that were successfully updated
@@ -184,7 +366,13 @@ public class EnterpriseConnectionUtils {
      */
     @Step
     public List<String> update(SObject... objects) throws ConnectionException {
-        return transactionWithRetries(() -> SalesforceUtils.update(enterpriseConnection, objects));
+        var saveResults = executeByChunks(objects, (connection, chunk) -> {
+            var chunkResults = connection.update(chunk);
+            throwIfAnyErrorForRetry(Arrays.stream(chunkResults).map(SaveResult::getErrors));
+            return chunkResults;
+        });
+
+        return SalesforceUtils.getUpdatedIds(objects, saveResults.toArray(new SaveResult[0]));
     }
 
     /**
@@ -252,6 +440,9 @@ public class EnterpriseConnectionUtils {
 
     /**
      * Delete SObjects with the provided IDs from the database.
+     * <br/>
+     * Any number of IDs can be provided, SObjects are deleted by chunks
+     * (see {@link #executeByChunks(Object[], ChunkOperation)}).
      *
      * @param ids IDs for SObjects that need to be deleted
      * @return list of SObjects' IDs that were successfully deleted
@@ -259,11 +450,34 @@ public class EnterpriseConnectionUtils {
      */
     @Step
     public List<String> deleteByIds(String... ids) throws ConnectionException {
-        return SalesforceUtils.delete(enterpriseConnection, ids);
+        var deleteResults = executeByChunks(ids, (connection, chunk) -> {
+            var chunkResults = connection.delete(chunk);
+            throwIfAnyErrorForRetry(Arrays.stream(chunkResults).map(DeleteResult::getErrors));
+            return chunkResults;
+        });
+
+        return SalesforceUtils.getDeletedIds(ids, deleteResults.toArray(new DeleteResult[0]));
     }
 
     //  ### ADDITIONAL METHODS ###
 
+    /**
+     * Get the metadata for the given SObject (record types, fields, picklist values...).
+     * <br/>
+     * The SObject is described via API only once per run (or even less often, if the cache is persisted),
+     * all the subsequent calls return the cached metadata (see {@link SObjectDescribeCache}).
+     *
+     * @param sObjectName API name for the given SObject
+     *                    (e.g. "Account", "Contact", "Opportunity", "Approval__c"...)
+     * @return SObject's metadata
+     * @throws RuntimeException in case of errors while accessing API
+     */
+    public SObjectDescribe describeSObject(String sObjectName) {
+        return describeCache.get(sObjectName,
+                name -> transactionWithRetries(() ->
+                        connectionPool.execute(connection -> connection.describeSObject(name))));
+    }
+
     /**
      * Get ID for a Record Type of the given SObject.
      * Useful when creating non-standard SObjects via API.
@@ -273,18 +487,45 @@ public class EnterpriseConnectionUtils {
      * @param recordTypeName name for the SObject's record type
      *                       (e.g. "Partner Leads" for Lead, "Invoicing Request" for Approval__c ...).
      *                       Totally depends on the actual org's configuration.
-     * @return ID for the SObject's record type
-     * @throws ConnectionException in case of errors while accessing API
+     *                       Case-insensitive.
+     * @return ID for the SObject's record type (or empty string, if there's no such record type)
+     * @throws RuntimeException in case of errors while accessing API
      */
-    public String getRecordTypeId(String sObjectName, String recordTypeName) throws ConnectionException {
-        var describeSObjectResult = enterpriseConnection.describeSObject(sObjectName);
-        var recordTypeInfo = Arrays.stream(describeSObjectResult.getRecordTypeInfos())
-                .filter(s -> s.getName().equals(recordTypeName))
-                .findAny();
-
-        return recordTypeInfo.isPresent() ?
-                recordTypeInfo.get().getRecordTypeId() :
-                EMPTY_STRING;
+    public String getRecordTypeId(String sObjectName, String recordTypeName) {
+        return describeSObject(sObjectName).recordTypeIds.getOrDefault(recordTypeName, EMPTY_STRING);
+    }
+
+    /**
+     * Get the metadata for the field of the given SObject (label, type, length, picklist values...).
+     *
+     * @param sObjectName API name for the given SObject
+     *                    (e.g. "Account", "Contact", "Opportunity", "Approval__c"...)
+     * @param fieldName   API name for the SObject's field (e.g. "Status", "Lead_Source__c"...), case-insensitive
+     * @return field's metadata, or {@code null} if the field is not found
+     */
+    public FieldDescribe getFieldDescribe(String sObjectName, String fieldName) {
+        return describeSObject(sObjectName).fields.get(fieldName);
+    }
+
+    /**
+     * Get all active values for the picklist field of the given SObject.
+     *
+     * @param sObjectName API name for the given SObject
+     *                    (e.g. "Account", "Contact", "Opportunity", "Approval__c"...)
+     * @param fieldName   API name for the SObject's picklist field (e.g. "Status", "LeadSource"...)
+     * @return list of active picklist values (API names),
+     * or an empty list if the field is not found or isn't a picklist
+     */
+    public List<String> getPicklistValues(String sObjectName, String fieldName) {
+        var fieldDescribe = getFieldDescribe(sObjectName, fieldName);
+        if (fieldDescribe == null || fieldDescribe.picklistValues == null) {
+            return List.of();
+        }
+
+        return fieldDescribe.picklistValues.stream()
+                .filter(picklistValue -> Boolean.TRUE.equals(picklistValue.active))
+                .map(picklistValue -> picklistValue.value)
+                .collect(toList());
     }
 
     /**
@@ -298,7 +539,8 @@ public class EnterpriseConnectionUtils {
         processSubmitRequest.setObjectId(sObjectId);
         processSubmitRequest.setComments("Submitted for Approval by QA Automation SOAP API Call");
 
-        transactionWithRetries(() -> SalesforceUtils.sendApprovalProcessInstancesAction(enterpriseConnection, processSubmitRequest));
+        transactionWithRetries(() -> connectionPool.execute(connection ->
+                SalesforceUtils.sendApprovalProcessInstancesAction(connection, processSubmitRequest)));
     }
 
     /**
@@ -324,7 +566,8 @@ public class EnterpriseConnectionUtils {
                 })
                 .toArray(ProcessWorkitemRequest[]::new);
 
-        transactionWithRetries(() -> SalesforceUtils.sendApprovalProcessInstancesAction(enterpriseConnection, approvalRequests));
+        transactionWithRetries(() -> connectionPool.execute(connection ->
+                SalesforceUtils.sendApprovalProcessInstancesAction(connection, approvalRequests)));
     }
 
     /**
@@ -350,7 +593,8 @@ public class EnterpriseConnectionUtils {
                 })
                 .toArray(ProcessWorkitemRequest[]::new);
 
-        transactionWithRetries(() -> SalesforceUtils.sendApprovalProcessInstancesAction(enterpriseConnection, approvalRequests));
+        transactionWithRetries(() -> connectionPool.execute(connection ->
+                SalesforceUtils.sendApprovalProcessInstancesAction(connection, approvalRequests)));
     }
 
     /**
@@ -373,9 +617,7 @@ public class EnterpriseConnectionUtils {
                 var exceptionDetails = exception.getMessage() != null
                         ? exception.getMessage()
                         : exception.toString();
-                var isExceptionForRetry = Stream.of("UNABLE_TO_LOCK_ROW", "Failed to send request to",
-                                "ConnectionTimeout", "An unexpected error occurred", 
-                                "QUERY_TIMEOUT", "Your query request was running for too long")
+                var isExceptionForRetry = EXCEPTIONS_FOR_RETRY.stream()
                         .anyMatch(exceptionForRetry -> exceptionDetails.contains(exceptionForRetry));
                 if (isExceptionForRetry && retries >= 0) {
                     sleep(5_000L);
@@ -386,6 +628,105 @@ public class EnterpriseConnectionUtils {
         }
     }
 
+    /**
+     * Run DML operation for the provided records by chunks
+     * with the max allowed number of records for a single API call.
+     * <br/>
+     * Every chunk is processed with retries (see {@link #transactionWithRetries(RunnableWithException)}),
+     * via the connection leased from the pool.
+     * If 'sf.dmlParallelism' > 1, chunks are processed concurrently,
+     * each one via its own connection object with the same session.
+     * <br/>
+     * All the chunks are processed even if some of them fail,
+     * and all the failures are reported at once afterwards.
+     *
+     * @param records   any records for the DML operation (e.g. SObjects to insert, IDs to delete)
+     * @param operation DML operation for a single chunk of records (e.g. create, update, delete)
+     * @return results of the DML operation for all the records
+     * (in the same order as the provided records)
+     * @throws RuntimeException if any of the chunks failed to be processed
+     */
+    private <T, R> List<R> executeByChunks(T[] records, ChunkOperation<T, R> operation) {
+        var chunksResults = new ArrayList<CompletableFuture<R[]>>();
+        for (int i = 0; i < records.length; i += DML_CHUNK_SIZE) {
+            var chunk = Arrays.copyOfRange(records, i, Math.min(i + DML_CHUNK_SIZE, records.length));
+
+            if (dmlExecutor != null && records.length > DML_CHUNK_SIZE) {
+                chunksResults.add(supplyAsync(() -> executeChunk(chunk, operation), dmlExecutor));
+            } else {
+                try {
+                    var chunkResult = executeChunk(chunk, operation);
+                    chunksResults.add(CompletableFuture.completedFuture(chunkResult));
+                } catch (RuntimeException e) {
+                    chunksResults.add(CompletableFuture.failedFuture(e));
+                }
+            }
+        }
+
+        var results = new ArrayList<R>();
+        var errorMessages = new ArrayList<String>();
+        for (var chunkResult : chunksResults) {
+            try {
+                results.addAll(asList(chunkResult.join()));
+            } catch (CompletionException e) {
+                //  The only chunk's failure is reported "as is"
+                if (chunksResults.size() == 1 && e.getCause() instanceof RuntimeException chunkException) {
+                    throw chunkException;
+                }
+                errorMessages.add(e.getCause().getMessage());
+            }
+        }
+
+        if (!errorMessages.isEmpty()) {
+            throw new RuntimeException(format("Failed to process %d of %d chunk(s) of records! \n",
+                    errorMessages.size(), chunksResults.size()) +
+                    "Errors: " + errorMessages);
+        }
+
+        return results;
+    }
+
+    /**
+     * Run DML operation for a single chunk of records with retries
+     * using one of the available connections from the pool.
+     *
+     * @param chunk     chunk of records for the DML operation
+     * @param operation DML operation for a single chunk of records (e.g. create, update, delete)
+     * @return results of the DML operation for the chunk
+     */
+    private <T, R> R[] executeChunk(T[] chunk, ChunkOperation<T, R> operation) {
+        return transactionWithRetries(() -> connectionPool.execute(connection -> operation.run(connection, chunk)));
+    }
+
+    /**
+     * Throw an exception if any of the records' errors after DML operation is eligible for the retry
+     * (e.g. "UNABLE_TO_LOCK_ROW").
+     * Used to retry DML operation for the chunk of records in such cases.
+     *
+     * @param recordsErrors errors for every record after DML operation
+     * @throws RuntimeException with all the errors, if any of the errors is eligible for the retry
+     */
+    private void throwIfAnyErrorForRetry(Stream<com.sforce.soap.enterprise.Error[]> recordsErrors) {
+        var errorMessages = recordsErrors
+                .flatMap(Arrays::stream)
+                .map(Object::toString)
+                .collect(toList());
+        var isAnyErrorForRetry = errorMessages.stream()
+                .anyMatch(error -> EXCEPTIONS_FOR_RETRY.stream().anyMatch(error::contains));
+
+        if (isAnyErrorForRetry) {
+            throw new RuntimeException("DML operation failed with errors: " + errorMessages);
+        }
+    }
+
+    /**
+     * Additional interface to wrap DML operations for a single chunk of records.
+     */
+    @FunctionalInterface
+    private interface ChunkOperation<T, R> {
+        R[] run(EnterpriseConnection connection, T[] chunk) throws ConnectionException;
+    }
+
     /**
      * Additional interface to wrap API transactions with SFDC.
      * Helps to handle some exceptions in transactions (e.g. "UNABLE_TO_LOCK_ROW").
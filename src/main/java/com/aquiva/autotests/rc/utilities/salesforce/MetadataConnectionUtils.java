@@ -26,8 +26,8 @@ public class MetadataConnectionUtils {
     //  Single instance of the class
     private static final MetadataConnectionUtils INSTANCE = new MetadataConnectionUtils();
 
-    //  Connection object for accessing SFDC via SOAP API
-    private final MetadataConnection metadataConnection;
+    //  Connection objects (with the same session) for accessing SFDC via SOAP API concurrently
+    private final SalesforceConnectionPool<MetadataConnection> connectionPool;
 
     /**
      * Class constructor.
@@ -36,7 +36,8 @@ public class MetadataConnectionUtils {
      */
     private MetadataConnectionUtils() {
         try {
-            metadataConnection = ConnectionFactory.getDefaultMetadataConnection();
+            var metadataConnection = ConnectionFactory.getDefaultMetadataConnection();
+            connectionPool = ConnectionFactory.getMetadataConnectionPool(metadataConnection);
         } catch (ConnectionException e) {
             throw new RuntimeException("Unable to create metadata connection! Details: " + e, e);
         }
@@ -80,7 +81,7 @@ public class MetadataConnectionUtils {
 
         setValuesToFieldsForCustomMetadata(customMetadata, fieldNameToValueMapping);
 
-        var createdRecordsFullNames = SalesforceUtils.create(metadataConnection, customMetadata);
+        var createdRecordsFullNames = connectionPool.execute(connection -> SalesforceUtils.create(connection, customMetadata));
         return createdRecordsFullNames.get(0);
     }
 
@@ -99,7 +100,7 @@ public class MetadataConnectionUtils {
             throws ConnectionException {
         setValuesToFieldsForCustomMetadata(customMetadata, fieldNameToValueMapping);
 
-        return SalesforceUtils.update(metadataConnection, customMetadata);
+        return connectionPool.execute(connection -> SalesforceUtils.update(connection, customMetadata));
     }
 
     /**
@@ -114,7 +115,8 @@ public class MetadataConnectionUtils {
      */
     @Step
     public List<String> deleteCustomMetadataRecords(List<String> customMdtFullNames) throws ConnectionException {
-        return SalesforceUtils.delete(metadataConnection, "CustomMetadata", customMdtFullNames);
+        return connectionPool.execute(connection ->
+                SalesforceUtils.delete(connection, "CustomMetadata", customMdtFullNames));
     }
 
     /**
@@ -0,0 +1,295 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.model.salesforce.CompositeRequest;
+import com.aquiva.autotests.rc.model.salesforce.CompositeRequest.Subrequest;
+import com.sforce.soap.enterprise.sobject.SObject;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static com.aquiva.autotests.rc.model.salesforce.CompositeRequest.PATCH_METHOD;
+import static com.aquiva.autotests.rc.model.salesforce.CompositeRequest.POST_METHOD;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceCompositeApiClient.MAX_SUBREQUESTS;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceRestApiHelper.getSObjectPath;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceRestApiHelper.getSObjectRecordPath;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+
+/**
+ * Builder for the Composite REST API request that inserts/updates the related SObjects in a single API call.
+ * <br/>
+ * Every inserted record gets a reference that can be used in the fields of the subsequent records
+ * instead of the actual ID (e.g. {@code contact.setAccountId(accountReference)}).
+ * <br/>
+ * All the records are processed in "all or none" mode, in the same order as they were added.
+ * After the execution, the records get their IDs from Salesforce,
+ * and all the references in their fields are replaced with the actual IDs,
+ * so the records look exactly the same as if they were inserted via SOAP API.
+ * <p></p>
+ * Example:
+ * <pre><code class='java'>
+ * var compositeRequest = new SObjectCompositeRequest();
+ * var accountReference = compositeRequest.insert(account);
+ * contact.setAccountId(accountReference);
+ * compositeRequest.insert(contact);
+ * compositeRequest.execute();
+ * </code></pre>
+ */
+public class SObjectCompositeRequest {
+    private static final EnterpriseConnectionUtils CONNECTION_UTILS = EnterpriseConnectionUtils.getInstance();
+
+    //  Reference to the ID of the record created by the previous subrequest (e.g. "@{refAccount1.id}")
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("@\\{(\\w+)\\.id}");
+
+    //  Formats for the date/datetime values in REST API
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSX");
+
+    //  Field's type in the SObject's metadata for the date values (e.g. Opportunity.CloseDate)
+    private static final String DATE_FIELD_TYPE = "date";
+
+    private final List<SObject> records = new ArrayList<>();
+    private final List<String> referenceIds = new ArrayList<>();
+    private final CompositeRequest compositeRequest = new CompositeRequest();
+
+    /**
+     * Constructor for the new Composite request in "all or none" mode.
+     */
+    public SObjectCompositeRequest() {
+        compositeRequest.allOrNone = true;
+    }
+
+    /**
+     * Add the record to insert with the Composite request.
+     *
+     * @param record new record to insert
+     *               (its fields may contain references to the records that were added before)
+     * @return reference to the ID of the record, to use in the fields of the subsequent records
+     * (e.g. "@{refAccount1.id}")
+     * @throws IllegalArgumentException if the record has the fields that are not supported in the Composite request
+     *                                  (see {@link #getFieldValues(SObject)})
+     */
+    public String insert(SObject record) {
+        var sObjectName = record.getClass().getSimpleName();
+        return addSubrequest(record, POST_METHOD, getSObjectPath(sObjectName));
+    }
+
+    /**
+     * Add the record to update with the Composite request.
+     *
+     * @param record record to update with its ID (or the reference to the record that was added before),
+     *               and only with the fields to update
+     * @return reference to the subrequest's result
+     * @throws IllegalArgumentException if the record has the fields that are not supported in the Composite request
+     *                                  (see {@link #getFieldValues(SObject)})
+     */
+    public String update(SObject record) {
+        var sObjectName = record.getClass().getSimpleName();
+        return addSubrequest(record, PATCH_METHOD, getSObjectRecordPath(sObjectName, record.getId()));
+    }
+
+    /**
+     * Execute the Composite request with all the added records in a single API call.
+     * <br/>
+     * Inserted records get their IDs, and all the references in the records' fields
+     * are replaced with the actual IDs from Salesforce.
+     *
+     * @throws RuntimeException if any of the records fails to be processed
+     *                          (in this case, none of the records are saved in Salesforce)
+     */
+    public void execute() {
+        var compositeResponse = SalesforceCompositeApiClient.execute(compositeRequest);
+
+        var idsByReferences = new HashMap<String, String>();
+        for (var subresponse : compositeResponse.compositeResponse) {
+            idsByReferences.put(subresponse.referenceId, subresponse.getId());
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            var record = records.get(i);
+            var createdId = idsByReferences.get(referenceIds.get(i));
+            if (createdId != null) {
+                record.setId(createdId);
+            }
+            resolveReferences(record, idsByReferences);
+        }
+    }
+
+    /**
+     * Add the subrequest for the record to the Composite request.
+     *
+     * @param record SObject record to insert/update
+     * @param method subrequest's HTTP method (e.g. "POST", "PATCH")
+     * @param url    subrequest's relative URL
+     * @return reference to the ID of the subrequest's result (e.g. "@{refAccount1.id}")
+     */
+    private String addSubrequest(SObject record, String method, String url) {
+        if (records.size() >= MAX_SUBREQUESTS) {
+            throw new RuntimeException("Composite request can't contain more than " + MAX_SUBREQUESTS + " subrequests!");
+        }
+
+        var sObjectName = record.getClass().getSimpleName();
+        var referenceId = "ref" + sObjectName + (records.size() + 1);
+
+        var subrequest = new Subrequest();
+        subrequest.method = method;
+        subrequest.url = url;
+        subrequest.referenceId = referenceId;
+        subrequest.body = getFieldValues(record);
+
+        compositeRequest.compositeRequest.add(subrequest);
+        records.add(record);
+        referenceIds.add(referenceId);
+
+        return "@{" + referenceId + ".id}";
+    }
+
+    /**
+     * Get all the fields that were set on the record in the form of the REST API request's body.
+     * <br/>
+     * Note: relationship fields (e.g. Account.Owner), and 'fieldsToNull' are not supported.
+     *
+     * @param record SObject record to insert/update
+     * @return map with the fields' API names and their values (e.g. {"Name": "Test Account", "AnnualRevenue": 1000.0})
+     * @throws IllegalArgumentException if the record has 'fieldsToNull', or any field is set with the unsupported value
+     *                                  (anything except String, Boolean, Number and Calendar)
+     */
+    private Map<String, Object> getFieldValues(SObject record) {
+        var sObjectName = record.getClass().getSimpleName();
+        if (record.getFieldsToNull() != null && record.getFieldsToNull().length > 0) {
+            throw new IllegalArgumentException("'fieldsToNull' are not supported in the Composite request! " +
+                    sObjectName + ".fieldsToNull = " + Arrays.toString(record.getFieldsToNull()));
+        }
+
+        var fieldValues = new LinkedHashMap<String, Object>();
+
+        for (var field : getSObjectFields(record)) {
+            var value = getFieldValue(record, field);
+            if (value == null || !isFieldSet(record, field)) {
+                continue;
+            }
+
+            if (value instanceof Calendar) {
+                var calendar = (Calendar) value;
+                var fieldDescribe = CONNECTION_UTILS.getFieldDescribe(sObjectName, field.getName());
+                value = fieldDescribe != null && DATE_FIELD_TYPE.equals(fieldDescribe.type)
+                        ? calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()).format(ISO_LOCAL_DATE)
+                        : calendar.toInstant().atOffset(UTC).format(DATETIME_FORMAT);
+            } else if (!(value instanceof String || value instanceof Boolean || value instanceof Number)) {
+                throw new IllegalArgumentException("Value of the field " + sObjectName + "." + field.getName() +
+                        " is not supported in the Composite request! Value's type: " + value.getClass().getName());
+            }
+
+            fieldValues.put(field.getName(), value);
+        }
+
+        return fieldValues;
+    }
+
+    /**
+     * Replace all the references in the record's fields with the actual IDs from Salesforce.
+     *
+     * @param record          SObject record that was inserted/updated
+     * @param idsByReferences map with the reference IDs of the subrequests and the IDs of the created records
+     */
+    private void resolveReferences(SObject record, Map<String, String> idsByReferences) {
+        if (record.getId() != null) {
+            record.setId(resolveReference(record.getId(), idsByReferences));
+        }
+
+        for (var field : getSObjectFields(record)) {
+            var value = getFieldValue(record, field);
+            if (value instanceof String) {
+                var resolvedValue = resolveReference((String) value, idsByReferences);
+                if (!resolvedValue.equals(value)) {
+                    setFieldValue(record, field, resolvedValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the reference with the actual ID from Salesforce.
+     *
+     * @param value           any field's value (e.g. "@{refAccount1.id}", "Test Account")
+     * @param idsByReferences map with the reference IDs of the subrequests and the IDs of the created records
+     * @return actual ID of the record, if the value is a reference, or the same value otherwise
+     */
+    private String resolveReference(String value, Map<String, String> idsByReferences) {
+        var matcher = REFERENCE_PATTERN.matcher(value);
+        if (matcher.matches() && idsByReferences.get(matcher.group(1)) != null) {
+            return idsByReferences.get(matcher.group(1));
+        }
+        return value;
+    }
+
+    /**
+     * Get all the fields of the generated SObject class (e.g. Account.Name, Account.RC_Brand__c...),
+     * without the technical flags (e.g. Account.Name__is_set).
+     *
+     * @param record SObject record
+     * @return list of the SObject's fields
+     */
+    private List<Field> getSObjectFields(SObject record) {
+        var fields = new ArrayList<Field>();
+        for (var field : record.getClass().getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.getName().endsWith("__is_set")) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Check if the field was explicitly set on the record (even with the default value).
+     *
+     * @param record SObject record
+     * @param field  any field of the generated SObject class
+     * @return true, if the field's value was set via its setter
+     */
+    private boolean isFieldSet(SObject record, Field field) {
+        try {
+            var isSetFlag = record.getClass().getDeclaredField(field.getName() + "__is_set");
+            isSetFlag.setAccessible(true);
+            return isSetFlag.getBoolean(record);
+        } catch (NoSuchFieldException e) {
+            return true;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to read the field " + field.getName() + "! Details: " + e, e);
+        }
+    }
+
+    /**
+     * Get the value of the field on the record.
+     *
+     * @param record SObject record
+     * @param field  any field of the generated SObject class
+     * @return current value of the field
+     */
+    private Object getFieldValue(SObject record, Field field) {
+        try {
+            field.setAccessible(true);
+            return field.get(record);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to read the field " + field.getName() + "! Details: " + e, e);
+        }
+    }
+
+    /**
+     * Set the new value for the field on the record.
+     *
+     * @param record SObject record
+     * @param field  any field of the generated SObject class
+     * @param value  new value for the field
+     */
+    private void setFieldValue(SObject record, Field field, Object value) {
+        try {
+            field.setAccessible(true);
+            field.set(record, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to set the field " + field.getName() + "! Details: " + e, e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.model.salesforce.SObjectDescribe;
+import com.aquiva.autotests.rc.model.salesforce.SObjectDescribe.FieldDescribe;
+import com.aquiva.autotests.rc.model.salesforce.SObjectDescribe.PicklistValue;
+import com.aquiva.autotests.rc.utilities.JsonUtils;
+import com.sforce.soap.enterprise.DescribeSObjectResult;
+import com.sforce.ws.ConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static com.aquiva.autotests.rc.utilities.Constants.BASE_URL;
+import static com.aquiva.autotests.rc.utilities.Constants.SFDC_API_VERSION;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.parseLong;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Process-wide cache for the SObjects' metadata (record types, fields, picklist values...).
+ * <br/>
+ * SObjects' metadata doesn't change during the run, but the describe SOAP API call is slow
+ * and its response is large, so every SObject is described only once,
+ * and all the subsequent lookups are served from memory.
+ * <p></p>
+ * The cache can also be persisted on disk between the runs.
+ * Its settings can be controlled via system properties:
+ * <p> - {@code sf.describeCache.persist}: if true, describe results are stored/loaded to/from disk (default: false) </p>
+ * <p> - {@code sf.describeCache.dir}: folder for the describe results on disk (default: "target/describe-cache") </p>
+ * <p> - {@code sf.describeCache.ttlHours}: time (in hours) after which the describe results on disk are reloaded (default: 24) </p>
+ */
+public class SObjectDescribeCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SObjectDescribeCache.class);
+
+    private static final boolean IS_PERSISTED = parseBoolean(System.getProperty("sf.describeCache.persist", "false"));
+    private static final String CACHE_DIR = System.getProperty("sf.describeCache.dir", "target/describe-cache");
+    private static final long TTL_MILLIS = parseLong(System.getProperty("sf.describeCache.ttlHours", "24")) * 60 * 60 * 1000;
+
+    //  Cache folder is unique for every org and API version, as their metadata might differ
+    private static final Path ORG_CACHE_DIR = Paths.get(CACHE_DIR,
+            BASE_URL.replaceAll("https?://", "").replaceAll("\\W", "_") + "_v" + SFDC_API_VERSION);
+
+    //  SObject's API name (in lower case) -> SObject's metadata (loaded, or being loaded by another thread)
+    private final Map<String, CompletableFuture<SObjectDescribe>> describes = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metadata for the given SObject.
+     * <br/>
+     * The metadata is loaded only once for the SObject (from disk, or using the provided describe operation),
+     * and then it's taken from the cache.
+     * <br/>
+     * The slow describe call is made outside the map's lock,
+     * so the threads that need the other SObjects are not blocked by it.
+     * The threads that need the same SObject wait for the result of the first call.
+     *
+     * @param sObjectName       API name for the given SObject
+     *                          (e.g. "Account", "Contact", "Opportunity", "Approval__c"...)
+     * @param describeOperation API operation to describe the SObject, if it's not in the cache yet
+     * @return SObject's metadata (record types, fields, picklist values...)
+     */
+    public SObjectDescribe get(String sObjectName, DescribeOperation describeOperation) {
+        var key = sObjectName.toLowerCase();
+        var describeFuture = describes.get(key);
+        if (describeFuture == null) {
+            var newDescribeFuture = new CompletableFuture<SObjectDescribe>();
+            describeFuture = describes.putIfAbsent(key, newDescribeFuture);
+            if (describeFuture == null) {
+                describeFuture = newDescribeFuture;
+                try {
+                    newDescribeFuture.complete(load(sObjectName, describeOperation));
+                } catch (RuntimeException e) {
+                    //  Failed describe is not cached, so the next call tries it again
+                    describes.remove(key, newDescribeFuture);
+                    newDescribeFuture.completeExceptionally(e);
+                }
+            }
+        }
+
+        try {
+            return describeFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the describe result for '" + sObjectName + "'!", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Remove all the SObjects' metadata from the in-memory cache.
+     * Useful if the org's metadata has been changed during the run (e.g. new Record Type has been deployed).
+     */
+    public void clear() {
+        describes.clear();
+    }
+
+    /**
+     * Load the metadata for the given SObject from disk (if it's persisted there and isn't expired),
+     * or describe the SObject via API.
+     *
+     * @param sObjectName       API name for the given SObject
+     * @param describeOperation API operation to describe the SObject
+     * @return SObject's metadata
+     */
+    private SObjectDescribe load(String sObjectName, DescribeOperation describeOperation) {
+        var cacheFile = ORG_CACHE_DIR.resolve(sObjectName.toLowerCase() + ".json");
+
+        if (IS_PERSISTED && isCacheFileValid(cacheFile)) {
+            try {
+                return JsonUtils.readJson(Files.readString(cacheFile, UTF_8), SObjectDescribe.class);
+            } catch (Exception e) {
+                LOG.warn("Unable to read the cached describe result for {} from {}! Details: {}", sObjectName, cacheFile, e.toString());
+            }
+        }
+
+        SObjectDescribe sObjectDescribe;
+        try {
+            sObjectDescribe = toSObjectDescribe(describeOperation.describe(sObjectName));
+        } catch (ConnectionException e) {
+            throw new RuntimeException("Unable to describe SObject '" + sObjectName + "'! Details: " + e, e);
+        }
+
+        if (IS_PERSISTED) {
+            try {
+                Files.createDirectories(ORG_CACHE_DIR);
+                Files.writeString(cacheFile, JsonUtils.writeJsonAsString(sObjectDescribe), UTF_8);
+            } catch (IOException e) {
+                LOG.warn("Unable to save the describe result for {} to {}! Details: {}", sObjectName, cacheFile, e.toString());
+            }
+        }
+
+        return sObjectDescribe;
+    }
+
+    /**
+     * Check if the describe result on disk exists and isn't expired yet.
+     *
+     * @param cacheFile path to the file with the describe result
+     * @return true, if the file exists, and it's been modified within the TTL
+     */
+    private boolean isCacheFileValid(Path cacheFile) {
+        try {
+            return Files.exists(cacheFile) &&
+                    System.currentTimeMillis() - Files.getLastModifiedTime(cacheFile).toMillis() < TTL_MILLIS;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Convert the full describe result from the API into the compact data object.
+     *
+     * @param describeResult result of the describe SOAP API call for the SObject
+     * @return SObject's metadata with record types, fields and picklist values
+     */
+    private SObjectDescribe toSObjectDescribe(DescribeSObjectResult describeResult) {
+        var sObjectDescribe = new SObjectDescribe();
+        sObjectDescribe.name = describeResult.getName();
+
+        for (var recordTypeInfo : describeResult.getRecordTypeInfos()) {
+            sObjectDescribe.recordTypeIds.putIfAbsent(recordTypeInfo.getName(), recordTypeInfo.getRecordTypeId());
+        }
+
+        for (var field : describeResult.getFields()) {
+            var fieldDescribe = new FieldDescribe();
+            fieldDescribe.name = field.getName();
+            fieldDescribe.label = field.getLabel();
+            fieldDescribe.type = field.getType().toString();
+            fieldDescribe.length = field.getLength();
+            fieldDescribe.nillable = field.getNillable();
+            fieldDescribe.custom = field.getCustom();
+
+            if (field.getPicklistValues() != null && field.getPicklistValues().length > 0) {
+                fieldDescribe.picklistValues = Arrays.stream(field.getPicklistValues())
+                        .map(picklistEntry -> {
+                            var picklistValue = new PicklistValue();
+                            picklistValue.value = picklistEntry.getValue();
+                            picklistValue.label = picklistEntry.getLabel();
+                            picklistValue.active = picklistEntry.getActive();
+                            picklistValue.defaultValue = picklistEntry.getDefaultValue();
+                            return picklistValue;
+                        })
+                        .collect(toList());
+            }
+
+            sObjectDescribe.fields.put(field.getName(), fieldDescribe);
+        }
+
+        return sObjectDescribe;
+    }
+
+    /**
+     * Additional interface to wrap the describe API call for the SObject.
+     */
+    @FunctionalInterface
+    public interface DescribeOperation {
+        DescribeSObjectResult describe(String sObjectName) throws ConnectionException;
+    }
+}
@@ -0,0 +1,205 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.model.salesforce.BulkIngestJob;
+import com.aquiva.autotests.rc.utilities.JsonUtils;
+import com.aquiva.autotests.rc.utilities.RestApiClient;
+import io.qameta.allure.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static com.aquiva.autotests.rc.model.salesforce.BulkIngestJob.*;
+import static com.aquiva.autotests.rc.utilities.RestApiAuthentication.usingApiKey;
+import static com.aquiva.autotests.rc.utilities.RestApiClient.TEXT_CSV;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceRestApiHelper.*;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceSessionManager.executeWithSessionRenewal;
+import static com.codeborne.selenide.Selenide.sleep;
+import static java.lang.Long.parseLong;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Class for handling calls to Salesforce Bulk API 2.0.
+ * <br/>
+ * Useful for the mass operations with the records (e.g. deletion of thousands of records),
+ * that would take too long and consume too many API requests via SOAP API.
+ * Records are processed asynchronously on the Salesforce side, by the ingest job.
+ * <p></p>
+ * Job's settings can be controlled via system properties:
+ * <p> - {@code sf.bulk.jobTimeout}: max time (in seconds) to wait for the job to finish (default: 1800) </p>
+ * <p> - {@code sf.bulk.pollingInterval}: time (in seconds) between the job's status checks (default: 5) </p>
+ */
+public class SalesforceBulkApiClient {
+    private static final Logger LOG = LoggerFactory.getLogger(SalesforceBulkApiClient.class);
+
+    private static final long JOB_TIMEOUT = parseLong(System.getProperty("sf.bulk.jobTimeout", "1800")) * 1000;
+    private static final long POLLING_INTERVAL = parseLong(System.getProperty("sf.bulk.pollingInterval", "5")) * 1000;
+
+    //  Error for the records that were already deleted (they are considered as successfully deleted)
+    private static final String ENTITY_IS_DELETED_ERROR = "ENTITY_IS_DELETED";
+
+    private static final RestApiClient CLIENT = new RestApiClient(
+            usingApiKey("Authorization", () -> "Bearer " + SalesforceSessionManager.getSessionId()),
+            "Salesforce Bulk API 2.0 request has failed! Details: "
+    );
+
+    /**
+     * Delete the records with the provided IDs using a single Bulk API 2.0 job.
+     * <br/>
+     * The method creates a job, uploads records' IDs, closes the job,
+     * and waits until all the records are processed.
+     *
+     * @param sObjectName  API name of the SObject to delete (e.g. "Account", "Lead", "EventLog__c"...)
+     * @param ids          IDs of the records to delete
+     * @param isHardDelete true, if the records should be deleted permanently (bypassing the Recycle Bin),
+     *                     false, if the records should be moved to the Recycle Bin.
+     *                     <p> Note: hard delete requires "Bulk API Hard Delete" permission for the user! </p>
+     * @return finished Bulk API 2.0 ingest job with the processing results
+     * @throws RuntimeException if the job fails, times out, or some records failed to be deleted
+     */
+    @Step
+    public static BulkIngestJob deleteRecords(String sObjectName, Collection<String> ids, boolean isHardDelete) {
+        var job = createDeleteJob(sObjectName, isHardDelete);
+        LOG.info("Bulk API job {} is created to delete {} {} record(s)", job.id, ids.size(), sObjectName);
+
+        uploadJobData(job.id, ids);
+        closeJob(job.id);
+
+        var finishedJob = waitForJobToFinish(job.id);
+        if (!JOB_COMPLETE_STATE.equals(finishedJob.state)) {
+            throw new RuntimeException("Bulk API job " + job.id + " is finished in the '" + finishedJob.state + "' state! " +
+                    "Error: " + finishedJob.errorMessage);
+        }
+
+        if (finishedJob.numberRecordsFailed != null && finishedJob.numberRecordsFailed > 0) {
+            var failedResults = getFailedResults(job.id).stream()
+                    .filter(failedResult -> !failedResult.contains(ENTITY_IS_DELETED_ERROR))
+                    .collect(toList());
+
+            if (!failedResults.isEmpty()) {
+                throw new RuntimeException("Failed to delete " + failedResults.size() + " " + sObjectName + " record(s) " +
+                        "via Bulk API job " + job.id + "! \n" +
+                        "Errors: " + failedResults);
+            }
+        }
+
+        LOG.info("Bulk API job {} is completed: {} record(s) processed", job.id, finishedJob.numberRecordsProcessed);
+        return finishedJob;
+    }
+
+    /**
+     * Create a new Bulk API 2.0 job to delete the records of the given SObject.
+     *
+     * @param sObjectName  API name of the SObject to delete (e.g. "Account", "Lead", "EventLog__c"...)
+     * @param isHardDelete true, if the records should be deleted permanently (bypassing the Recycle Bin)
+     * @return created Bulk API 2.0 ingest job in the "Open" state
+     */
+    public static BulkIngestJob createDeleteJob(String sObjectName, boolean isHardDelete) {
+        var job = new BulkIngestJob();
+        job.object = sObjectName;
+        job.operation = isHardDelete ? HARD_DELETE_OPERATION : DELETE_OPERATION;
+        job.contentType = "CSV";
+        job.lineEnding = "LF";
+
+        return executeWithSessionRenewal(() -> CLIENT.post(getBulkIngestJobsURL(), job, BulkIngestJob.class));
+    }
+
+    /**
+     * Upload the IDs of the records to process for the Bulk API 2.0 job in the "Open" state.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @param ids   IDs of the records to process by the job
+     */
+    public static void uploadJobData(String jobId, Collection<String> ids) {
+        var csvData = "Id\n" + String.join("\n", ids);
+        executeWithSessionRenewal(() -> CLIENT.putAsText(getBulkIngestJobDataURL(jobId), csvData, TEXT_CSV));
+    }
+
+    /**
+     * Close the Bulk API 2.0 job, so it's queued for processing by Salesforce.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return Bulk API 2.0 ingest job in the "UploadComplete" state
+     */
+    public static BulkIngestJob closeJob(String jobId) {
+        var job = new BulkIngestJob();
+        job.state = UPLOAD_COMPLETE_STATE;
+
+        return executeWithSessionRenewal(() -> CLIENT.patch(getBulkIngestJobURL(jobId), job, BulkIngestJob.class));
+    }
+
+    /**
+     * Abort the Bulk API 2.0 job, so the rest of its records are not processed by Salesforce.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return Bulk API 2.0 ingest job in the "Aborted" state
+     */
+    public static BulkIngestJob abortJob(String jobId) {
+        var job = new BulkIngestJob();
+        job.state = ABORTED_STATE;
+
+        return executeWithSessionRenewal(() -> CLIENT.patch(getBulkIngestJobURL(jobId), job, BulkIngestJob.class));
+    }
+
+    /**
+     * Get the current info about the Bulk API 2.0 job (state, number of the processed/failed records...).
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return Bulk API 2.0 ingest job with its current state
+     */
+    public static BulkIngestJob getJobInfo(String jobId) {
+        var jobInfoJson = executeWithSessionRenewal(() -> CLIENT.getWithoutReporting(getBulkIngestJobURL(jobId)));
+        return JsonUtils.readJson(jobInfoJson, BulkIngestJob.class);
+    }
+
+    /**
+     * Wait until the Bulk API 2.0 job is finished (successfully or not).
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return finished Bulk API 2.0 ingest job
+     * @throws RuntimeException if the job isn't finished within the timeout (the job is aborted in this case)
+     */
+    @Step
+    public static BulkIngestJob waitForJobToFinish(String jobId) {
+        var deadline = System.currentTimeMillis() + JOB_TIMEOUT;
+
+        while (true) {
+            var job = getJobInfo(jobId);
+            if (job.isFinished()) {
+                return job;
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                try {
+                    abortJob(jobId);
+                } catch (Exception e) {
+                    LOG.warn("Unable to abort Bulk API job {}! Details: {}", jobId, e.toString());
+                }
+
+                throw new RuntimeException("Bulk API job " + jobId + " is not finished in " + JOB_TIMEOUT / 1000 + " seconds! " +
+                        "Current state: " + job.state + "; processed records: " + job.numberRecordsProcessed);
+            }
+
+            sleep(POLLING_INTERVAL);
+        }
+    }
+
+    /**
+     * Get the records that failed to be processed by the Bulk API 2.0 job.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return list of the CSV lines for the failed records with the errors' details
+     * (e.g. ["001...","ENTITY_IS_DELETED:entity is deleted:--","001..."]), without the header line
+     */
+    public static List<String> getFailedResults(String jobId) {
+        var failedResultsCsv = executeWithSessionRenewal(() ->
+                CLIENT.getAsText(getBulkIngestJobFailedResultsURL(jobId), TEXT_CSV));
+
+        return Arrays.stream(failedResultsCsv.split("\\R"))
+                .skip(1)
+                .filter(line -> !line.isBlank())
+                .collect(toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.model.salesforce.CompositeRequest;
+import com.aquiva.autotests.rc.model.salesforce.CompositeResponse;
+import com.aquiva.autotests.rc.model.salesforce.CompositeResponse.Subresponse;
+import com.aquiva.autotests.rc.utilities.RestApiClient;
+
+import static com.aquiva.autotests.rc.utilities.RestApiAuthentication.usingApiKey;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceRestApiHelper.getCompositeURL;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceSessionManager.executeWithSessionRenewal;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Class for handling calls to Salesforce Composite REST API.
+ * <br/>
+ * Useful for creating the related test records (e.g. Account, Contact, AccountContactRole, Opportunity)
+ * in a single API call instead of a chain of sequential SOAP API calls.
+ * <br/>
+ * See {@link SObjectCompositeRequest} for building the requests from the SObjects.
+ */
+public class SalesforceCompositeApiClient {
+
+    //  Max number of the subrequests in a single Composite request (limited by Salesforce)
+    public static final int MAX_SUBREQUESTS = 25;
+
+    private static final RestApiClient CLIENT = new RestApiClient(
+            usingApiKey("Authorization", () -> "Bearer " + SalesforceSessionManager.getSessionId()),
+            "Salesforce Composite API request has failed! Details: "
+    );
+
+    /**
+     * Execute all the subrequests of the Composite request in a single API call.
+     * <br/>
+     * Note: if the request is "all or none", all the subrequests are rolled back if any of them fails.
+     *
+     * @param compositeRequest Composite request with a series of subrequests
+     * @return Composite response with the results for every subrequest
+     * @throws RuntimeException if any of the subrequests has failed
+     */
+    public static CompositeResponse execute(CompositeRequest compositeRequest) {
+        var compositeResponse = executeWithSessionRenewal(() ->
+                CLIENT.post(getCompositeURL(), compositeRequest, CompositeResponse.class));
+
+        var failures = compositeResponse.compositeResponse.stream()
+                .filter(Subresponse::isOriginalFailure)
+                .map(subresponse -> subresponse.referenceId + ": " + subresponse.body)
+                .collect(toList());
+        if (!failures.isEmpty()) {
+            throw new RuntimeException("Failed to process " + failures.size() + " of " +
+                    compositeRequest.compositeRequest.size() + " subrequest(s) of the Composite request! \n" +
+                    "Errors: " + failures);
+        }
+
+        return compositeResponse;
+    }
+}
@@ -0,0 +1,220 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.sforce.ws.ConnectionException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Pool of the connection objects for accessing SFDC via SOAP API
+ * (Enterprise, Tooling or Metadata connections).
+ * <br/>
+ * Every connection object sends its requests sequentially,
+ * so the parallel test classes would queue behind each other with a single shared connection.
+ * Instead, every API call leases its own connection from the pool, and returns it right after the call.
+ * <br/>
+ * New connections are created on demand (up to the max size of the pool) with the shared session
+ * (see {@link ConnectionFactory}).
+ * If the shared session becomes invalid (e.g. expires), it's renewed via {@link SalesforceSessionManager},
+ * and the failed API call is repeated with the new session.
+ * <p></p>
+ * The pool also collects the time spent waiting for the available connection,
+ * so its size could be adjusted to the number of the parallel threads (see 'sf.connectionPool.size').
+ *
+ * @param <C> type of the connection object (e.g. EnterpriseConnection, ToolingConnection...)
+ */
+public class SalesforceConnectionPool<C> {
+    private final String name;
+    private final int maxSize;
+    private final ConnectionSupplier<C> connectionSupplier;
+    private final Function<C, String> sessionIdGetter;
+    private final BiConsumer<C, String> sessionIdSetter;
+
+    private final BlockingQueue<C> idleConnections = new LinkedBlockingQueue<>();
+    private final AtomicInteger connectionsCount = new AtomicInteger();
+
+    //  Metrics for the waiting time for the available connection
+    private final LongAdder leasesCount = new LongAdder();
+    private final LongAdder waitingLeasesCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Constructor for the pool of the connection objects.
+     *
+     * @param name               name of the pool for the reporting (e.g. "Enterprise", "Tooling"...)
+     * @param maxSize            max number of the connections in the pool
+     * @param initialConnection  already established connection that is put in the pool right away
+     * @param connectionSupplier operation to create a new connection for the pool, when needed
+     * @param sessionIdGetter    operation to get the session ID used by the connection
+     * @param sessionIdSetter    operation to set the new session ID for the connection
+     */
+    public SalesforceConnectionPool(String name, int maxSize, C initialConnection,
+                                    ConnectionSupplier<C> connectionSupplier,
+                                    Function<C, String> sessionIdGetter,
+                                    BiConsumer<C, String> sessionIdSetter) {
+        this.name = name;
+        this.maxSize = Math.max(maxSize, 1);
+        this.connectionSupplier = connectionSupplier;
+        this.sessionIdGetter = sessionIdGetter;
+        this.sessionIdSetter = sessionIdSetter;
+
+        idleConnections.add(initialConnection);
+        connectionsCount.set(1);
+    }
+
+    /**
+     * Lease the connection from the pool to execute API operation(s) with it.
+     * <br/>
+     * If there are no idle connections in the pool, and the pool is not full, a new connection is created.
+     * Otherwise, the method waits until any connection is returned to the pool.
+     * <br/>
+     * <b> Note: the connection should always be returned to the pool via {@link #release(Object)}! </b>
+     *
+     * @return connection object for the exclusive use by the current thread
+     * @throws ConnectionException in case of errors while creating a new connection
+     */
+    public C lease() throws ConnectionException {
+        var startTime = System.nanoTime();
+
+        var connection = idleConnections.poll();
+        if (connection == null) {
+            connection = createConnectionIfPoolIsNotFull();
+        }
+        if (connection == null) {
+            try {
+                connection = idleConnections.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for the available " + name + " connection! " +
+                        "Details: " + e, e);
+            }
+
+            var waitNanos = System.nanoTime() - startTime;
+            waitingLeasesCount.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        leasesCount.increment();
+        return connection;
+    }
+
+    /**
+     * Return the leased connection to the pool, so it can be used by other threads.
+     *
+     * @param connection connection object that was leased via {@link #lease()}
+     */
+    public void release(C connection) {
+        idleConnections.add(connection);
+    }
+
+    /**
+     * Execute API operation using the connection leased from the pool.
+     * The connection is returned to the pool right after the operation.
+     * <br/>
+     * If the operation fails because of the invalid session,
+     * the session is renewed, and the operation is repeated once with the new session.
+     *
+     * @param operation any API operation (e.g. query, create, update, delete...)
+     * @param <T>       type of the operation's result
+     * @return result of the API operation
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    public <T> T execute(PooledOperation<C, T> operation) throws ConnectionException {
+        var connection = lease();
+        try {
+            updateSession(connection);
+
+            try {
+                return operation.run(connection);
+            } catch (ConnectionException | RuntimeException e) {
+                if (!SalesforceSessionManager.isInvalidSessionError(e)) {
+                    throw e;
+                }
+
+                SalesforceSessionManager.renewSession(sessionIdGetter.apply(connection));
+                updateSession(connection);
+                return operation.run(connection);
+            }
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Get the current statistics for the pool in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current pool statistics
+     * (e.g. "Enterprise: connections: 3/4; leases: 1520; waited: 12; avg wait: 85 ms; max wait: 640 ms")
+     */
+    public String getStatsFormatted() {
+        var waitingLeases = waitingLeasesCount.sum();
+        var avgWaitMillis = waitingLeases == 0 ? 0 : NANOSECONDS.toMillis(totalWaitNanos.sum() / waitingLeases);
+
+        return String.format("%s: connections: %d/%d; leases: %d; waited: %d; avg wait: %d ms; max wait: %d ms",
+                name, connectionsCount.get(), maxSize, leasesCount.sum(), waitingLeases,
+                avgWaitMillis, NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+    /**
+     * Set the current shared session for the connection, if it still uses the old one
+     * (e.g. the session has been renewed by another thread).
+     *
+     * @param connection connection object leased from the pool
+     */
+    private void updateSession(C connection) {
+        var currentSessionId = SalesforceSessionManager.getSessionId();
+        if (!currentSessionId.equals(sessionIdGetter.apply(connection))) {
+            sessionIdSetter.accept(connection, currentSessionId);
+        }
+    }
+
+    /**
+     * Create a new connection, if the max size of the pool is not reached yet.
+     *
+     * @return new connection object, or {@code null} if the pool is full
+     * @throws ConnectionException in case of errors while creating a new connection
+     */
+    private C createConnectionIfPoolIsNotFull() throws ConnectionException {
+        while (true) {
+            var currentCount = connectionsCount.get();
+            if (currentCount >= maxSize) {
+                return null;
+            }
+
+            if (connectionsCount.compareAndSet(currentCount, currentCount + 1)) {
+                try {
+                    return connectionSupplier.create();
+                } catch (ConnectionException | RuntimeException e) {
+                    connectionsCount.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Additional interface to create new connections for the pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier<C> {
+        C create() throws ConnectionException;
+    }
+
+    /**
+     * Additional interface to wrap API operations with the pooled connection.
+     */
+    @FunctionalInterface
+    public interface PooledOperation<C, T> {
+        T run(C connection) throws ConnectionException;
+    }
+}
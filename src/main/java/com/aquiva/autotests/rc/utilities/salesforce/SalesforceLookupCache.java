@@ -0,0 +1,113 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.sforce.ws.ConnectionException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Run-scoped cache for the results of the common Salesforce lookups
+ * that don't change during the run (e.g. running user, Organization ID, App's Durable ID, test users).
+ * <br/>
+ * Every lookup is executed only once per unique key, and all the subsequent calls get the cached result.
+ * Concurrent calls with the same key wait for the single lookup to finish,
+ * and failed lookups are not cached.
+ * <p></p>
+ * The cache can be disabled via {@code sf.lookupCache} system property (default: true).
+ * Use {@link #invalidate(String)} or {@link #invalidateAll()}, if the org's data has been changed during the run
+ * (e.g. a user's permission sets have been changed).
+ */
+public class SalesforceLookupCache {
+
+    private static final boolean IS_ENABLED = parseBoolean(System.getProperty("sf.lookupCache", "true"));
+
+    //  Lookup's category (e.g. "User", "Organization") -> lookup's key -> cached result
+    private static final Map<String, Map<String, Object>> VALUES = new ConcurrentHashMap<>();
+    //  Locks for the lookups in progress (to avoid executing the same lookup in parallel)
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    //  Metrics for the cache hits/misses by lookup's category
+    private static final Map<String, LongAdder> HITS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> MISSES = new ConcurrentHashMap<>();
+
+    /**
+     * Get the result of the lookup from the cache, or execute the lookup, if there's no result for the key yet.
+     *
+     * @param category category of the lookup (e.g. "User", "Organization", "AppDefinition")
+     * @param key      unique key of the lookup within its category (e.g. SOQL query, App's name)
+     * @param lookup   operation to get the result (e.g. SOQL query via API)
+     * @param <T>      type of the lookup's result
+     * @return cached or just obtained result of the lookup
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String category, String key, Lookup<T> lookup) throws ConnectionException {
+        if (!IS_ENABLED) {
+            MISSES.computeIfAbsent(category, c -> new LongAdder()).increment();
+            return lookup.get();
+        }
+
+        var categoryValues = VALUES.computeIfAbsent(category, c -> new ConcurrentHashMap<>());
+        var value = categoryValues.get(key);
+        if (value == null) {
+            synchronized (LOCKS.computeIfAbsent(category + ":" + key, k -> new Object())) {
+                value = categoryValues.get(key);
+                if (value == null) {
+                    MISSES.computeIfAbsent(category, c -> new LongAdder()).increment();
+                    value = lookup.get();
+                    if (value != null) {
+                        categoryValues.put(key, value);
+                    }
+                    return (T) value;
+                }
+            }
+        }
+
+        HITS.computeIfAbsent(category, c -> new LongAdder()).increment();
+        return (T) value;
+    }
+
+    /**
+     * Remove all the cached results for the given lookup's category.
+     *
+     * @param category category of the lookup (e.g. "User", "Organization", "AppDefinition")
+     */
+    public static void invalidate(String category) {
+        VALUES.remove(category);
+    }
+
+    /**
+     * Remove all the cached results for all the lookups.
+     */
+    public static void invalidateAll() {
+        VALUES.clear();
+    }
+
+    /**
+     * Get the current statistics for the cache hits/misses in the form of the formatted string.
+     * Useful for logging.
+     *
+     * @return string with the current statistics for every lookup's category
+     * (e.g. "User: hits: 75, misses: 6; Organization: hits: 311, misses: 1"),
+     * or empty string if there were no lookups yet
+     */
+    public static String getStatsFormatted() {
+        return MISSES.keySet().stream()
+                .sorted()
+                .map(category -> String.format("%s: hits: %d, misses: %d", category,
+                        HITS.getOrDefault(category, new LongAdder()).sum(), MISSES.get(category).sum()))
+                .collect(joining("; "));
+    }
+
+    /**
+     * Additional interface to wrap the lookup operations (e.g. SOQL queries via API).
+     */
+    @FunctionalInterface
+    public interface Lookup<T> {
+        T get() throws ConnectionException;
+    }
+}
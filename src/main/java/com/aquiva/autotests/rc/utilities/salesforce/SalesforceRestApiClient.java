@@ -8,25 +8,29 @@ import org.json.JSONObject;
 
 import static com.aquiva.autotests.rc.utilities.RestApiAuthentication.usingApiKey;
 import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceRestApiHelper.*;
+import static com.aquiva.autotests.rc.utilities.salesforce.SalesforceSessionManager.executeWithSessionRenewal;
 
 /**
  * Class for handling calls to Salesforce API.
  * <br/>
  * Useful for getting the data from Salesforce that cannot be obtained via SOAP API or web interface.
+ * <br/>
+ * All the requests use the current shared session (see {@link SalesforceSessionManager}),
+ * and they're repeated with the new session if the current one is expired.
  */
 public class SalesforceRestApiClient {
 
     //  Note: a client with this type of authentication is only suitable for getting WSDL files from the org!
     //  Use SOAP API for any other tasks (e.g. CRUD operations with records, manipulating metadata, etc.)
     private static final RestApiClient CLIENT_COOKIE_AUTH = new RestApiClient(
-            usingApiKey("Cookie", "sid=" + EnterpriseConnectionUtils.getInstance().getSessionId()),
+            usingApiKey("Cookie", () -> "sid=" + SalesforceSessionManager.getSessionId()),
             "Unable to get a response from Salesforce! Details: "
     );
 
     //  Note: a client with this type of authentication is mostly suitable for working with custom Apex REST Services!
     //  Use SOAP API for any other tasks (e.g. CRUD operations with records, manipulating metadata, etc.)
     private static final RestApiClient CLIENT_BEARER_AUTH = new RestApiClient(
-            usingApiKey("Authorization", "Bearer " + EnterpriseConnectionUtils.getInstance().getSessionId()),
+            usingApiKey("Authorization", () -> "Bearer " + SalesforceSessionManager.getSessionId()),
             "Unable to get a response from Salesforce! Details: "
     );
 
@@ -35,7 +39,7 @@ public class SalesforceRestApiClient {
      */
     public static String getEnterpriseWSDL() {
         var url = getSoapWsdlEnterpriseURL();
-        return CLIENT_COOKIE_AUTH.get(url);
+        return executeWithSessionRenewal(() -> CLIENT_COOKIE_AUTH.get(url));
     }
 
     /**
@@ -43,7 +47,7 @@ public class SalesforceRestApiClient {
      */
     public static String getToolingWSDL() {
         var url = getSoapWsdlToolingURL();
-        return CLIENT_COOKIE_AUTH.get(url);
+        return executeWithSessionRenewal(() -> CLIENT_COOKIE_AUTH.get(url));
     }
 
     /**
@@ -52,7 +56,7 @@ public class SalesforceRestApiClient {
      */
     public static Limits getOrgCurrentLimits() {
         var url = getOrgLimitsURL();
-        return CLIENT_BEARER_AUTH.get(url, Limits.class);
+        return executeWithSessionRenewal(() -> CLIENT_BEARER_AUTH.get(url, Limits.class));
     }
 
     /**
@@ -66,7 +70,7 @@ public class SalesforceRestApiClient {
      */
     public static String getCountryCodeFromSettingsService(String countryName) {
         var url = getSettingsServiceURL();
-        var sfdcSettings = CLIENT_BEARER_AUTH.get(url);
+        var sfdcSettings = executeWithSessionRenewal(() -> CLIENT_BEARER_AUTH.get(url));
 
         var countryCodes = new JSONObject(new JSONObject(sfdcSettings).getString("CountryCodes"));
         try {
@@ -15,6 +15,13 @@ public class SalesforceRestApiHelper {
     //  Standard REST API services
     private static final String STANDARD_SFDC_SERVICE_PREFIX = "/services/data/v" + SFDC_API_VERSION;
     private static final String ORG_LIMITS_SERVICE = STANDARD_SFDC_SERVICE_PREFIX + "/limits";
+    private static final String COMPOSITE_SERVICE = STANDARD_SFDC_SERVICE_PREFIX + "/composite";
+    private static final String SOBJECTS_SERVICE = STANDARD_SFDC_SERVICE_PREFIX + "/sobjects/";
+
+    //  Bulk API 2.0 services
+    private static final String BULK_INGEST_JOBS_SERVICE = STANDARD_SFDC_SERVICE_PREFIX + "/jobs/ingest/";
+    private static final String BULK_INGEST_JOB_DATA = "/batches/";
+    private static final String BULK_INGEST_JOB_FAILED_RESULTS = "/failedResults/";
 
     //  Custom Apex REST API services
     private static final String SETTINGS_SERVICE = "/services/apexrest/SettingsService";
@@ -49,6 +56,82 @@ public class SalesforceRestApiHelper {
         return BASE_URL + ORG_LIMITS_SERVICE;
     }
 
+    /**
+     * Return string URL for request to
+     * <i>{salesforce.base.url}/services/data/v{api.version}/composite</i>.
+     *
+     * @return string representation for URL to execute a series of REST API requests in a single call
+     */
+    public static String getCompositeURL() {
+        return BASE_URL + COMPOSITE_SERVICE;
+    }
+
+    /**
+     * Return relative URL for the subrequest of the Composite request:
+     * <i>/services/data/v{api.version}/sobjects/{sObjectName}</i>.
+     *
+     * @param sObjectName API name of the SObject (e.g. "Account", "Contact", "Opportunity"...)
+     * @return string representation for relative URL to create a new record of the SObject
+     */
+    public static String getSObjectPath(String sObjectName) {
+        return SOBJECTS_SERVICE + sObjectName;
+    }
+
+    /**
+     * Return relative URL for the subrequest of the Composite request:
+     * <i>/services/data/v{api.version}/sobjects/{sObjectName}/{id}</i>.
+     *
+     * @param sObjectName API name of the SObject (e.g. "Account", "Contact", "Opportunity"...)
+     * @param id          ID of the record (or the reference to the record's ID, e.g. "@{refAccount1.id}")
+     * @return string representation for relative URL to update/delete the record of the SObject
+     */
+    public static String getSObjectRecordPath(String sObjectName, String id) {
+        return getSObjectPath(sObjectName) + "/" + id;
+    }
+
+    /**
+     * Return string URL for request to
+     * <i>{salesforce.base.url}/services/data/v{api.version}/jobs/ingest/</i>.
+     *
+     * @return string representation for URL to create Bulk API 2.0 ingest jobs
+     */
+    public static String getBulkIngestJobsURL() {
+        return BASE_URL + BULK_INGEST_JOBS_SERVICE;
+    }
+
+    /**
+     * Return string URL for request to
+     * <i>{salesforce.base.url}/services/data/v{api.version}/jobs/ingest/{jobId}</i>.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return string representation for URL to get info about the job or change its state
+     */
+    public static String getBulkIngestJobURL(String jobId) {
+        return getBulkIngestJobsURL() + jobId;
+    }
+
+    /**
+     * Return string URL for request to
+     * <i>{salesforce.base.url}/services/data/v{api.version}/jobs/ingest/{jobId}/batches/</i>.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return string representation for URL to upload the job's data (CSV)
+     */
+    public static String getBulkIngestJobDataURL(String jobId) {
+        return getBulkIngestJobURL(jobId) + BULK_INGEST_JOB_DATA;
+    }
+
+    /**
+     * Return string URL for request to
+     * <i>{salesforce.base.url}/services/data/v{api.version}/jobs/ingest/{jobId}/failedResults/</i>.
+     *
+     * @param jobId ID of the Bulk API 2.0 ingest job
+     * @return string representation for URL to get the records that failed to be processed by the job (CSV)
+     */
+    public static String getBulkIngestJobFailedResultsURL(String jobId) {
+        return getBulkIngestJobURL(jobId) + BULK_INGEST_JOB_FAILED_RESULTS;
+    }
+
     /**
      * Return string URL for request to
      * <i>{salesforce.base.url}/services/apexrest/ServiceSettings</i>.
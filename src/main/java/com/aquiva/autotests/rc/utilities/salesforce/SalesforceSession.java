@@ -0,0 +1,34 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+/**
+ * Authenticated session with Salesforce obtained via SOAP API login.
+ * <br/>
+ * The same session is shared by all the API clients (Enterprise, Tooling, Metadata, REST...)
+ * (see {@link SalesforceSessionManager}).
+ */
+public class SalesforceSession {
+    //  Session ID for the 'SessionHeader' in SOAP API calls, or for the 'Authorization: Bearer ...' header in REST API calls
+    public String sessionId;
+    //  Enterprise SOAP API endpoint for the org (e.g. "https://rc--qa.sandbox.my.salesforce.com/services/Soap/c/59.0/00D...")
+    public String serviceEndpoint;
+    //  Time of the login (in milliseconds since the epoch)
+    public long createdAt;
+
+    /**
+     * No-args constructor (for reading the session from the JSON file).
+     */
+    public SalesforceSession() {
+    }
+
+    /**
+     * Parameterized constructor for the session object.
+     *
+     * @param sessionId       ID of the authenticated session
+     * @param serviceEndpoint Enterprise SOAP API endpoint for the org
+     */
+    public SalesforceSession(String sessionId, String serviceEndpoint) {
+        this.sessionId = sessionId;
+        this.serviceEndpoint = serviceEndpoint;
+        this.createdAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,219 @@
+package com.aquiva.autotests.rc.utilities.salesforce;
+
+import com.aquiva.autotests.rc.utilities.JsonUtils;
+import com.sforce.ws.ConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.function.Supplier;
+
+import static com.aquiva.autotests.rc.utilities.Constants.USER;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.parseLong;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Manager for the authenticated session with Salesforce, shared by all the API clients
+ * (Enterprise, Tooling and Metadata connections, REST API clients).
+ * <br/>
+ * The test user logs in only once, and the session is renewed (with the new login)
+ * only when the current one becomes invalid (e.g. expires during the long run).
+ * <p></p>
+ * The session can also be persisted on disk to be reused by the subsequent runs/forks.
+ * Its settings can be controlled via system properties:
+ * <p> - {@code sf.session.persist}: if true, the session is stored/loaded to/from disk (default: false) </p>
+ * <p> - {@code sf.session.cacheDir}: folder for the session's file (default: "target/sfdc-session") </p>
+ * <p> - {@code sf.session.ttlMinutes}: time (in minutes) after which the session on disk is not reused (default: 60) </p>
+ * <p></p>
+ * Note: the persisted session ID is stored <b>in plain text</b>, and it gives the full API access
+ * with the test user's permissions until the session expires!
+ * The session's file is readable by its owner only (on POSIX file systems),
+ * and the default folder is ignored by git. Don't point {@code sf.session.cacheDir} to the shared
+ * or version-controlled folders, and don't publish it as a CI artifact.
+ */
+public class SalesforceSessionManager {
+    private static final Logger LOG = LoggerFactory.getLogger(SalesforceSessionManager.class);
+
+    private static final boolean IS_PERSISTED = parseBoolean(System.getProperty("sf.session.persist", "false"));
+    private static final Path SESSION_FILE = Paths.get(System.getProperty("sf.session.cacheDir", "target/sfdc-session"),
+            USER.replaceAll("\\W", "_") + ".json");
+    private static final long TTL_MILLIS = parseLong(System.getProperty("sf.session.ttlMinutes", "60")) * 60 * 1000;
+
+    //  Owner-only permissions for the session's folder and file
+    private static final String OWNER_ONLY_FOLDER_PERMISSIONS = "rwx------";
+    private static final String OWNER_ONLY_FILE_PERMISSIONS = "rw-------";
+
+    //  Error code for the expired or invalid session in SOAP/REST API responses
+    private static final String INVALID_SESSION_ERROR = "INVALID_SESSION_ID";
+
+    private static volatile SalesforceSession currentSession;
+
+    /**
+     * Get the current session with Salesforce.
+     * <br/>
+     * On the first call, the session is loaded from disk (if it's persisted and isn't expired),
+     * or the test user logs in via SOAP API.
+     *
+     * @return current authenticated session
+     */
+    public static SalesforceSession getSession() {
+        var session = currentSession;
+        if (session == null) {
+            synchronized (SalesforceSessionManager.class) {
+                session = currentSession;
+                if (session == null) {
+                    session = loadSession();
+                    if (session == null) {
+                        session = login();
+                    }
+                    currentSession = session;
+                }
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Get ID of the current session with Salesforce.
+     *
+     * @return ID of the current authenticated session
+     * @see #getSession()
+     */
+    public static String getSessionId() {
+        return getSession().sessionId;
+    }
+
+    /**
+     * Renew the session with Salesforce (i.e. log in again), if the given session is still the current one.
+     * <br/>
+     * If several threads detect the invalid session at the same time, only one of them logs in,
+     * and the rest of them just get the new session.
+     *
+     * @param invalidSessionId ID of the session that is detected as expired/invalid
+     * @return new (or already renewed) authenticated session
+     */
+    public static synchronized SalesforceSession renewSession(String invalidSessionId) {
+        var session = currentSession;
+        if (session == null || session.sessionId.equals(invalidSessionId)) {
+            LOG.warn("Salesforce session is expired or invalid! Logging in again...");
+            currentSession = login();
+        }
+        return currentSession;
+    }
+
+    /**
+     * Check if the error is caused by the expired or invalid session
+     * (e.g. "INVALID_SESSION_ID" fault in SOAP API, 401 response with "INVALID_SESSION_ID" error code in REST API).
+     *
+     * @param error any exception/error thrown by the API call
+     * @return true, if the error (or any of its causes) is related to the invalid session
+     */
+    public static boolean isInvalidSessionError(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause.toString().contains(INVALID_SESSION_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Execute any API operation that uses the current session,
+     * and repeat it once with the new session, if the current one is expired/invalid.
+     * <br/>
+     * Useful for REST API calls that use the session ID in their headers.
+     *
+     * @param operation any API operation that uses the current session
+     * @param <T>       type of the operation's result
+     * @return result of the API operation
+     */
+    public static <T> T executeWithSessionRenewal(Supplier<T> operation) {
+        var sessionId = getSessionId();
+        try {
+            return operation.get();
+        } catch (RuntimeException | AssertionError e) {
+            if (!isInvalidSessionError(e)) {
+                throw e;
+            }
+
+            renewSession(sessionId);
+            return operation.get();
+        }
+    }
+
+    /**
+     * Log in to Salesforce via SOAP API with the default configuration,
+     * and save the new session to disk (if it's persisted).
+     *
+     * @return new authenticated session
+     */
+    private static SalesforceSession login() {
+        SalesforceSession session;
+        try {
+            var connection = ConnectionFactory.getDefaultEnterpriseLoginConnection();
+            session = new SalesforceSession(connection.getSessionHeader().getSessionId(),
+                    connection.getConfig().getServiceEndpoint());
+        } catch (ConnectionException e) {
+            throw new RuntimeException("Unable to log in to Salesforce! Details: " + e, e);
+        }
+
+        if (IS_PERSISTED) {
+            try {
+                Files.createDirectories(SESSION_FILE.getParent(), getOwnerOnlyPermissions(OWNER_ONLY_FOLDER_PERMISSIONS));
+                var tempFile = Files.createTempFile(SESSION_FILE.getParent(), "session", ".tmp",
+                        getOwnerOnlyPermissions(OWNER_ONLY_FILE_PERMISSIONS));
+                Files.writeString(tempFile, JsonUtils.writeJsonAsString(session), UTF_8);
+                Files.move(tempFile, SESSION_FILE, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOG.warn("Unable to save Salesforce session to {}! Details: {}", SESSION_FILE, e.toString());
+            }
+        }
+
+        return session;
+    }
+
+    /**
+     * Get the file attributes with the owner-only permissions for the session's folder/file.
+     *
+     * @param permissions POSIX permissions in the string form (e.g. "rw-------")
+     * @return file attributes with the POSIX permissions,
+     * or no attributes if the file system doesn't support POSIX permissions (e.g. on Windows)
+     */
+    private static FileAttribute<?>[] getOwnerOnlyPermissions(String permissions) {
+        if (!SESSION_FILE.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions))};
+    }
+
+    /**
+     * Load the session from disk, if it's persisted there and isn't expired.
+     *
+     * @return session from disk, or {@code null} if there's no valid session on disk
+     */
+    private static SalesforceSession loadSession() {
+        if (!IS_PERSISTED || !Files.exists(SESSION_FILE)) {
+            return null;
+        }
+
+        try {
+            var session = JsonUtils.readJson(Files.readString(SESSION_FILE, UTF_8), SalesforceSession.class);
+            if (session.sessionId != null && System.currentTimeMillis() - session.createdAt < TTL_MILLIS) {
+                LOG.info("Reusing Salesforce session from {}", SESSION_FILE);
+                return session;
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to read Salesforce session from {}! Details: {}", SESSION_FILE, e.toString());
+        }
+
+        return null;
+    }
+}
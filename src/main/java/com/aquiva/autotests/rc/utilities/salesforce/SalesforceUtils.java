@@ -1,6 +1,8 @@
 package com.aquiva.autotests.rc.utilities.salesforce;
 
 import com.sforce.soap.enterprise.*;
+import com.sforce.soap.enterprise.DeleteResult;
+import com.sforce.soap.enterprise.SaveResult;
 import com.sforce.soap.enterprise.sobject.SObject;
 import com.sforce.soap.metadata.*;
 import com.sforce.soap.tooling.ToolingConnection;
@@ -37,6 +39,20 @@ public class SalesforceUtils {
                                       SObject... objects)
             throws ConnectionException {
         var saveResults = enterpriseConnection.create(objects);
+        return getCreatedIds(saveResults);
+    }
+
+    /**
+     * Process the results of the enterprise SObjects' creation in the Salesforce database.
+     * <br/>
+     * Useful when the SObjects are created by several separate API calls (e.g. by chunks),
+     * and all the results should be checked and reported at once.
+     *
+     * @param saveResults results of the create operation(s) in the same order as the created SObjects
+     * @return list of SObject IDs for every created SObject in the database
+     * @throws RuntimeException if any of the SObjects failed to be created
+     */
+    public static List<String> getCreatedIds(SaveResult[] saveResults) {
         var successIdList = new ArrayList<String>();
         var errorMessages = new ArrayList<String>();
 
@@ -160,6 +176,21 @@ public class SalesforceUtils {
     public static List<String> update(EnterpriseConnection enterpriseConnection, SObject... objects)
             throws ConnectionException {
         var saveResults = enterpriseConnection.update(objects);
+        return getUpdatedIds(objects, saveResults);
+    }
+
+    /**
+     * Process the results of the enterprise SObjects' update in the Salesforce database.
+     * <br/>
+     * Useful when the SObjects are updated by several separate API calls (e.g. by chunks),
+     * and all the results should be checked at once.
+     *
+     * @param objects     SObjects that were updated in the database
+     * @param saveResults results of the update operation(s) in the same order as the updated SObjects
+     * @return list of SObject IDs for every updated SObject in the database
+     * @throws RuntimeException if any of the SObjects failed to be updated
+     */
+    public static List<String> getUpdatedIds(SObject[] objects, SaveResult[] saveResults) {
         var successIdList = new ArrayList<String>();
         var errorMessages = new ArrayList<String>();
 
@@ -241,6 +272,23 @@ public class SalesforceUtils {
     public static List<String> delete(EnterpriseConnection enterpriseConnection, String... ids)
             throws ConnectionException {
         var deleteResults = enterpriseConnection.delete(ids);
+        return getDeletedIds(ids, deleteResults);
+    }
+
+    /**
+     * Process the results of the SObjects' deletion from the Salesforce database.
+     * <br/>
+     * Useful when the SObjects are deleted by several separate API calls (e.g. by chunks),
+     * and all the results should be checked at once.
+     * <br/>
+     * Note: SObjects that were already deleted are considered as successfully deleted.
+     *
+     * @param ids           SObjects' IDs that were deleted in the database
+     * @param deleteResults results of the delete operation(s) in the same order as the provided IDs
+     * @return list of SObject IDs for every deleted SObject in the database
+     * @throws RuntimeException if any of the SObjects failed to be deleted
+     */
+    public static List<String> getDeletedIds(String[] ids, DeleteResult[] deleteResults) {
         var successIdList = new ArrayList<String>();
         var errorMessages = new ArrayList<String>();
 
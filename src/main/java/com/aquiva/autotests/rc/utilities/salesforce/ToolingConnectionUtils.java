@@ -21,8 +21,8 @@ public class ToolingConnectionUtils {
     //  Single instance of the class
     private static final ToolingConnectionUtils INSTANCE = new ToolingConnectionUtils();
 
-    //  Connection object for accessing SFDC via SOAP API
-    private final ToolingConnection toolingConnection;
+    //  Connection objects (with the same session) for accessing SFDC via SOAP API concurrently
+    private final SalesforceConnectionPool<ToolingConnection> connectionPool;
 
     /**
      * Class constructor.
@@ -31,7 +31,8 @@ public class ToolingConnectionUtils {
      */
     private ToolingConnectionUtils() {
         try {
-            toolingConnection = ConnectionFactory.getDefaultToolingConnection();
+            var toolingConnection = ConnectionFactory.getDefaultToolingConnection();
+            connectionPool = ConnectionFactory.getToolingConnectionPool(toolingConnection);
         } catch (ConnectionException e) {
             throw new RuntimeException("Unable to create tooling connection! Details: " + e, e);
         }
@@ -58,7 +59,7 @@ public class ToolingConnectionUtils {
      * @throws RuntimeException    if Apex code fails to compile, or fails at runtime
      */
     public void executeAnonymousApex(String apexSnippet) throws ConnectionException {
-        var executeAnonymousResult = toolingConnection.executeAnonymous(apexSnippet);
+        var executeAnonymousResult = connectionPool.execute(connection -> connection.executeAnonymous(apexSnippet));
 
         if (!executeAnonymousResult.getSuccess()) {
             if (!executeAnonymousResult.getCompiled()) {
@@ -84,7 +85,7 @@ public class ToolingConnectionUtils {
      * @throws ConnectionException in case of errors while accessing API
      */
     public List<String> insertAndGetIds(SObject... objects) throws ConnectionException {
-        var insertResult = SalesforceUtils.create(toolingConnection, objects);
+        var insertResult = connectionPool.execute(connection -> SalesforceUtils.create(connection, objects));
 
         for (int i = 0; i < insertResult.size(); i++) {
             objects[i].setId(insertResult.get(i));
@@ -124,7 +125,7 @@ public class ToolingConnectionUtils {
      * @throws ConnectionException in case of errors while accessing API
      */
     public <T extends SObject> List<T> query(String queryString, Class<T> valueType) throws ConnectionException {
-        var records = toolingConnection.query(queryString).getRecords();
+        var records = connectionPool.execute(connection -> connection.query(queryString).getRecords());
 
         return Arrays.stream(records)
                 .map(valueType::cast)
@@ -46,15 +46,33 @@ public class AccountContactRoleFactory extends SObjectFactory {
     public static AccountContactRole createAccountContactRole(Account account, Contact contact,
                                                               String roleName, boolean isPrimary)
             throws ConnectionException {
+        var newAccountContactRole = setUpAccountContactRole(account.getId(), contact.getId(), roleName, isPrimary);
+
+        CONNECTION_UTILS.insertAndGetIds(newAccountContactRole);
+
+        return newAccountContactRole;
+    }
+
+    /**
+     * Set up a new instance of AccountContactRole object without inserting it into Salesforce.
+     *
+     * @param accountId ID of the linked Account
+     *                  (or the reference to the account in the Composite request, e.g. "@{refAccount1.id}")
+     * @param contactId ID of the linked Contact
+     *                  (or the reference to the contact in the Composite request, e.g. "@{refContact2.id}")
+     * @param roleName  Role name for linked Contact (e.g. "Signatory", "Influencer")
+     * @param isPrimary true, if setting Contact as "Primary" for Account
+     * @return AccountContactRole object
+     */
+    static AccountContactRole setUpAccountContactRole(String accountId, String contactId,
+                                                      String roleName, boolean isPrimary) {
         var newAccountContactRole = new AccountContactRole();
 
-        newAccountContactRole.setAccountId(account.getId());
-        newAccountContactRole.setContactId(contact.getId());
+        newAccountContactRole.setAccountId(accountId);
+        newAccountContactRole.setContactId(contactId);
         newAccountContactRole.setRole(roleName);
         newAccountContactRole.setIsPrimary(isPrimary);
 
-        CONNECTION_UTILS.insertAndGetIds(newAccountContactRole);
-
         return newAccountContactRole;
     }
 }
@@ -1,6 +1,7 @@
 package com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories;
 
 import com.aquiva.autotests.rc.model.ngbs.testdata.Dataset;
+import com.aquiva.autotests.rc.utilities.salesforce.SObjectCompositeRequest;
 import com.sforce.soap.enterprise.sobject.*;
 import com.sforce.ws.ConnectionException;
 
@@ -11,9 +12,14 @@ import static com.aquiva.autotests.rc.utilities.Constants.IS_SANDBOX;
 import static com.aquiva.autotests.rc.utilities.StringHelper.EMPTY_STRING;
 import static com.aquiva.autotests.rc.utilities.StringHelper.getRandomPositiveInteger;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountContactRoleFactory.createPrimarySignatoryContactRole;
-import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.ContactFactory.createContactForAccount;
-import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.ContactFactory.createVarVisibleContactForAccount;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountContactRoleFactory.setUpAccountContactRole;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.ContactFactory.*;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.OpportunityFactory.setUpOpportunity;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.AccountContactRoleHelper.SIGNATORY_ROLE;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.AccountHelper.*;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.OpportunityHelper.EXISTING_BUSINESS_TYPE;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.OpportunityHelper.NEW_BUSINESS_TYPE;
+import static java.lang.Boolean.parseBoolean;
 import static java.time.Clock.systemUTC;
 import static java.time.format.DateTimeFormatter.ofPattern;
 
@@ -22,8 +28,14 @@ import static java.time.format.DateTimeFormatter.ofPattern;
  * with/without dependent objects (e.g. {@link Contact}, {@link AccountContactRole} etc.).
  * <p>
  * All factory methods also insert created objects into the SF database.
+ * <p>
+ * Accounts with the related records are inserted via Composite REST API in a single API call
+ * (see {@link SObjectCompositeRequest}), unless it's disabled via 'sf.compositeApi' system property.
  */
 public class AccountFactory extends SObjectFactory {
+    //  If false, related records are inserted one by one via SOAP API
+    private static final boolean IS_COMPOSITE_API_ENABLED = parseBoolean(System.getProperty("sf.compositeApi", "true"));
+
     //  Default values to include in Account.Name field
     private static final String NEW_CUSTOMER_DEFAULT_ACCOUNT_NAME = "NGBS New Customer";
     private static final String EXISTING_CUSTOMER_DEFAULT_ACCOUNT_NAME = "NGBS Existing Customer";
@@ -67,11 +79,7 @@ public class AccountFactory extends SObjectFactory {
         var account = setUpAccountWithCommonFields(NEW_CUSTOMER_DEFAULT_ACCOUNT_NAME,
                 ownerUser.getId(), accountData, false);
 
-        CONNECTION_UTILS.insertAndGetIds(account);
-
-        var primaryContact = createContactForAccount(account, ownerUser);
-
-        createPrimarySignatoryContactRole(account, primaryContact);
+        insertAccountWithPrimaryContact(account, ownerUser);
 
         return account;
     }
@@ -94,11 +102,7 @@ public class AccountFactory extends SObjectFactory {
 
         setUpExistingBusinessFieldsForPaidStatus(account, accountData.billingId);
 
-        CONNECTION_UTILS.insertAndGetIds(account);
-
-        var primaryContact = createContactForAccount(account, ownerUser);
-
-        createPrimarySignatoryContactRole(account, primaryContact);
+        insertAccountWithPrimaryContact(account, ownerUser);
 
         return account;
     }
@@ -123,17 +127,88 @@ public class AccountFactory extends SObjectFactory {
         account.setPartner_ID__c(randomPartnerId);
         account.setPermitted_Brands__c(accountData.permittedBrands);
 
-        CONNECTION_UTILS.insertAndGetIds(account);
+        if (!IS_COMPOSITE_API_ENABLED) {
+            CONNECTION_UTILS.insertAndGetIds(account);
 
-        var primaryContact = createVarVisibleContactForAccount(account, ownerUser);
-        account.setPartner_Contact__c(primaryContact.getId());
-        CONNECTION_UTILS.update(account);
+            var primaryContact = createVarVisibleContactForAccount(account, ownerUser);
+            account.setPartner_Contact__c(primaryContact.getId());
+            CONNECTION_UTILS.update(account);
+
+            createPrimarySignatoryContactRole(account, primaryContact);
+
+            return account;
+        }
+
+        var compositeRequest = new SObjectCompositeRequest();
+        var accountReference = compositeRequest.insert(account);
 
-        createPrimarySignatoryContactRole(account, primaryContact);
+        var primaryContact = setUpVarVisibleContactForAccount(accountReference, ownerUser);
+        var contactReference = compositeRequest.insert(primaryContact);
+
+        var accountToUpdate = new Account();
+        accountToUpdate.setId(accountReference);
+        accountToUpdate.setPartner_Contact__c(contactReference);
+        compositeRequest.update(accountToUpdate);
+
+        compositeRequest.insert(setUpAccountContactRole(accountReference, contactReference, SIGNATORY_ROLE, true));
+        compositeRequest.execute();
+
+        account.setPartner_Contact__c(primaryContact.getId());
 
         return account;
     }
 
+    /**
+     * Create a new Account object with related Contact, Primary Signatory AccountContactRole and Opportunity
+     * and insert them into Salesforce via Composite REST API in a single API call.
+     * <br/>
+     * Useful as a quick setup for the tests that need the new Opportunity
+     * (instead of the separate calls to {@link #createAccountInSFDC(User, AccountData)}
+     * and {@link OpportunityFactory#createOpportunity(Account, Contact, boolean, String, String, User, String, String)}).
+     *
+     * @param ownerUser   Salesforce User that will be the owner of the resulting records
+     *                    (usually, a sales user used for testing)
+     * @param accountData data object with the Account's data
+     *                    (should contain Currency ISO Code, Billing Country, Brand, etc.)
+     * @param biId        ID for the Opportunity's Business Identity
+     *                    (e.g. "4" for "RingCentral Inc.")
+     * @param tierName    name for Opportunity's tier
+     *                    (e.g. "Office", "RingCentral Contact Center", etc...)
+     * @return data object with all the created records with their IDs from Salesforce
+     * @throws Exception in case of malformed query, DB or network errors.
+     */
+    public static AccountFixture createAccountWithOpportunityInSFDC(User ownerUser, AccountData accountData,
+                                                                    String biId, String tierName)
+            throws Exception {
+        var isNewCustomer = accountData.billingId == null || accountData.billingId.isBlank();
+        var fixture = new AccountFixture();
+
+        fixture.account = setUpAccountWithCommonFields(
+                isNewCustomer ? NEW_CUSTOMER_DEFAULT_ACCOUNT_NAME : EXISTING_CUSTOMER_DEFAULT_ACCOUNT_NAME,
+                ownerUser.getId(), accountData, false);
+        if (!isNewCustomer) {
+            setUpExistingBusinessFieldsForPaidStatus(fixture.account, accountData.billingId);
+        }
+
+        var compositeRequest = new SObjectCompositeRequest();
+        var accountReference = compositeRequest.insert(fixture.account);
+
+        fixture.contact = setUpContactForAccount(accountReference, ownerUser);
+        var contactReference = compositeRequest.insert(fixture.contact);
+
+        fixture.accountContactRole = setUpAccountContactRole(accountReference, contactReference, SIGNATORY_ROLE, true);
+        compositeRequest.insert(fixture.accountContactRole);
+
+        fixture.opportunity = setUpOpportunity(accountReference, contactReference, fixture.account.getName(),
+                isNewCustomer ? NEW_BUSINESS_TYPE : EXISTING_BUSINESS_TYPE,
+                accountData.rcBrand, biId, ownerUser, accountData.currencyIsoCode, tierName);
+        compositeRequest.insert(fixture.opportunity);
+
+        compositeRequest.execute();
+
+        return fixture;
+    }
+
     /**
      * Create a new Account object for New Business Customer without related Contact
      * and AccountContactRole and insert it into Salesforce via API.
@@ -240,6 +315,33 @@ public class AccountFactory extends SObjectFactory {
         return existingAccount;
     }
 
+    /**
+     * Insert the Account with the related Contact and Primary Signatory AccountContactRole into Salesforce
+     * (via Composite REST API in a single API call, or one by one via SOAP API).
+     *
+     * @param account   new Account object with all the necessary fields
+     * @param ownerUser Salesforce User that will be the owner of the resulting contact
+     * @throws Exception in case of malformed query, DB or network errors.
+     */
+    private static void insertAccountWithPrimaryContact(Account account, User ownerUser) throws Exception {
+        if (!IS_COMPOSITE_API_ENABLED) {
+            CONNECTION_UTILS.insertAndGetIds(account);
+
+            var primaryContact = createContactForAccount(account, ownerUser);
+
+            createPrimarySignatoryContactRole(account, primaryContact);
+            return;
+        }
+
+        var compositeRequest = new SObjectCompositeRequest();
+        var accountReference = compositeRequest.insert(account);
+
+        var contactReference = compositeRequest.insert(setUpContactForAccount(accountReference, ownerUser));
+
+        compositeRequest.insert(setUpAccountContactRole(accountReference, contactReference, SIGNATORY_ROLE, true));
+        compositeRequest.execute();
+    }
+
     /**
      * Generate unique account's name for Account.Name field.
      *
@@ -291,6 +393,17 @@ public class AccountFactory extends SObjectFactory {
         return account;
     }
 
+    /**
+     * Data object for the Account with all the related records created for the test
+     * (see {@link #createAccountWithOpportunityInSFDC(User, AccountData, String, String)}).
+     */
+    public static class AccountFixture {
+        public Account account;
+        public Contact contact;
+        public AccountContactRole accountContactRole;
+        public Opportunity opportunity;
+    }
+
     /**
      * Data object for some of the Account's data that is used to create Accounts in tests.
      * Useful for creating test data for Account objects.
@@ -25,11 +25,7 @@ public class ContactFactory extends SObjectFactory {
      * @throws ConnectionException in case of malformed query, DB or network errors.
      */
     public static Contact createContactForAccount(Account account, User ownerUser) throws ConnectionException {
-        var contact = new Contact();
-        contact.setAccountId(account.getId());
-        contact.setOwnerId(ownerUser.getId());
-        setInternalRecordType(contact);
-        setRequiredFieldsRandomly(contact);
+        var contact = setUpContactForAccount(account.getId(), ownerUser);
 
         CONNECTION_UTILS.insertAndGetIds(contact);
 
@@ -49,13 +45,47 @@ public class ContactFactory extends SObjectFactory {
      * @throws ConnectionException in case of malformed query, DB or network errors.
      */
     public static Contact createVarVisibleContactForAccount(Account partnerAccount, User ownerUser) throws ConnectionException {
+        var contact = setUpVarVisibleContactForAccount(partnerAccount.getId(), ownerUser);
+
+        CONNECTION_UTILS.insertAndGetIds(contact);
+
+        return contact;
+    }
+
+    /**
+     * Set up a new Contact object with 'Internal' type without inserting it into Salesforce.
+     *
+     * @param accountId ID of the account to be associated with Contact
+     *                  (or the reference to the account in the Composite request, e.g. "@{refAccount1.id}")
+     * @param ownerUser Salesforce user that will be the owner of the resulting contact
+     * @return Contact object with unique values for required fields
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    static Contact setUpContactForAccount(String accountId, User ownerUser) throws ConnectionException {
         var contact = new Contact();
-        contact.setAccountId(partnerAccount.getId());
+        contact.setAccountId(accountId);
         contact.setOwnerId(ownerUser.getId());
-        setVarVisibleRecordType(contact);
+        setInternalRecordType(contact);
         setRequiredFieldsRandomly(contact);
 
-        CONNECTION_UTILS.insertAndGetIds(contact);
+        return contact;
+    }
+
+    /**
+     * Set up a new Contact object with 'VAR Visible' type without inserting it into Salesforce.
+     *
+     * @param partnerAccountId ID of the partner account to be associated with Contact
+     *                         (or the reference to the account in the Composite request, e.g. "@{refAccount1.id}")
+     * @param ownerUser        Salesforce user that will be the owner of the resulting contact
+     * @return Contact object with unique values for required fields
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    static Contact setUpVarVisibleContactForAccount(String partnerAccountId, User ownerUser) throws ConnectionException {
+        var contact = new Contact();
+        contact.setAccountId(partnerAccountId);
+        contact.setOwnerId(ownerUser.getId());
+        setVarVisibleRecordType(contact);
+        setRequiredFieldsRandomly(contact);
 
         return contact;
     }
@@ -67,23 +67,51 @@ public class OpportunityFactory extends SObjectFactory {
             Account account, Contact contact, String opportunityName, String type,
             String brandName, String biId, User ownerUser, String currencyIsoCode, String tierName)
             throws Exception {
+        var newOpportunity = setUpOpportunity(account.getId(), contact.getId(), opportunityName, type,
+                brandName, biId, ownerUser, currencyIsoCode, tierName);
+
+        CONNECTION_UTILS.insertAndGetIds(newOpportunity);
+
+        return newOpportunity;
+    }
+
+    /**
+     * Set up a new Opportunity object (NGBS) without inserting it into Salesforce.
+     *
+     * @param accountId       ID of the account to be associated with Opportunity
+     *                        (or the reference to the account in the Composite request, e.g. "@{refAccount1.id}")
+     * @param contactId       ID of the contact to be associated with Opportunity as a Primary Contact
+     *                        (or the reference to the contact in the Composite request, e.g. "@{refContact2.id}")
+     * @param opportunityName name for the Opportunity
+     * @param type            Opportunity type depending on its account
+     *                        (e.g. "New Business", "Existing Business")
+     * @param brandName       name for Opportunity's brand
+     * @param biId            ID for the Opportunity's Business Identity
+     * @param ownerUser       user to be set as Opportunity's owner
+     * @param currencyIsoCode currency ISO code for the Opportunity
+     * @param tierName        name for Opportunity's tier
+     * @return Opportunity object with default parameters
+     * @throws Exception in case of malformed query, DB or network errors.
+     */
+    static Opportunity setUpOpportunity(
+            String accountId, String contactId, String opportunityName, String type,
+            String brandName, String biId, User ownerUser, String currencyIsoCode, String tierName)
+            throws Exception {
         var newOpportunity = new Opportunity();
-        newOpportunity.setAccountId(account.getId());
+        newOpportunity.setAccountId(accountId);
         newOpportunity.setName(opportunityName);
         newOpportunity.setType(type);
         newOpportunity.setOwnerId(ownerUser.getId());
         newOpportunity.setBrand_Name__c(brandName);
         newOpportunity.setCurrencyIsoCode(currencyIsoCode);
         newOpportunity.setTier_Name__c(tierName);
-        newOpportunity.setPrimary_Opportunity_Contact__c(contact.getId());
+        newOpportunity.setPrimary_Opportunity_Contact__c(contactId);
         OpportunityHelper.setDefaultFields(newOpportunity);
         OpportunityHelper.setBusinessIdentity(newOpportunity, currencyIsoCode, biId);
         if (!IS_SANDBOX) {
             OpportunityHelper.setForecastedCategoryForOmission(newOpportunity);
         }
 
-        CONNECTION_UTILS.insertAndGetIds(newOpportunity);
-
         return newOpportunity;
     }
 
@@ -1,6 +1,7 @@
 package com.aquiva.autotests.rc.utilities.salesforce.sobjectutils;
 
 import com.aquiva.autotests.rc.utilities.salesforce.EnterpriseConnectionUtils;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceLookupCache;
 import com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.EmployeeHelper;
 import com.sforce.soap.enterprise.sobject.*;
 import com.sforce.ws.ConnectionException;
@@ -8,17 +9,22 @@ import org.json.JSONObject;
 
 import java.util.*;
 
+import static com.aquiva.autotests.rc.utilities.Constants.USER;
 import static com.aquiva.autotests.rc.utilities.StringHelper.getStringListAsString;
 import static java.lang.String.format;
 import static java.lang.String.join;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.*;
 
 /**
  * Utility class that provides {@link User} objects.
  * <p>
  * All methods also create an {@link Employee__c} record for a User record in SFDC, if it doesn't exist yet.
  * </p>
+ * <p>
+ * Found users are cached for the whole run (see {@link SalesforceLookupCache}),
+ * so the same query with the same filters is executed only once.
+ * Every call returns a separate copy of the cached User record.
+ * </p>
  */
 public class UserUtils {
 
@@ -81,6 +87,30 @@ public class UserUtils {
      */
     private static final EnterpriseConnectionUtils CONNECTION_UTILS = EnterpriseConnectionUtils.getInstance();
 
+    //  Categories of the cached lookups (see SalesforceLookupCache)
+    private static final String RUNNING_USER_LOOKUP = "RunningUser";
+    private static final String TEST_USER_LOOKUP = "User";
+    private static final String TEST_USERS_LOOKUP = "Users";
+    private static final String CUSTOM_PERMISSION_LOOKUP = "CustomPermission";
+
+    /**
+     * Get the User record for the running user (the one that is used for the API calls and initial login).
+     *
+     * @return Salesforce User with the default username
+     * @throws ConnectionException in case of malformed query, DB or network errors.
+     * @see com.aquiva.autotests.rc.utilities.Constants#USER
+     */
+    public static User getRunningUser() throws ConnectionException {
+        var runningUser = SalesforceLookupCache.get(RUNNING_USER_LOOKUP, USER, () ->
+                CONNECTION_UTILS.querySingleRecord(
+                        "SELECT Id, FirstName, LastName, Name, PID__c, Email, Phone " +
+                                "FROM User " +
+                                "WHERE Username = '" + USER + "'",
+                        User.class));
+
+        return copyUser(runningUser);
+    }
+
     /**
      * Entry point in getting a test User record with the given criteria.
      *
@@ -235,19 +265,21 @@ public class UserUtils {
          * @param customPermissionApiName custom permission's API Name (e.g. "Can_Sync_With_NGBS")
          */
         public UserQueryBuilder withoutCustomPermission(String customPermissionApiName) throws ConnectionException {
-            var setupEntityAccessList = CONNECTION_UTILS.query(
-                    "SELECT Id, ParentId " +
-                            "FROM SetupEntityAccess " +
-                            "WHERE SetupEntityId IN (" +
-                            "SELECT Id " +
-                            "FROM CustomPermission " +
-                            "WHERE DeveloperName = '" + customPermissionApiName + "')",
-                    SetupEntityAccess.class);
-
-            var permissionSetIdList = setupEntityAccessList
-                    .stream()
-                    .map(SetupEntityAccess::getParentId)
-                    .collect(joining("','", "('", "')"));
+            var permissionSetIdList = SalesforceLookupCache.get(CUSTOM_PERMISSION_LOOKUP, customPermissionApiName, () -> {
+                var setupEntityAccessList = CONNECTION_UTILS.query(
+                        "SELECT Id, ParentId " +
+                                "FROM SetupEntityAccess " +
+                                "WHERE SetupEntityId IN (" +
+                                "SELECT Id " +
+                                "FROM CustomPermission " +
+                                "WHERE DeveloperName = '" + customPermissionApiName + "')",
+                        SetupEntityAccess.class);
+
+                return setupEntityAccessList
+                        .stream()
+                        .map(SetupEntityAccess::getParentId)
+                        .collect(joining("','", "('", "')"));
+            });
             if (!permissionSetIdList.isBlank()) {
                 filters.add("Id NOT IN (" +
                         "SELECT AssigneeId " +
@@ -351,17 +383,28 @@ public class UserUtils {
          * Execute a resulting SOQL query to find a test User.
          * <br/>
          * Note: optionally, the method creates {@code Employee} record for the User, if it doesn't exist.
+         * <br/>
+         * The User is found only once per run for the same set of filters (and the same common feature toggles),
+         * all the subsequent calls return the copy of the cached User.
          *
          * @return Salesforce User with the given requirements
          * @throws ConnectionException in case of malformed query, DB or network errors.
          */
         public User execute() throws ConnectionException {
-            var users = getAllUsersWithCurrentFilter();
-            var user = getFinalUserWithCommonFilter(users);
+            var lookupKey = buildString() +
+                    " | common FTs: " + System.getProperty("sf.userCommonFeatureToggles") +
+                    " | overridden FTs: " + new TreeMap<>(overriddenFeatureToggles);
+
+            var user = SalesforceLookupCache.get(TEST_USER_LOOKUP, lookupKey, () -> {
+                var users = getAllUsersWithCurrentFilter();
+                var finalUser = getFinalUserWithCommonFilter(users);
 
-            getEmployeeRecord(user);
+                getEmployeeRecord(finalUser);
 
-            return user;
+                return finalUser;
+            });
+
+            return copyUser(user);
         }
 
         /**
@@ -373,7 +416,12 @@ public class UserUtils {
          */
         public List<User> getAllUsersWithCurrentFilter() throws ConnectionException {
             var usersQuery = buildString();
-            return CONNECTION_UTILS.query(usersQuery, User.class);
+            List<User> users = SalesforceLookupCache.get(TEST_USERS_LOOKUP, usersQuery, () ->
+                    CONNECTION_UTILS.query(usersQuery, User.class));
+
+            return users.stream()
+                    .map(UserUtils::copyUser)
+                    .collect(toList());
         }
 
         /**
@@ -405,6 +453,25 @@ public class UserUtils {
         }
     }
 
+    /**
+     * Create a copy of the cached User record,
+     * so the changes in the record made by the test don't affect the other tests.
+     *
+     * @param user User record with the fields from the queries above
+     * @return new User record with the same field values
+     */
+    private static User copyUser(User user) {
+        var userCopy = new User();
+        userCopy.setId(user.getId());
+        userCopy.setFirstName(user.getFirstName());
+        userCopy.setLastName(user.getLastName());
+        userCopy.setName(user.getName());
+        userCopy.setPID__c(user.getPID__c());
+        userCopy.setEmail(user.getEmail());
+        userCopy.setPhone(user.getPhone());
+        return userCopy;
+    }
+
     /**
      * Get Employee record for the provided User.
      * This Employee record is necessary for non-admin SF users
@@ -4,9 +4,10 @@ import com.aquiva.autotests.rc.internal.proxy.SelenideBrowserCapabilitiesExtensi
 import com.aquiva.autotests.rc.internal.proxy.SelenideProxyExtension;
 import com.aquiva.autotests.rc.internal.reporting.JUnitLoggerExtension;
 import com.aquiva.autotests.rc.internal.reporting.SelenideListener;
+import com.aquiva.autotests.rc.internal.util.BrowserReuseExtension;
 import com.aquiva.autotests.rc.internal.util.ElementHighlighting;
+import com.aquiva.autotests.rc.internal.util.SelenoidCapacityExtension;
 import com.codeborne.selenide.WebDriverRunner;
-import com.codeborne.selenide.junit5.BrowserStrategyExtension;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,7 +22,7 @@ import static com.aquiva.autotests.rc.internal.util.ElementHighlighting.IS_HIGHL
  * The class defines some technical features for other tests:
  * web driver capabilities, Allure's report listener, basic commandline logging settings, etc...
  */
-@ExtendWith({BrowserStrategyExtension.class, JUnitLoggerExtension.class, SelenideBrowserCapabilitiesExtension.class})
+@ExtendWith({SelenoidCapacityExtension.class, BrowserReuseExtension.class, JUnitLoggerExtension.class, SelenideBrowserCapabilitiesExtension.class})
 @ExtendWith(SelenideProxyExtension.class)
 public abstract class BaseTest {
 
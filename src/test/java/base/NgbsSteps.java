@@ -5,7 +5,7 @@ import com.aquiva.autotests.rc.model.ngbs.dto.license.CatalogItem;
 import com.aquiva.autotests.rc.model.ngbs.dto.license.RemovalRequestItem;
 import com.aquiva.autotests.rc.model.ngbs.testdata.Package;
 import com.aquiva.autotests.rc.model.ngbs.testdata.*;
-import com.aquiva.autotests.rc.utilities.ags.AGSRestApiClient;
+import com.aquiva.autotests.rc.utilities.ags.AgsAccountPool;
 import com.aquiva.autotests.rc.utilities.ngbs.DiscountNgbsFactory;
 import com.sforce.soap.enterprise.sobject.Contract__c;
 import io.qameta.allure.Step;
@@ -70,13 +70,14 @@ public class NgbsSteps {
      * Generate account in NGBS for testing of Existing Business functionality.
      * <p> Account generation works if account generation is active either globally or for a single test. </p>
      * <p> Account generation works according to scenarios that can be found in test data. </p>
+     * <p> Pre-generated accounts are leased from the pool, if it's enabled (see {@link AgsAccountPool}). </p>
      *
      * @param data specific dataset with Existing Business Account's info (e.g. AGS scenario)
      */
     public void generateBillingAccount(Dataset data) {
         if (isGenerateAccounts() && data.scenario != null && !data.scenario.isBlank()) {
             step("Generate Existing Business Account in Billing for scenario '" + data.scenario + "'", () -> {
-                var accountDetailsAGS = AGSRestApiClient.createAccount(data.scenario);
+                var accountDetailsAGS = AgsAccountPool.leaseOrCreate(data.scenario);
 
                 data.billingId = accountDetailsAGS.getAccountBillingId();
                 data.packageId = accountDetailsAGS.getAccountPackageId();
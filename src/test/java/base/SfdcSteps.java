@@ -1,11 +1,18 @@
 package base;
 
+import com.aquiva.autotests.rc.internal.util.BrowserReuseExtension;
 import com.aquiva.autotests.rc.utilities.salesforce.EnterpriseConnectionUtils;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceLookupCache;
+import com.aquiva.autotests.rc.utilities.salesforce.SalesforceSessionManager;
 import com.sforce.soap.enterprise.sobject.*;
 import com.sforce.ws.ConnectionException;
 import io.qameta.allure.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
 
 import static base.Pages.loginPage;
 import static base.Pages.salesforcePage;
@@ -14,13 +21,27 @@ import static com.codeborne.selenide.Condition.exactTextCaseSensitive;
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selenide.*;
 import static io.qameta.allure.Allure.step;
+import static java.lang.Boolean.parseBoolean;
 import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Test methods for the flows related to basic Salesforce actions:
  * e.g. login, logout, open the Lightning App, etc.
  */
 public class SfdcSteps {
+    private static final Logger LOG = LoggerFactory.getLogger(SfdcSteps.class);
+
+    //  If true, the Admin always logs in via the Login Page (UI), instead of reusing the API session
+    private static final boolean IS_UI_LOGIN = parseBoolean(System.getProperty("sf.uiLogin", "false"));
+
+    //  Login modes for the timing metrics
+    private static final String SESSION_LOGIN_MODE = "session (frontdoor)";
+    private static final String UI_LOGIN_MODE = "UI (login page)";
+
+    //  Login mode -> durations of the logins as Admin + test user in this mode (in ms)
+    private static final Map<String, LongSummaryStatistics> LOGIN_DURATIONS = new HashMap<>();
+
     private final EnterpriseConnectionUtils enterpriseConnectionUtils;
 
     /**
@@ -46,10 +67,11 @@ public class SfdcSteps {
      */
     @Step("Log in as different user in current admin user session")
     public void loginAsUser(User user) throws Exception {
-        var organization = enterpriseConnectionUtils.querySingleRecord(
-                "SELECT Id " +
-                        "FROM Organization",
-                Organization.class);
+        var organizationId = SalesforceLookupCache.get("Organization", BASE_URL, () ->
+                enterpriseConnectionUtils.querySingleRecord(
+                        "SELECT Id " +
+                                "FROM Organization",
+                        Organization.class).getId());
 
         var loginAsUserUrl = String.format(BASE_URL +
                         "/servlet/servlet.su" +
@@ -57,7 +79,7 @@ public class SfdcSteps {
                         "&suorgadminid=%s" +
                         "&retURL=/home/home.jsp" +
                         "&targetURL=/home/home.jsp",
-                organization.getId(), user.getId()
+                organizationId, user.getId()
         );
 
         open(loginAsUserUrl);
@@ -74,16 +96,17 @@ public class SfdcSteps {
      */
     @Step("Open App in the current user's session")
     public void openApp(String appName) throws ConnectionException {
-        var app = enterpriseConnectionUtils.querySingleRecord(
-                "SELECT DurableId " +
-                        "FROM AppDefinition " +
-                        "WHERE Label = '" + appName + "'" +
-                        "AND MasterLabel = '" + appName + "'",
-                AppDefinition.class
-        );
+        var appDurableId = SalesforceLookupCache.get("AppDefinition", appName, () ->
+                enterpriseConnectionUtils.querySingleRecord(
+                        "SELECT DurableId " +
+                                "FROM AppDefinition " +
+                                "WHERE Label = '" + appName + "'" +
+                                "AND MasterLabel = '" + appName + "'",
+                        AppDefinition.class
+                ).getDurableId());
 
         var changeAppUrl = String.format(BASE_URL +
-                "/lightning/app/%s", app.getDurableId()
+                "/lightning/app/%s", appDurableId
         );
 
         open(changeAppUrl);
@@ -145,31 +168,73 @@ public class SfdcSteps {
     }
 
     /**
-     * Open the SFDC's Login Page, login with the provided user's credentials (as System Administrator),
+     * Log in to SFDC as System Administrator (with the default credentials),
      * and re-login as a test user (using Login As User functionality of the Admin).
+     * <br/>
+     * The Admin logs in with the same session that is used for API calls (via 'frontdoor.jsp'),
+     * and the Login Page (UI) is only used if it's set via 'sf.uiLogin' system property,
+     * or if the login with the API session has failed.
      *
      * @param testUser test user to re-login as (e.g. Sales Rep user; Deal Desk user, etc.)
      */
     public void initLoginToSfdcAsTestUser(User testUser) {
-        step("Open test sandbox login page, log in to SFDC as Admin, and re-login as the test user", () -> {
-            loginPage.openPage().login();
+        step("Log in to SFDC as Admin, and re-login as the test user", () -> {
+            var startTime = System.nanoTime();
+
+            var loginMode = loginAsAdmin();
             loginAsUser(testUser);
+
+            addLoginDuration(loginMode, NANOSECONDS.toMillis(System.nanoTime() - startTime));
         });
     }
 
+    /**
+     * Log in to SFDC as System Administrator with the default credentials.
+     * <br/>
+     * The API session is reused for the login, so there's no need to open the Login Page (UI)
+     * and wait for the user's home page to load.
+     *
+     * @return login mode that was used (e.g. "session (frontdoor)", "UI (login page)"), for the timing metrics
+     */
+    private String loginAsAdmin() {
+        if (!IS_UI_LOGIN) {
+            var isLoggedIn = step("Log in to SFDC as Admin with the API session", () ->
+                    loginPage.loginWithSession(SalesforceSessionManager.getSessionId()));
+            if (isLoggedIn) {
+                return SESSION_LOGIN_MODE;
+            }
+
+            LOG.warn("Unable to log in to SFDC with the API session! Logging in via the Login Page...");
+        }
+
+        step("Open test sandbox login page and log in to SFDC as Admin", () -> {
+            loginPage.openPage().login();
+        });
+        return UI_LOGIN_MODE;
+    }
+
+    /**
+     * Add the duration of the login to the timing metrics, and log the current statistics for the login mode.
+     * Useful to compare the logins via the API session and via the Login Page (UI).
+     *
+     * @param loginMode      login mode that was used (e.g. "session (frontdoor)", "UI (login page)")
+     * @param durationMillis duration of the login as Admin + test user (in ms)
+     */
+    private static synchronized void addLoginDuration(String loginMode, long durationMillis) {
+        var loginDurations = LOGIN_DURATIONS.computeIfAbsent(loginMode, mode -> new LongSummaryStatistics());
+        loginDurations.accept(durationMillis);
+
+        LOG.info("Login to SFDC via {} took {} ms (logins: {}; avg: {} ms; min: {} ms; max: {} ms)",
+                loginMode, durationMillis, loginDurations.getCount(), (long) loginDurations.getAverage(),
+                loginDurations.getMin(), loginDurations.getMax());
+    }
+
     /**
      * Reset the current browser session for the Salesforce resources
      * (clear the cookies and local storage).
      */
     @Step("Reset the current browser's session in Salesforce")
     public void resetSalesforceBrowserSession() {
-        var domains = List.of(BASE_URL, BASE_VF_URL);
-        for (var url : domains) {
-            open(url + "/favicon.ico");
-
-            clearBrowserCookies();
-            clearBrowserLocalStorage();
-            sessionStorage().clear();
-        }
+        BrowserReuseExtension.resetBrowserSession();
     }
 }
@@ -1,13 +1,12 @@
 package ngbs;
 
 import com.aquiva.autotests.rc.model.ngbs.testdata.Dataset;
+import com.aquiva.autotests.rc.utilities.salesforce.AccountFixturePool;
 import com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory.AccountData;
 import com.sforce.soap.enterprise.sobject.*;
 
 import static base.Pages.closeWizardPage;
 import static base.Pages.opportunityPage;
-import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.AccountFactory.createAccountInSFDC;
-import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.AccountHelper.getPrimaryContactOnAccount;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjectutils.UserUtils.*;
 import static com.codeborne.selenide.Condition.hidden;
 import static com.codeborne.selenide.Condition.visible;
@@ -52,14 +51,16 @@ public class SalesFlowSteps {
     }
 
     /**
-     * Create a new Account, Contact, AccountContactRole via API.
+     * Create a new Account, Contact, AccountContactRole via API
+     * (or lease the pre-created ones, see {@link AccountFixturePool}).
      *
      * @param ownerUser user intended to be the owner of the created records
      */
     public void createAccountWithContactAndContactRole(User ownerUser) {
         step("Create Account with related Contact and AccountContactRole records via SFDC API", () -> {
-            account = createAccountInSFDC(ownerUser, new AccountData(data));
-            contact = getPrimaryContactOnAccount(account);
+            var fixture = AccountFixturePool.lease(ownerUser, new AccountData(data));
+            account = fixture.account;
+            contact = fixture.contact;
         });
     }
 
@@ -2,22 +2,29 @@ package ngbs.quotingwizard;
 
 import com.aquiva.autotests.rc.model.ngbs.testdata.*;
 import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.NGBSQuotingWizardPage;
+import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.carttab.CartItemSnapshot;
 import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.carttab.CartPage;
 import com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.producttab.ProductsPage;
 import com.aquiva.autotests.rc.utilities.salesforce.EnterpriseConnectionUtils;
+import com.codeborne.selenide.Configuration;
 import com.sforce.soap.enterprise.sobject.QuoteLineItem;
 import io.qameta.allure.Step;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static base.Pages.cartPage;
 import static base.Pages.deviceAssignmentPage;
 import static com.aquiva.autotests.rc.utilities.NumberHelper.doubleToIntToString;
 import static com.aquiva.autotests.rc.utilities.StringHelper.ZERO_PRICE;
 import static com.codeborne.selenide.Condition.*;
+import static com.codeborne.selenide.Selenide.sleep;
 import static io.qameta.allure.Allure.step;
 import static java.math.RoundingMode.DOWN;
 import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Test methods for test cases related to {@link CartPage} of {@link NGBSQuotingWizardPage}.
@@ -292,8 +299,16 @@ public class CartTabSteps {
      * @param products test data with all the Products' data
      */
     public void checkProductsInCartNewBusiness(Product... products) {
+        var cartItemsSnapshot = new AtomicReference<>(getVisibleCartItemsSnapshot(products));
         for (var product : products) {
-            checkNewCartItemAgainstData(product);
+            step("Check new item '" + product.name + "' in the cart using provided data object", () -> {
+                checkCartItemInSnapshot(cartItemsSnapshot, product, cartItem -> {
+                    assertThat(cartItem.getQuantity())
+                            .as("Quantity value for " + product.name)
+                            .isEqualTo(product.quantity.toString());
+                    checkCartItemSnapshotPricesAndDiscounts(cartItem, product);
+                });
+            });
         }
     }
 
@@ -305,8 +320,22 @@ public class CartTabSteps {
      * @param products test data with all the Products' data
      */
     public void checkProductsInCartExistingBusiness(Product... products) {
+        var cartItemsSnapshot = new AtomicReference<>(getVisibleCartItemsSnapshot(products));
         for (var product : products) {
-            checkExistingCartItemAgainstData(product);
+            step("Check existing item '" + product.name + "' (from billing account) in the cart " +
+                    "using provided data object", () -> {
+                checkCartItemInSnapshot(cartItemsSnapshot, product, cartItem -> {
+                    assertThat(cartItem.getNewQuantity())
+                            .as("New Quantity value for " + product.name)
+                            .isEqualTo(product.quantity.toString());
+                    if (product.existingQuantity != null) {
+                        assertThat(cartItem.getExistingQuantity())
+                                .as("Existing Quantity value for " + product.name)
+                                .isEqualTo(product.existingQuantity.toString());
+                    }
+                    checkCartItemSnapshotPricesAndDiscounts(cartItem, product);
+                });
+            });
         }
     }
 
@@ -358,4 +387,90 @@ public class CartTabSteps {
         currentCartItem.getDiscountTypeSelect().getSelectedOption()
                 .shouldHave(exactTextCaseSensitive(dataProduct.discountType));
     }
+
+    /**
+     * Wait for all the given products to be visible in the cart,
+     * and get the snapshot of all the visible cart items with all their values in a single call.
+     *
+     * @param products test data for the products that should be in the cart
+     * @return list of the immutable Cart Item snapshots
+     */
+    private List<CartItemSnapshot> getVisibleCartItemsSnapshot(Product... products) {
+        for (var product : products) {
+            cartPage.getQliFromCartByDisplayName(product.name).getCartItemElement().shouldBe(visible);
+        }
+        return cartPage.getVisibleCartItemsSnapshot();
+    }
+
+    /**
+     * Check the product's cart item in the snapshot of the visible cart items.
+     * <br/>
+     * If the check fails (e.g. the cart is still being recalculated),
+     * the snapshot is taken again and re-checked until the check passes, or Selenide's timeout expires
+     * (the same way as Selenide's conditions wait for the expected values).
+     * The refreshed snapshot is also used for the checks of the next products.
+     *
+     * @param cartItemsSnapshot reference to the latest snapshot of all the visible cart items
+     * @param product           test data for the product in the cart
+     * @param cartItemCheck     assertions for the cart item's snapshot
+     */
+    private void checkCartItemInSnapshot(AtomicReference<List<CartItemSnapshot>> cartItemsSnapshot,
+                                         Product product, Consumer<CartItemSnapshot> cartItemCheck) {
+        var deadline = System.currentTimeMillis() + Configuration.timeout;
+        while (true) {
+            try {
+                cartItemCheck.accept(getCartItemFromSnapshot(cartItemsSnapshot.get(), product));
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+            }
+
+            sleep(Configuration.pollingInterval);
+            cartItemsSnapshot.set(cartPage.getVisibleCartItemsSnapshot());
+        }
+    }
+
+    /**
+     * Get the snapshot of the first visible cart item with the product's display name
+     * (from the 'data-ui-auto-license-display-name' attribute,
+     * the same as in {@link CartPage#getQliFromCartByDisplayName(String)}).
+     *
+     * @param cartItemsSnapshot snapshot of all the visible cart items
+     * @param product           test data for the product in the cart
+     * @return snapshot of the cart item for the product
+     */
+    private CartItemSnapshot getCartItemFromSnapshot(List<CartItemSnapshot> cartItemsSnapshot, Product product) {
+        return cartItemsSnapshot.stream()
+                .filter(cartItem -> product.name.equals(cartItem.getLicenseDisplayName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Cart Item '" + product.name + "' is not found in the cart! " +
+                        "Visible cart items: " + cartItemsSnapshot));
+    }
+
+    /**
+     * Check Charge Term, List Price, Your Price, Discount and Discount Type values
+     * of the cart item's snapshot with the product's test data.
+     *
+     * @param cartItem snapshot of the cart item
+     * @param product  test data for the product in the cart
+     */
+    private void checkCartItemSnapshotPricesAndDiscounts(CartItemSnapshot cartItem, Product product) {
+        assertThat(cartItem.getChargeTerm())
+                .as("Charge Term value for " + product.name)
+                .contains(product.chargeTerm);
+        assertThat(cartItem.getListPrice())
+                .as("List Price value for " + product.name)
+                .isEqualTo(currencyPrefix + product.price);
+        assertThat(cartItem.getYourPrice())
+                .as("Your Price value for " + product.name)
+                .isEqualTo(currencyPrefix + product.yourPrice);
+        assertThat(cartItem.getDiscount())
+                .as("Discount value for " + product.name)
+                .isEqualTo(product.discount.toString());
+        assertThat(cartItem.getDiscountType())
+                .as("Discount Type value for " + product.name)
+                .isEqualTo(product.discountType);
+    }
 }
@@ -19,7 +19,6 @@ import static com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.NGBSQuo
 import static com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.quotetab.QuotePage.DIRECT_DEBIT_PAYMENT_METHOD;
 import static com.aquiva.autotests.rc.page.salesforce.approval.ApprovalHistoryRelatedListPage.*;
 import static com.aquiva.autotests.rc.page.salesforce.approval.ApprovalPage.APPROVAL_HISTORY_RELATED_LIST;
-import static com.aquiva.autotests.rc.utilities.Constants.USER;
 import static com.aquiva.autotests.rc.utilities.StringHelper.EMPTY_STRING;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.ApprovalHelper.*;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjectutils.UserUtils.*;
@@ -178,11 +177,7 @@ public class DirectDebitCloseValidationTest extends BaseTest {
             approvalPage.openRelatedList(APPROVAL_HISTORY_RELATED_LIST);
 
             //  The record is submitted for the approval via SFDC API which means via the main Admin user
-            var mainUser = enterpriseConnectionUtils.querySingleRecord(
-                    "SELECT Id, Name " +
-                            "FROM User " +
-                            "WHERE Username = '" + USER + "'",
-                    User.class);
+            var mainUser = getRunningUser();
             mainUserAdminFullName = mainUser.getName();
 
             var initialStep = approvalPage.approvalHistoryRelatedListPage.getStep(mainUserAdminFullName);
@@ -2,6 +2,7 @@ package service.accountgeneration;
 
 import base.NgbsSteps;
 import com.aquiva.autotests.rc.model.accountgeneration.CreateNgbsAccountsDTO;
+import com.aquiva.autotests.rc.model.ags.AccountAgsDTO;
 import com.aquiva.autotests.rc.model.ngbs.dto.discounts.PromotionDiscountNgbsDTO;
 import com.aquiva.autotests.rc.model.ngbs.testdata.Dataset;
 import com.aquiva.autotests.rc.utilities.ags.AGSRestApiClient;
@@ -9,6 +10,8 @@ import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.aquiva.autotests.rc.model.scp.ScpOperationRequestDTO.Variables.TesterFlagsItem.*;
 import static com.aquiva.autotests.rc.utilities.ngbs.NgbsRestApiClient.createPromoDiscountInNGBS;
 import static com.aquiva.autotests.rc.utilities.scp.ScpRestApiClient.getTesterFlagsOnAccount;
@@ -48,14 +51,38 @@ public class AccountGenerationSteps {
      *                    for creating Account in NGBS
      */
     public void createAccountInNGBS(CreateNgbsAccountsDTO accountData) {
-        if (accountData.scenario == null || accountData.scenario.isBlank()) {
-            throw new IllegalArgumentException("AGS Scenario is not provided in the current Account data object! \n" +
-                    "Account data: " + accountData);
-        }
-
-        updateAgsScenarioForDurableAccount(accountData);
+        checkAndUpdateAgsScenario(accountData);
         var accountAGS = AGSRestApiClient.createAccount(accountData.scenario);
 
+        setUpGeneratedAccountInNGBS(accountData, accountAGS);
+    }
+
+    /**
+     * Start generating a new account in NGBS via AGS without waiting for the result.
+     * <br/>
+     * The generated account should be set up afterwards
+     * via {@link #setUpGeneratedAccountInNGBS(CreateNgbsAccountsDTO, AccountAgsDTO)}.
+     *
+     * @param accountData data object parsed from user's input parameter
+     *                    for creating Account in NGBS
+     * @return future that is completed with the generated account's data from AGS
+     */
+    public CompletableFuture<AccountAgsDTO> startAccountGenerationInNGBS(CreateNgbsAccountsDTO accountData) {
+        checkAndUpdateAgsScenario(accountData);
+        return AGSRestApiClient.createAccountAsync(accountData.scenario);
+    }
+
+    /**
+     * Save the generated account's data, and set up the account in NGBS:
+     * <p> - create discount(s) in NGBS (if user has provided discounts' data) </p>
+     * <p> - create contract in NGBS (if user has provided contract's data) </p>
+     * <p> - purchase additional licenses in NGBS (if user has provided license's data) </p>
+     *
+     * @param accountData data object parsed from user's input parameter
+     *                    for creating Account in NGBS
+     * @param accountAGS  data of the account generated via AGS
+     */
+    public void setUpGeneratedAccountInNGBS(CreateNgbsAccountsDTO accountData, AccountAgsDTO accountAGS) {
         accountData.billingId = accountAGS.getAccountBillingId();
         accountData.packageId = accountAGS.getAccountPackageId();
         accountData.rcUserId = accountAGS.rcUserId;
@@ -129,6 +156,23 @@ public class AccountGenerationSteps {
         LOGGER.info("RC Tester Flags are removed successfully for NGBS account with billingId = " + ngbsAccountData.billingId);
     }
 
+    /**
+     * Check that AGS scenario is provided in the data object,
+     * and update it for creating a "durable" account.
+     *
+     * @param accountData data object parsed from user's input parameter
+     *                    for creating Account in NGBS
+     * @throws IllegalArgumentException if AGS scenario is not provided
+     */
+    private void checkAndUpdateAgsScenario(CreateNgbsAccountsDTO accountData) {
+        if (accountData.scenario == null || accountData.scenario.isBlank()) {
+            throw new IllegalArgumentException("AGS Scenario is not provided in the current Account data object! \n" +
+                    "Account data: " + accountData);
+        }
+
+        updateAgsScenarioForDurableAccount(accountData);
+    }
+
     /**
      * Update AGS scenario in the data object for creating a "durable" account:
      * the one that won't be automatically deleted after a certain period of time (usually 1 day).
@@ -26,7 +26,6 @@ import static com.aquiva.autotests.rc.internal.reporting.ServiceTaskLogger.*;
 import static com.aquiva.autotests.rc.model.accountgeneration.CreateMultiproductDataInSfdcDTO.*;
 import static com.aquiva.autotests.rc.page.opportunity.modal.ProcessOrderModal.*;
 import static com.aquiva.autotests.rc.utilities.Constants.BASE_URL;
-import static com.aquiva.autotests.rc.utilities.Constants.USER;
 import static com.aquiva.autotests.rc.utilities.StringHelper.getRandomPositiveInteger;
 import static com.aquiva.autotests.rc.utilities.TimeoutAssertions.assertWithTimeout;
 import static com.aquiva.autotests.rc.utilities.ngbs.NgbsRestApiClient.*;
@@ -43,6 +42,7 @@ import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.CaseHel
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.OpportunityHelper.CLOSED_WON_STAGE;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.OpportunityHelper.setRequiredFieldsForOpportunityStageChange;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.QuoteHelper.*;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectutils.UserUtils.getRunningUser;
 import static com.codeborne.selenide.CollectionCondition.*;
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selenide.sleep;
@@ -220,11 +220,7 @@ public class CreateExistingBusinessAccountsInSFDC extends BaseTest {
     @BeforeEach
     public void setUpTest() {
         step("Obtain a current User's Id for the Account Generation flow via API", () -> {
-            runningUser = enterpriseConnectionUtils.querySingleRecord(
-                    "SELECT Id " +
-                            "FROM User " +
-                            "WHERE Username = '" + USER + "'",
-                    User.class);
+            runningUser = getRunningUser();
         });
     }
 
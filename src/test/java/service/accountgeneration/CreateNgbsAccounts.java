@@ -2,13 +2,16 @@ package service.accountgeneration;
 
 import base.BaseTest;
 import com.aquiva.autotests.rc.model.accountgeneration.CreateNgbsAccountsDTO;
+import com.aquiva.autotests.rc.model.ags.AccountAgsDTO;
 import com.aquiva.autotests.rc.utilities.JsonUtils;
+import com.aquiva.autotests.rc.utilities.ags.AGSRestApiClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.aquiva.autotests.rc.internal.reporting.ServiceTaskLogger.*;
 import static io.qameta.allure.Allure.step;
@@ -26,6 +29,11 @@ import static io.qameta.allure.Allure.step;
  * E.g.: ngbs(brand=1210,package=1231005v2);ngbs(brand=1210,package=17v1);ngbs(brand=1210,package=301v1,targetPackage=318v1).
  * If 'ags.scenarios' are provided, 'ngbs.createAccountsData' gets ignored!
  * <br/>
+ * Note: use 'ags.concurrency' system property to generate several accounts at once (default: 1, i.e. one by one).
+ * With the concurrency greater than 1, up to that number of AGS jobs are submitted at once,
+ * and every account is set up in NGBS and SCP as soon as its AGS job is completed
+ * (the results are still in the same order as the input data).
+ * <br/>
  * Note: for 'ngbs.createAccountsData' list of NGBS Accounts Data should be in a JSON format:
  * <pre><code class='json'>
  * [
@@ -125,6 +133,8 @@ import static io.qameta.allure.Allure.step;
  * @see CreateNgbsAccountsDTO
  */
 public class CreateNgbsAccounts extends BaseTest {
+    private static final int AGS_CONCURRENCY = Integer.parseInt(System.getProperty("ags.concurrency", "1"));
+
     private final AccountGenerationSteps accountGenerationSteps;
 
     public CreateNgbsAccounts() {
@@ -138,19 +148,85 @@ public class CreateNgbsAccounts extends BaseTest {
         var ngbsAccountsInputData = getNgbsAccountsData();
 
         var processedData = new ArrayList<CreateNgbsAccountsDTO>();
-        for (var data : ngbsAccountsInputData) {
-            step("Create an Existing Business Account in NGBS for scenario '" + data.scenario + "'", () -> {
-                accountGenerationSteps.createAccountInNGBS(data);
-                accountGenerationSteps.removeTesterFlagsOnAccountViaSCP(data);
-
-                processedData.add(data);
-                updateResultsFile(resultsFile, processedData);
-            });
+        if (AGS_CONCURRENCY > 1) {
+            createAccountsConcurrently(ngbsAccountsInputData, resultsFile, processedData);
+        } else {
+            for (var data : ngbsAccountsInputData) {
+                step("Create an Existing Business Account in NGBS for scenario '" + data.scenario + "'", () -> {
+                    accountGenerationSteps.createAccountInNGBS(data);
+                    accountGenerationSteps.removeTesterFlagsOnAccountViaSCP(data);
+
+                    processedData.add(data);
+                    updateResultsFile(resultsFile, processedData);
+                });
+            }
         }
 
         logResults(resultsFile);
     }
 
+    /**
+     * Create Existing Business accounts in NGBS using several AGS jobs at once.
+     * <br/>
+     * Up to {@code ags.concurrency} AGS jobs are in progress at any moment.
+     * As soon as any of them is completed, the generated account is set up in NGBS,
+     * its RC Tester Flags are removed via SCP, and the next AGS job is submitted.
+     * <br/>
+     * The processed data objects are collected in the same order as the input data (not in the order of the jobs' completion).
+     *
+     * @param ngbsAccountsInputData list of input data objects to create new NGBS accounts with
+     * @param resultsFile           results file to write all the processed data to
+     * @param processedData         list to collect all the processed data objects to
+     */
+    private void createAccountsConcurrently(List<CreateNgbsAccountsDTO> ngbsAccountsInputData,
+                                            File resultsFile, List<CreateNgbsAccountsDTO> processedData) {
+        var indexesToSubmit = new ArrayDeque<Integer>();
+        for (int i = 0; i < ngbsAccountsInputData.size(); i++) {
+            indexesToSubmit.add(i);
+        }
+        //  AGS jobs in progress with the indexes of their input data
+        var jobsInProgress = new LinkedHashMap<CompletableFuture<AccountAgsDTO>, Integer>();
+        var processedDataByIndex = new TreeMap<Integer, CreateNgbsAccountsDTO>();
+
+        try {
+            while (!indexesToSubmit.isEmpty() || !jobsInProgress.isEmpty()) {
+                while (jobsInProgress.size() < AGS_CONCURRENCY && !indexesToSubmit.isEmpty()) {
+                    var index = indexesToSubmit.poll();
+                    var data = ngbsAccountsInputData.get(index);
+                    step("Submit AGS job for scenario '" + data.scenario + "'", () -> {
+                        jobsInProgress.put(accountGenerationSteps.startAccountGenerationInNGBS(data), index);
+                    });
+                }
+
+                //  Wait for any job to complete (successfully or not) without blocking on a specific one
+                CompletableFuture.anyOf(jobsInProgress.keySet().toArray(new CompletableFuture[0]))
+                        .exceptionally(e -> null)
+                        .join();
+
+                var completedJobs = jobsInProgress.keySet().stream()
+                        .filter(CompletableFuture::isDone)
+                        .toList();
+                for (var completedJob : completedJobs) {
+                    var index = jobsInProgress.remove(completedJob);
+                    var data = ngbsAccountsInputData.get(index);
+                    step("Create an Existing Business Account in NGBS for scenario '" + data.scenario + "'", () -> {
+                        accountGenerationSteps.setUpGeneratedAccountInNGBS(data,
+                                AGSRestApiClient.getGeneratedAccount(completedJob));
+                        accountGenerationSteps.removeTesterFlagsOnAccountViaSCP(data);
+
+                        processedDataByIndex.put(index, data);
+                        processedData.clear();
+                        processedData.addAll(processedDataByIndex.values());
+                        updateResultsFile(resultsFile, processedData);
+                    });
+                }
+            }
+        } finally {
+            //  Stop polling for the remaining jobs in case of any failure
+            jobsInProgress.keySet().forEach(job -> job.cancel(true));
+        }
+    }
+
     /**
      * Get a collection of input data objects for creating NGBS accounts from the system property variable.
      *
@@ -13,8 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.stream.Stream;
 
-import static com.aquiva.autotests.rc.utilities.Constants.USER;
 import static com.aquiva.autotests.rc.utilities.FileUtils.getBillingIdsFromTestDataFiles;
 import static com.aquiva.autotests.rc.utilities.StringHelper.getSObjectIdsListAsString;
 import static com.aquiva.autotests.rc.utilities.StringHelper.getStringListAsString;
@@ -23,6 +23,7 @@ import static com.aquiva.autotests.rc.utilities.ngbs.NgbsRestApiClient.terminate
 import static com.aquiva.autotests.rc.utilities.salesforce.MetadataConnectionUtils.CRM_QA_AUTO_SUFFIX_FULLNAME;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjectfactories.SubBrandsMappingFactory.SUB_BRANDS_MAPPING_DEFAULT_NAME_PREFIX;
 import static com.aquiva.autotests.rc.utilities.salesforce.sobjecthelper.OrderHelper.deactivateOrder;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectutils.UserUtils.getRunningUser;
 import static io.qameta.allure.Allure.step;
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
@@ -36,10 +37,41 @@ public class CleanUp extends BaseTest {
     private static final Logger LOGGER = LoggerFactory.getLogger(CleanUp.class);
 
     /**
-     * A default limit on delete by IDs operation since API v.7.0 = 200.
+     * Max number of Custom Metadata records deleted in a single batch.
      * Can be lowered via this parameter to minimize the execution time for deletion.
+     * <br/>
+     * Note: SObjects are deleted by chunks by {@link EnterpriseConnectionUtils#deleteByIds(String...)}
+     * (see 'sf.dmlChunkSize' and 'sf.dmlParallelism' system properties).
      */
     private static final int BATCH_SIZE_ON_DELETE = parseInt(System.getProperty("batchSizeOnDelete", "200"));
+    /**
+     * Max number of SObject IDs from the query results that are kept in memory and deleted at once.
+     */
+    private static final int DELETE_PAGE_SIZE = parseInt(System.getProperty("deletePageSize", "2000"));
+    /**
+     * If true, large sets of records (see {@link #BULK_API_DELETE_THRESHOLD}) are deleted via Bulk API 2.0 jobs,
+     * and smaller ones are deleted via SOAP API.
+     * Saves a lot of time and API requests on the sandboxes with lots of test records.
+     */
+    private static final boolean IS_BULK_API_DELETE = parseBoolean(System.getProperty("isBulkApiDelete", "false"));
+    /**
+     * Min number of records of the same type to delete them via Bulk API 2.0 job instead of SOAP API.
+     */
+    private static final int BULK_API_DELETE_THRESHOLD = parseInt(System.getProperty("bulkApiDeleteThreshold", "2000"));
+    /**
+     * If true, records deleted via Bulk API 2.0 bypass the Recycle Bin
+     * (requires "Bulk API Hard Delete" permission for the test user).
+     */
+    private static final boolean IS_BULK_API_HARD_DELETE = parseBoolean(System.getProperty("isBulkApiHardDelete", "false"));
+    /**
+     * SObjects that are not supported by Bulk API (always deleted via SOAP API).
+     */
+    private static final Set<String> BULK_API_UNSUPPORTED_SOBJECTS = Set.of("ContentDocument");
+    /**
+     * Max number of test Account IDs used in a single SOQL query (to keep queries within the query length limit).
+     * Test Accounts and their related records are deleted by chunks of this size.
+     */
+    private static final int ACCOUNT_IDS_CHUNK_SIZE = parseInt(System.getProperty("accountIdsChunkSize", "2000"));
     private static final boolean IS_MVP_ACCOUNTS_TERMINATION = parseBoolean(System.getProperty("isMvpAccountsTermination", "true"));
     private static final boolean IS_ENGAGE_ACCOUNTS_TERMINATION = parseBoolean(System.getProperty("isEngageAccountsTermination", "true"));
     private static final boolean IS_RC_CC_ACCOUNTS_TERMINATION = parseBoolean(System.getProperty("isRcCcAccountsTermination", "true"));
@@ -68,11 +100,7 @@ public class CleanUp extends BaseTest {
     @DisplayName("Clean up SFDC records generated by the Automation tests")
     public void test() {
         step("1. Get the the test User's Salesforce Id", () -> {
-            var testUser = enterpriseConnectionUtils.querySingleRecord(
-                    "SELECT Id " +
-                            "FROM User " +
-                            "WHERE Username = '" + USER + "'",
-                    User.class);
+            var testUser = getRunningUser();
             testUserId = testUser.getId();
         });
 
@@ -80,15 +108,14 @@ public class CleanUp extends BaseTest {
                 "in NGBS System created by the test user in SFDC", () -> {
             if (IS_ENGAGE_ACCOUNTS_TERMINATION) {
                 step("Terminate Engage Accounts created as Single Product in NGBS system created by the test user in SFDC", () -> {
-                    var engageAccountsSingleProduct = enterpriseConnectionUtils.query(
+                    var engageAccountsSingleProduct = enterpriseConnectionUtils.queryStream(
                             "SELECT Id, Billing_ID__c, RC_User_ID__c " +
                                     "FROM Account " +
                                     "WHERE CreatedById = '" + testUserId + "' " +
                                     "AND IsMultiProductTechnicalAccount__c = false " +
                                     "AND Billing_ID__c != null " +
-                                    "AND Service_Type__c LIKE 'Engage%' " +
-                                    "LIMIT 2000",
-                            Account.class);
+                                    "AND Service_Type__c LIKE 'Engage%'",
+                            Account.class).toList();
                     LOGGER.info("Found {} Engage Accounts records created by the test user through Single Product flow",
                             engageAccountsSingleProduct.size());
 
@@ -96,7 +123,7 @@ public class CleanUp extends BaseTest {
                 });
 
                 step("Terminate Engage Accounts created as part of Multi-Product in NGBS system created by the test user in SFDC", () -> {
-                    var engageAccountsMultiProduct = enterpriseConnectionUtils.query(
+                    var engageAccountsMultiProduct = enterpriseConnectionUtils.queryStream(
                             "SELECT Id, Billing_ID__c, RC_User_ID__c " +
                                     "FROM Account " +
                                     "WHERE Master_Account__c IN " +
@@ -107,9 +134,8 @@ public class CleanUp extends BaseTest {
                                     "AND Account.Billing_ID__c != null) " +
                                     "AND IsMultiProductTechnicalAccount__c = true " +
                                     "AND Billing_ID__c != null " +
-                                    "AND Service_Type__c LIKE 'Engage%' " +
-                                    "LIMIT 2000",
-                            Account.class);
+                                    "AND Service_Type__c LIKE 'Engage%'",
+                            Account.class).toList();
                     LOGGER.info("Found {} Engage Accounts records created by the test user through Multi-Product flow",
                             engageAccountsMultiProduct.size());
 
@@ -123,25 +149,16 @@ public class CleanUp extends BaseTest {
 
         step("3. Terminate RC CC Accounts in NGBS created by the test user", () -> {
             if (IS_RC_CC_ACCOUNTS_TERMINATION) {
-                var masterAccountsCreatedByTestUserIds = enterpriseConnectionUtils.query(
-                        "SELECT Id " +
-                                "FROM Account " +
-                                "WHERE CreatedById = '" + testUserId + "' " +
-                                "AND IsMultiProductTechnicalAccount__c = false " +
-                                "AND Billing_ID__c != null " +
-                                "LIMIT 2000",
-                        Account.class);
-
-                var rcCcTechAccounts = enterpriseConnectionUtils.query(
+                var rcCcTechAccounts = enterpriseConnectionUtils.queryStream(
                         "SELECT Id, Billing_ID__c " +
                                 "FROM Account " +
-                                "WHERE Master_Account__c IN " +
-                                getSObjectIdsListAsString(masterAccountsCreatedByTestUserIds) + " " +
+                                "WHERE Master_Account__r.CreatedById = '" + testUserId + "' " +
+                                "AND Master_Account__r.IsMultiProductTechnicalAccount__c = false " +
+                                "AND Master_Account__r.Billing_ID__c != null " +
                                 "AND IsMultiProductTechnicalAccount__c = true " +
                                 "AND Billing_ID__c != null " +
-                                "AND Service_Type__c = 'RingCentral Contact Center' " +
-                                "LIMIT 2000",
-                        Account.class);
+                                "AND Service_Type__c = 'RingCentral Contact Center'",
+                        Account.class).toList();
                 LOGGER.info("Found {} RC CC Tech Accounts records created by the test user",
                         rcCcTechAccounts.size());
 
@@ -159,15 +176,14 @@ public class CleanUp extends BaseTest {
 
         step("4. Terminate MVP Accounts in NGBS created by the test user", () -> {
             if (IS_MVP_ACCOUNTS_TERMINATION) {
-                var mvpExistingBusinessAccounts = enterpriseConnectionUtils.query(
+                var mvpExistingBusinessAccounts = enterpriseConnectionUtils.queryStream(
                         "SELECT Id, Billing_ID__c " +
                                 "FROM Account " +
                                 "WHERE CreatedById = '" + testUserId + "' " +
                                 "AND Billing_ID__c != null " +
                                 "AND IsMultiProductTechnicalAccount__c = false " +
-                                "AND Service_Type__c IN ('Office', '') " +
-                                "LIMIT 2000",
-                        Account.class);
+                                "AND Service_Type__c IN ('Office', '')",
+                        Account.class).toList();
                 LOGGER.info("Found {} Existing Business MVP Account records created by the test user (in SFDC)",
                         mvpExistingBusinessAccounts.size());
 
@@ -208,141 +224,112 @@ public class CleanUp extends BaseTest {
 
         step("6. Delete other test records created by the test user and NOT related to the test Accounts", () -> {
             step("Delete ContentDocument records (uploaded file attachments) created by the test user", () -> {
-                var createdAttachments = enterpriseConnectionUtils.query(
+                var createdAttachments = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM ContentDocument " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         ContentDocument.class);
-                LOGGER.info("Found {} ContentDocument records (uploaded file attachments) uploaded by the test user",
-                        createdAttachments.size());
-
-                deleteByBatches(createdAttachments);
+                var deletedCount = deleteByBatches(createdAttachments);
+                LOGGER.info("Deleted {} ContentDocument records (uploaded file attachments) uploaded by the test user", deletedCount);
             });
 
             step("Delete Document__c records created by the test user", () -> {
-                var documents = enterpriseConnectionUtils.query(
+                var documents = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Document__c " +
-                                "WHERE CreatedById = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE CreatedById = '" + testUserId + "'",
                         Document__c.class);
-                LOGGER.info("Found {} Document__c records created by the test user", documents.size());
-
-                deleteByBatches(documents);
+                var deletedCount = deleteByBatches(documents);
+                LOGGER.info("Deleted {} Document__c records created by the test user", deletedCount);
             });
 
             step("Delete EventLog__c records created by the test user", () -> {
-                var eventLogs = enterpriseConnectionUtils.query(
+                var eventLogs = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM EventLog__c " +
-                                "WHERE CreatedById = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE CreatedById = '" + testUserId + "'",
                         EventLog__c.class);
-                LOGGER.info("Found {} EventLog__c records created by the test user", eventLogs.size());
-
-                deleteByBatches(eventLogs);
+                var deletedCount = deleteByBatches(eventLogs);
+                LOGGER.info("Deleted {} EventLog__c records created by the test user", deletedCount);
             });
 
             step("Delete Exception_And_Notification_History__c records created by the test user", () -> {
-                var createdExceptionAndNotificationHistoryObjects = enterpriseConnectionUtils.query(
+                var createdExceptionAndNotificationHistoryObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Exception_And_Notification_History__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         Exception_And_Notification_History__c.class);
-                LOGGER.info("Found {} Exception_And_Notification_History__c records created by the test user",
-                        createdExceptionAndNotificationHistoryObjects.size());
-
-                deleteByBatches(createdExceptionAndNotificationHistoryObjects);
+                var deletedCount = deleteByBatches(createdExceptionAndNotificationHistoryObjects);
+                LOGGER.info("Deleted {} Exception_And_Notification_History__c records created by the test user", deletedCount);
             });
 
             step("Delete Demand_Funnel__c records created by the test user", () -> {
-                var createdDemandFunnelObjects = enterpriseConnectionUtils.query(
+                var createdDemandFunnelObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Demand_Funnel__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         Demand_Funnel__c.class);
-                LOGGER.info("Found {} Demand_Funnel__c records created by the test user",
-                        createdDemandFunnelObjects.size());
-
-                deleteByBatches(createdDemandFunnelObjects);
+                var deletedCount = deleteByBatches(createdDemandFunnelObjects);
+                LOGGER.info("Deleted {} Demand_Funnel__c records created by the test user", deletedCount);
             });
 
             step("Delete INVOCA_FOR_SF__Invoca_Conversion_Reporting__c records created by the test user", () -> {
-                var createdInvocaConversionReportingObjects = enterpriseConnectionUtils.query(
+                var createdInvocaConversionReportingObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM INVOCA_FOR_SF__Invoca_Conversion_Reporting__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         INVOCA_FOR_SF__Invoca_Conversion_Reporting__c.class);
-                LOGGER.info("Found {} INVOCA_FOR_SF__Invoca_Conversion_Reporting__c records created by the test user",
-                        createdInvocaConversionReportingObjects.size());
-
-                deleteByBatches(createdInvocaConversionReportingObjects);
+                var deletedCount = deleteByBatches(createdInvocaConversionReportingObjects);
+                LOGGER.info("Deleted {} INVOCA_FOR_SF__Invoca_Conversion_Reporting__c records created by the test user", deletedCount);
             });
 
             step("Delete ObjectMonitoring__c records created by the test user", () -> {
-                var createdObjectMonitoringObjects = enterpriseConnectionUtils.query(
+                var createdObjectMonitoringObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM ObjectMonitoring__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         ObjectMonitoring__c.class);
-                LOGGER.info("Found {} ObjectMonitoring__c records created by the test user",
-                        createdObjectMonitoringObjects.size());
-
-                deleteByBatches(createdObjectMonitoringObjects);
+                var deletedCount = deleteByBatches(createdObjectMonitoringObjects);
+                LOGGER.info("Deleted {} ObjectMonitoring__c records created by the test user", deletedCount);
             });
 
             step("Delete Contact_Ext__c records created by the test user", () -> {
-                var createdContactExtObjects = enterpriseConnectionUtils.query(
+                var createdContactExtObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Contact_Ext__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         Contact_Ext__c.class);
-                LOGGER.info("Found {} Contact_Ext__c records created by the test user",
-                        createdContactExtObjects.size());
-
-                deleteByBatches(createdContactExtObjects);
+                var deletedCount = deleteByBatches(createdContactExtObjects);
+                LOGGER.info("Deleted {} Contact_Ext__c records created by the test user", deletedCount);
             });
 
             step("Delete Lead_Ext__c records created by the test user", () -> {
-                var createdLeadExtObjects = enterpriseConnectionUtils.query(
+                var createdLeadExtObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Lead_Ext__c " +
-                                "WHERE OwnerId = '" + testUserId + "' " +
-                                "LIMIT 2000",
+                                "WHERE OwnerId = '" + testUserId + "'",
                         Lead_Ext__c.class);
-                LOGGER.info("Found {} Lead_Ext__c records created by the test user",
-                        createdLeadExtObjects.size());
-
-                deleteByBatches(createdLeadExtObjects);
+                var deletedCount = deleteByBatches(createdLeadExtObjects);
+                LOGGER.info("Deleted {} Lead_Ext__c records created by the test user", deletedCount);
             });
 
             step("Delete SubBrandsMapping__c records created by the test user", () -> {
-                var createdSubBrandsMappingObjects = enterpriseConnectionUtils.query(
+                var createdSubBrandsMappingObjects = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM SubBrandsMapping__c " +
                                 "WHERE CreatedById = '" + testUserId + "' " +
-                                "OR Name LIKE '" + SUB_BRANDS_MAPPING_DEFAULT_NAME_PREFIX + "%' " +
-                                "LIMIT 2000",
+                                "OR Name LIKE '" + SUB_BRANDS_MAPPING_DEFAULT_NAME_PREFIX + "%'",
                         SubBrandsMapping__c.class);
-                LOGGER.info("Found {} SubBrandsMapping__c records created by the autotests",
-                        createdSubBrandsMappingObjects.size());
-
-                deleteByBatches(createdSubBrandsMappingObjects);
+                var deletedCount = deleteByBatches(createdSubBrandsMappingObjects);
+                LOGGER.info("Deleted {} SubBrandsMapping__c records created by the autotests", deletedCount);
             });
 
             step("Delete Default_Business_Identity_Mapping__mdt records created by the autotests", () -> {
-                var createdDefaultBiMappingMdtRecords = enterpriseConnectionUtils.query(
+                var createdDefaultBiMappingMdtRecords = enterpriseConnectionUtils.queryStream(
                         "SELECT Id, DeveloperName " +
                                 "FROM Default_Business_Identity_Mapping__mdt " +
-                                "WHERE DeveloperName LIKE '%" + CRM_QA_AUTO_SUFFIX_FULLNAME + "' " +
-                                "LIMIT 2000",
-                        Default_Business_Identity_Mapping__mdt.class);
+                                "WHERE DeveloperName LIKE '%" + CRM_QA_AUTO_SUFFIX_FULLNAME + "'",
+                        Default_Business_Identity_Mapping__mdt.class).toList();
                 LOGGER.info("Found {} Default_Business_Identity_Mapping__mdt records created by the autotests",
                         createdDefaultBiMappingMdtRecords.size());
 
@@ -376,12 +363,11 @@ public class CleanUp extends BaseTest {
      */
     private void deleteTestAccountsLeadsAndRelatedRecords() {
         step("Search for test Leads created for conversion and their converted Accounts", () -> {
-            leadsToConvert = enterpriseConnectionUtils.query(
+            leadsToConvert = new ArrayList<>(enterpriseConnectionUtils.queryStream(
                     "SELECT Id, ConvertedAccountId " +
                             "FROM Lead " +
-                            "WHERE CreatedById = '" + testUserId + "' " +
-                            "LIMIT 2000",
-                    Lead.class);
+                            "WHERE CreatedById = '" + testUserId + "'",
+                    Lead.class).toList());
             LOGGER.info("Found {} test Leads", leadsToConvert.size());
 
             convertedAccountsIds = leadsToConvert.stream()
@@ -390,28 +376,28 @@ public class CleanUp extends BaseTest {
                     .collect(toSet());
 
             //  to check that the converted accounts still exist and not deleted separately before that
-            var convertedAccountsIdsListAsString = getStringListAsString(convertedAccountsIds);
-            var existingConvertedAccounts = enterpriseConnectionUtils.query(
-                    "SELECT Id " +
-                            "FROM Account " +
-                            "WHERE Id IN " + convertedAccountsIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Account.class);
-            convertedAccountsIds = existingConvertedAccounts.stream()
-                    .map(SObject::getId)
-                    .collect(toSet());
+            var existingConvertedAccountsIds = new HashSet<String>();
+            for (var convertedAccountsIdsChunk : splitIntoChunks(convertedAccountsIds, ACCOUNT_IDS_CHUNK_SIZE)) {
+                enterpriseConnectionUtils.queryStream(
+                                "SELECT Id " +
+                                        "FROM Account " +
+                                        "WHERE Id IN " + getStringListAsString(convertedAccountsIdsChunk),
+                                Account.class)
+                        .map(SObject::getId)
+                        .forEach(existingConvertedAccountsIds::add);
+            }
+            convertedAccountsIds = existingConvertedAccountsIds;
 
             LOGGER.info("Found {} Account records converted from the test Leads", convertedAccountsIds.size());
         });
 
         step("Search for the existing test Accounts", () -> {
-            var accounts = enterpriseConnectionUtils.query(
+            var accounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Account " +
                             "WHERE CreatedById = '" + testUserId + "' " +
-                            "AND IsMultiProductTechnicalAccount__c = false " +
-                            "LIMIT 2000",
-                    Account.class);
+                            "AND IsMultiProductTechnicalAccount__c = false",
+                    Account.class).toList();
             LOGGER.info("Found {} test Accounts", accounts.size());
 
             step("Merge existing test Accounts with Accounts converted from test Leads " +
@@ -420,7 +406,6 @@ public class CleanUp extends BaseTest {
                         .map(Account::getId)
                         .collect(toSet());
                 allTestAccountIds.addAll(convertedAccountsIds);
-                allTestAccountIdsListAsString = getStringListAsString(allTestAccountIds);
             });
         });
 
@@ -429,34 +414,53 @@ public class CleanUp extends BaseTest {
             return;
         }
 
+        //  Test Accounts are processed by chunks to keep SOQL queries with their IDs within the query length limit
+        var testAccountIdsChunks = splitIntoChunks(allTestAccountIds, ACCOUNT_IDS_CHUNK_SIZE);
+        for (int i = 0; i < testAccountIdsChunks.size(); i++) {
+            LOGGER.info("Deleting test Accounts and related records: chunk {} of {}...", i + 1, testAccountIdsChunks.size());
+            deleteTestAccountsAndRelatedRecords(testAccountIdsChunks.get(i));
+        }
+
+        step("Delete the remaining test Lead records", () -> {
+            LOGGER.info("Deleting {} remaining test Leads...", leadsToConvert.size());
+            deleteByBatches(leadsToConvert);
+        });
+    }
+
+    /**
+     * Delete the test Accounts with the given IDs and other records related to them.
+     *
+     * @param testAccountIds IDs of the test Accounts to delete
+     *                       (the number of IDs should fit into a single SOQL query)
+     */
+    private void deleteTestAccountsAndRelatedRecords(Set<String> testAccountIds) {
+        allTestAccountIdsListAsString = getStringListAsString(testAccountIds);
+
         step("Delete Area_Code_Line_Item__c records related to the test Accounts", () -> {
-            var areaCodeLineItems = enterpriseConnectionUtils.query(
+            var areaCodeLineItems = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Area_Code_Line_Item__c " +
                             "WHERE Quote_Line_Item__r.Quote.AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "AND Quote_Line_Item__r.IsMultiProductTechnicalQLI__c = false " +
-                            "LIMIT 2000",
-                    Area_Code_Line_Item__c.class);
+                            "AND Quote_Line_Item__r.IsMultiProductTechnicalQLI__c = false",
+                    Area_Code_Line_Item__c.class).toList();
             LOGGER.info("Found {} Area_Code_Line_Item__c records related to the test Accounts", areaCodeLineItems.size());
 
             deleteByBatches(areaCodeLineItems);
         });
 
         step("Delete AssignmentLineItem__c records related to the test Accounts", () -> {
-            var assignmentLineItemsParent = enterpriseConnectionUtils.query(
+            var assignmentLineItemsParent = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM AssignmentLineItem__c " +
                             "WHERE Parent__r.Quote.Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "AND Parent__r.IsMultiProductTechnicalQLI__c = false " +
-                            "LIMIT 2000",
-                    AssignmentLineItem__c.class);
-            var assignmentLineItemsChild = enterpriseConnectionUtils.query(
+                            "AND Parent__r.IsMultiProductTechnicalQLI__c = false",
+                    AssignmentLineItem__c.class).toList();
+            var assignmentLineItemsChild = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM AssignmentLineItem__c " +
                             "WHERE Child__r.Quote.Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "AND Child__r.IsMultiProductTechnicalQLI__c = false " +
-                            "LIMIT 2000",
-                    AssignmentLineItem__c.class);
+                            "AND Child__r.IsMultiProductTechnicalQLI__c = false",
+                    AssignmentLineItem__c.class).toList();
 
             var createdAssignmentLineItems = new ArrayList<AssignmentLineItem__c>();
             createdAssignmentLineItems.addAll(assignmentLineItemsParent);
@@ -468,28 +472,25 @@ public class CleanUp extends BaseTest {
             LOGGER.info("Found {} AssignmentLineItem__c records related to the test Accounts",
                     assignmentLineItemUniqueIds.size());
 
-            deleteByBatches(assignmentLineItemUniqueIds);
+            deleteByBatches("AssignmentLineItem__c", assignmentLineItemUniqueIds);
         });
 
         step("Delete Case records related to the test Accounts", () -> {
-            var casesForMasterAccounts = enterpriseConnectionUtils.query(
+            var casesForMasterAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Case " +
-                            "WHERE AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Case.class);
-            var casesForTechAccounts = enterpriseConnectionUtils.query(
+                            "WHERE AccountId IN " + allTestAccountIdsListAsString,
+                    Case.class).toList();
+            var casesForTechAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Case " +
-                            "WHERE Account.Master_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Case.class);
-            var casesForTestContacts = enterpriseConnectionUtils.query(
+                            "WHERE Account.Master_Account__c IN " + allTestAccountIdsListAsString,
+                    Case.class).toList();
+            var casesForTestContacts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Case " +
-                            "WHERE Contact.AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Case.class);
+                            "WHERE Contact.AccountId IN " + allTestAccountIdsListAsString,
+                    Case.class).toList();
 
             var cases = new ArrayList<Case>();
             cases.addAll(casesForMasterAccounts);
@@ -502,46 +503,42 @@ public class CleanUp extends BaseTest {
         });
 
         step("Delete Approval__c records related to the test Accounts", () -> {
-            var approvals = enterpriseConnectionUtils.query(
+            var approvals = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Approval__c " +
                             "WHERE Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "AND IsMultiProductTechnicalApproval__c = false " +
-                            "LIMIT 2000",
-                    Approval__c.class);
+                            "AND IsMultiProductTechnicalApproval__c = false",
+                    Approval__c.class).toList();
             LOGGER.info("Found {} Approval__c records related to the test Accounts", approvals.size());
 
             deleteByBatches(approvals);
         });
 
         step("Delete Contract records related to the test Accounts", () -> {
-            var contracts = enterpriseConnectionUtils.query(
+            var contracts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Contract " +
-                            "WHERE AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Contract.class);
+                            "WHERE AccountId IN " + allTestAccountIdsListAsString,
+                    Contract.class).toList();
             LOGGER.info("Found {} Contract records related to the test Accounts", contracts.size());
 
             deleteByBatches(contracts);
         });
 
         step("Delete closed Opportunity records related to the test Accounts", () -> {
-            var closedOpportunitiesMaster = enterpriseConnectionUtils.query(
+            var closedOpportunitiesMaster = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Opportunity " +
                             "WHERE IsClosed = true " +
-                            "AND AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Opportunity.class);
-            var closedOpportunitiesTech = enterpriseConnectionUtils.query(
+                            "AND AccountId IN " + allTestAccountIdsListAsString,
+                    Opportunity.class).toList();
+            var closedOpportunitiesTech = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Opportunity " +
                             "WHERE IsClosed = true " +
                             "AND IsMultiProductTechnicalOpportunity__c = true " +
-                            "AND Account.Master_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Opportunity.class);
+                            "AND Account.Master_Account__c IN " + allTestAccountIdsListAsString,
+                    Opportunity.class).toList();
 
             var closedOpportunities = new ArrayList<Opportunity>();
             closedOpportunities.addAll(closedOpportunitiesMaster);
@@ -553,24 +550,26 @@ public class CleanUp extends BaseTest {
             deleteByBatches(closedOpportunities, 30);
         });
 
-        step("Delete test Lead records created for conversion", () -> {
-            LOGGER.info("Deleting test Leads created for conversion...");
-            deleteByBatches(leadsToConvert);
+        step("Delete test Lead records converted to the test Accounts", () -> {
+            var convertedLeads = leadsToConvert.stream()
+                    .filter(lead -> testAccountIds.contains(lead.getConvertedAccountId()))
+                    .toList();
+            LOGGER.info("Deleting {} test Leads converted to the test Accounts...", convertedLeads.size());
+            deleteByBatches(convertedLeads);
+            leadsToConvert.removeAll(convertedLeads);
         });
 
         step("Delete AccountRelation__c records related to the test Accounts", () -> {
-            var createdAccountRelationsViaParentAccount = enterpriseConnectionUtils.query(
+            var createdAccountRelationsViaParentAccount = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM AccountRelation__c " +
-                            "WHERE Parent_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    AccountRelation__c.class);
-            var createdAccountRelationsViaChildAccount = enterpriseConnectionUtils.query(
+                            "WHERE Parent_Account__c IN " + allTestAccountIdsListAsString,
+                    AccountRelation__c.class).toList();
+            var createdAccountRelationsViaChildAccount = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM AccountRelation__c " +
-                            "WHERE Child_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    AccountRelation__c.class);
+                            "WHERE Child_Account__c IN " + allTestAccountIdsListAsString,
+                    AccountRelation__c.class).toList();
 
             var createdAccountRelations = new ArrayList<AccountRelation__c>();
             createdAccountRelations.addAll(createdAccountRelationsViaParentAccount);
@@ -583,12 +582,11 @@ public class CleanUp extends BaseTest {
         });
 
         step("Delete Package__c records (Billing Account Packages) related to the test Accounts", () -> {
-            var createdServiceAccounts = enterpriseConnectionUtils.query(
+            var createdServiceAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Package__c " +
-                            "WHERE Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Package__c.class);
+                            "WHERE Account__c IN " + allTestAccountIdsListAsString,
+                    Package__c.class).toList();
             LOGGER.info("Found {} Package__c records (Billing Account Packages) related to the test Accounts",
                     createdServiceAccounts.size());
 
@@ -596,22 +594,20 @@ public class CleanUp extends BaseTest {
         });
 
         step("Delete Order records related to the test Accounts", () -> {
-            var ordersForMasterAccounts = enterpriseConnectionUtils.query(
+            var ordersForMasterAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Order " +
-                            "WHERE AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Order.class);
+                            "WHERE AccountId IN " + allTestAccountIdsListAsString,
+                    Order.class).toList();
             LOGGER.info("Found {} Order records related to the test Accounts (Master)",
                     ordersForMasterAccounts.size());
 
-            var ordersForTechAccounts = enterpriseConnectionUtils.query(
+            var ordersForTechAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Order " +
                             "WHERE Account.Master_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "AND Account.IsMultiProductTechnicalAccount__c = true " +
-                            "LIMIT 2000",
-                    Order.class);
+                            "AND Account.IsMultiProductTechnicalAccount__c = true",
+                    Order.class).toList();
             LOGGER.info("Found {} Order records related to the test Accounts (Tech)",
                     ordersForTechAccounts.size());
 
@@ -623,19 +619,18 @@ public class CleanUp extends BaseTest {
 
             //  Orders with Status = 'Activated'/'Submitted' cannot be deleted, they should be in different status for deletion, e.g. 'New'
             orders.forEach(order -> deactivateOrder(order));
-            updateByBatches(orders, BATCH_SIZE_ON_DELETE);
+            enterpriseConnectionUtils.update(orders);
 
             deleteByBatches(orders);
         });
 
         step("Delete Deal_Registration__c records related to the test Accounts or created via PRM Portal", () -> {
-            var dealRegistrations = enterpriseConnectionUtils.query(
+            var dealRegistrations = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Deal_Registration__c " +
                             "WHERE Partner_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "OR Last_Name__c LIKE '%" + DealRegistrationData.AUTOTEST_SUFFIX + "%' " +
-                            "LIMIT 2000",
-                    Deal_Registration__c.class);
+                            "OR Last_Name__c LIKE '%" + DealRegistrationData.AUTOTEST_SUFFIX + "%'",
+                    Deal_Registration__c.class).toList();
             LOGGER.info("Found {} Deal_Registration__c records related to the test Accounts or created via PRM Portal",
                     dealRegistrations.size());
 
@@ -643,21 +638,19 @@ public class CleanUp extends BaseTest {
         });
 
         step("Delete Entitlement records (Support Entitlements) with related Cases related to the test Accounts", () -> {
-            var entitlements = enterpriseConnectionUtils.query(
+            var entitlements = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Entitlement " +
-                            "WHERE AccountId IN " + allTestAccountIdsListAsString + " " +
-                            "LIMIT 2000",
-                    Entitlement.class);
+                            "WHERE AccountId IN " + allTestAccountIdsListAsString,
+                    Entitlement.class).toList();
             LOGGER.info("Found {} Entitlement records related to the test Accounts", entitlements.size());
 
             if (!entitlements.isEmpty()) {
-                var casesRelatedToEntitlements = enterpriseConnectionUtils.query(
+                var casesRelatedToEntitlements = enterpriseConnectionUtils.queryStream(
                         "SELECT Id " +
                                 "FROM Case " +
-                                "WHERE EntitlementId IN " + getSObjectIdsListAsString(entitlements) + " " +
-                                "LIMIT 2000",
-                        Case.class);
+                                "WHERE EntitlementId IN " + getSObjectIdsListAsString(entitlements),
+                        Case.class).toList();
                 LOGGER.info("Found {} Case records related to the Entitlement records", casesRelatedToEntitlements.size());
                 deleteByBatches(casesRelatedToEntitlements);
             }
@@ -666,13 +659,12 @@ public class CleanUp extends BaseTest {
         });
 
         step("Delete LocalSubscribedAddress__c records related to the test Accounts or created by the test user", () -> {
-            var localSubscribedAddresses = enterpriseConnectionUtils.query(
+            var localSubscribedAddresses = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM LocalSubscribedAddress__c " +
                             "WHERE Approval__r.Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "OR CreatedById = '" + testUserId + "' " +
-                            "LIMIT 2000",
-                    LocalSubscribedAddress__c.class);
+                            "OR CreatedById = '" + testUserId + "'",
+                    LocalSubscribedAddress__c.class).toList();
             LOGGER.info("Found {} LocalSubscribedAddress__c records related to the test Accounts and/or created by test user",
                     localSubscribedAddresses.size());
 
@@ -681,13 +673,12 @@ public class CleanUp extends BaseTest {
 
         //  Accounts created for Engage/Contact Center services as a part of MultiProduct Quote creation
         step("Delete Technical Accounts related to the test Accounts", () -> {
-            var techAccounts = enterpriseConnectionUtils.query(
+            var techAccounts = enterpriseConnectionUtils.queryStream(
                     "SELECT Id " +
                             "FROM Account " +
                             "WHERE Master_Account__c IN " + allTestAccountIdsListAsString + " " +
-                            "AND IsMultiProductTechnicalAccount__c = true " +
-                            "LIMIT 2000",
-                    Account.class);
+                            "AND IsMultiProductTechnicalAccount__c = true",
+                    Account.class).toList();
             LOGGER.info("Found {} Technical Account records related to the test Accounts",
                     techAccounts.size());
 
@@ -696,7 +687,7 @@ public class CleanUp extends BaseTest {
 
         step("Delete all test Accounts", () -> {
             LOGGER.info("Deleting test Accounts...");
-            deleteByBatches(allTestAccountIds);
+            deleteByBatches("Account", new HashSet<>(testAccountIds));
         });
     }
 
@@ -778,31 +769,6 @@ public class CleanUp extends BaseTest {
         }
     }
 
-    /**
-     * Update records by batches of the custom size.
-     *
-     * @param sObjects  collection of SObjects that need to be updated
-     * @param batchSize number of records in a single batch to update
-     * @throws ConnectionException in case of errors while accessing API
-     */
-    private <T extends SObject> void updateByBatches(Collection<T> sObjects, int batchSize) throws ConnectionException {
-        var sObjectToUpdate = new ArrayList<>(sObjects);
-
-        while (!sObjectToUpdate.isEmpty()) {
-            var elementsBatch = sObjectToUpdate.stream()
-                    .limit(batchSize)
-                    .collect(toSet());
-            sObjectToUpdate.removeAll(elementsBatch);
-
-            LOGGER.info("Update a batch of {} record(s)...", elementsBatch.size());
-            enterpriseConnectionUtils.update(elementsBatch);
-
-            LOGGER.info("Successfully updated a batch of {} record(s): {}",
-                    elementsBatch.size(), elementsBatch.stream().map(SObject::getId).toList());
-            LOGGER.info("Remaining number of records to update: " + sObjectToUpdate.size());
-        }
-    }
-
     /**
      * Delete records by batches of the custom size using their IDs.
      *
@@ -832,24 +798,109 @@ public class CleanUp extends BaseTest {
     }
 
     /**
-     * Delete SObjects by batches of the fixed size using their IDs.
+     * Delete SObjects from the stream by pages of the fixed size.
+     * <br/>
+     * The stream is consumed page by page,
+     * so only a single page of the records is kept in memory at any moment.
+     *
+     * @param sObjects stream of SObjects that need to be deleted
+     *                 (e.g. from {@link EnterpriseConnectionUtils#queryStream(String, Class)})
+     * @param <T>      any SObject type, like Lead, Account, Contact, Opportunity...
+     * @return number of the deleted records
+     * @throws ConnectionException in case of errors while accessing API
+     */
+    private <T extends SObject> long deleteByBatches(Stream<T> sObjects) throws ConnectionException {
+        var deletedCount = 0L;
+        var elementsBatch = new HashSet<String>();
+
+        var iterator = sObjects.iterator();
+        while (iterator.hasNext()) {
+            var sObject = iterator.next();
+            elementsBatch.add(sObject.getId());
+
+            if (elementsBatch.size() == DELETE_PAGE_SIZE || !iterator.hasNext()) {
+                deleteByBatches(sObject.getClass().getSimpleName(), elementsBatch);
+                deletedCount += elementsBatch.size();
+                elementsBatch.clear();
+            }
+        }
+
+        return deletedCount;
+    }
+
+    /**
+     * Split the collection of IDs into the chunks of the given size.
+     *
+     * @param ids       collection of IDs to split
+     * @param chunkSize max number of IDs in a single chunk
+     * @return list of the chunks with IDs
+     */
+    private List<Set<String>> splitIntoChunks(Collection<String> ids, int chunkSize) {
+        var chunks = new ArrayList<Set<String>>();
+        var currentChunk = new HashSet<String>();
+
+        for (var id : ids) {
+            currentChunk.add(id);
+            if (currentChunk.size() == chunkSize) {
+                chunks.add(currentChunk);
+                currentChunk = new HashSet<>();
+            }
+        }
+
+        if (!currentChunk.isEmpty()) {
+            chunks.add(currentChunk);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Delete SObjects of the same type using their IDs.
+     * <br/>
+     * Large sets of SObjects are deleted via Bulk API 2.0 job, if it's enabled (see {@link #IS_BULK_API_DELETE}).
+     * Otherwise, SObjects are deleted by chunks of the max allowed size
+     * by {@link EnterpriseConnectionUtils#deleteByIds(Collection)}.
      *
-     * @param sObjectIds set of IDs for SObjects that need to be deleted
+     * @param sObjectName API name of the SObjects to delete (e.g. "Account", "Lead", "EventLog__c"...)
+     * @param sObjectIds  set of IDs for SObjects that need to be deleted
      * @throws ConnectionException in case of errors while accessing API
      */
-    private void deleteByBatches(Set<String> sObjectIds) throws ConnectionException {
-        deleteByBatches(sObjectIds, BATCH_SIZE_ON_DELETE, false);
+    private void deleteByBatches(String sObjectName, Set<String> sObjectIds) throws ConnectionException {
+        if (sObjectIds.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Deleting {} {} record(s)...", sObjectIds.size(), sObjectName);
+        if (IS_BULK_API_DELETE && sObjectIds.size() >= BULK_API_DELETE_THRESHOLD
+                && !BULK_API_UNSUPPORTED_SOBJECTS.contains(sObjectName)) {
+            SalesforceBulkApiClient.deleteRecords(sObjectName, sObjectIds, IS_BULK_API_HARD_DELETE);
+        } else {
+            enterpriseConnectionUtils.deleteByIds(sObjectIds);
+        }
+        LOGGER.info("Successfully deleted {} {} record(s): {}", sObjectIds.size(), sObjectName, sObjectIds);
     }
 
     /**
-     * Delete SObjects by batches of the fixed size.
+     * Delete SObjects.
+     * <br/>
+     * SObjects are deleted by chunks of the max allowed size by {@link EnterpriseConnectionUtils#deleteByIds(Collection)}.
      *
      * @param sObjects collection of SObjects that need to be deleted
      * @param <T>      any SObject type, like Lead, Account, Contact, Opportunity...
      * @throws ConnectionException in case of errors while accessing API
      */
     private <T extends SObject> void deleteByBatches(Collection<T> sObjects) throws ConnectionException {
-        deleteByBatches(sObjects, BATCH_SIZE_ON_DELETE);
+        if (sObjects.isEmpty()) {
+            return;
+        }
+
+        //  Enterprise WSDL classes have the same names as the SObjects' API names
+        var sObjectName = sObjects.iterator().next().getClass().getSimpleName();
+        var sObjectIds = sObjects.stream()
+                .map(SObject::getId)
+                .collect(toSet());
+
+        deleteByBatches(sObjectName, sObjectIds);
     }
 
     /**
@@ -4,15 +4,13 @@ import base.BaseTest;
 import base.Steps;
 import com.aquiva.autotests.rc.model.ngbs.testdata.Dataset;
 import com.aquiva.autotests.rc.utilities.JsonUtils;
-import com.aquiva.autotests.rc.utilities.salesforce.EnterpriseConnectionUtils;
 import com.sforce.soap.enterprise.sobject.Opportunity;
-import com.sforce.soap.enterprise.sobject.User;
 import io.qameta.allure.Description;
 import org.junit.jupiter.api.*;
 
 import static base.Pages.*;
 import static com.aquiva.autotests.rc.page.opportunity.ngbsquotingwizard.quotetab.QuotePage.CREDIT_CARD_PAYMENT_METHOD;
-import static com.aquiva.autotests.rc.utilities.Constants.USER;
+import static com.aquiva.autotests.rc.utilities.salesforce.sobjectutils.UserUtils.getRunningUser;
 import static io.qameta.allure.Allure.step;
 
 /**
@@ -21,7 +19,6 @@ import static io.qameta.allure.Allure.step;
 @PerformanceTest
 public class NewBusinessSignUpFlowPerformanceCheck extends BaseTest {
     private final Steps steps;
-    private final EnterpriseConnectionUtils enterpriseConnectionUtils;
 
     private Opportunity opportunity;
 
@@ -30,17 +27,12 @@ public class NewBusinessSignUpFlowPerformanceCheck extends BaseTest {
                 "data/ngbs/newbusiness/RC_MVP_Monthly_Contract_2TypesOfDLs_RegularAndPOC.json",
                 Dataset.class);
         steps = new Steps(data);
-        enterpriseConnectionUtils = EnterpriseConnectionUtils.getInstance();
     }
 
     @BeforeEach
     public void setUpTest() {
         var runningUser = step("Obtain a current User's Id via API", () -> {
-            return enterpriseConnectionUtils.querySingleRecord(
-                    "SELECT Id " +
-                            "FROM User " +
-                            "WHERE Username = '" + USER + "'",
-                    User.class);
+            return getRunningUser();
         });
 
         steps.salesFlow.createAccountWithContactAndContactRole(runningUser);
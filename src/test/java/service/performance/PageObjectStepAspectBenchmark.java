@@ -0,0 +1,143 @@
+package service.performance;
+
+import com.aquiva.autotests.rc.internal.reporting.aspects.PageObjectStepAspect;
+import com.aquiva.autotests.rc.page.salesforce.contact.ContactRecordPage;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.aspectj.weaver.loadtime.Agent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * JMH benchmark for the overhead of {@link PageObjectStepAspect} on the Page Object (PO) methods' calls.
+ * <br/>
+ * The PO methods here don't need a browser, so the measured time is mostly the aspect's own time:
+ * <p> - {@code tracedStep}: every call is logged as a separate step (different arguments) </p>
+ * <p> - {@code skippedAccessor}: element accessor that is not logged (see {@link PageObjectStepAspect#TRACING_POLICY}) </p>
+ * <p> - {@code aggregatedStep}: repeated call with the same arguments that's added to the previous step </p>
+ * <p> - {@code notIntercepted}: the same work as in {@code tracedStep} without the aspect (baseline) </p>
+ * <p></p>
+ * The aspect is woven at load time, the same way as in the tests (see {@code META-INF/aop-ajc.xml}),
+ * so the benchmark's forks are started with AspectJ's java agent.
+ * <br/>
+ * Run it via {@link #main(String[])} with the test classpath (e.g. from IDE after {@code mvn test-compile}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectStepAspectBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(PageObjectStepAspectBenchmark.class);
+
+    private static final String[] CONTACT_NAMES = {"John Smith", "Jane Doe", "Mary Major", "Richard Roe"};
+    //  Max number of the traced steps in the test case before they are cleared (to keep the heap's size stable)
+    private static final int MAX_STEPS = 1 << 16;
+
+    private ContactRecordPage contactRecordPage;
+    private String testCaseUuid;
+    private String parentStepUuid;
+    private int callIndex;
+
+    /**
+     * Run the benchmark in the forked JVM with the load-time weaving of the aspects.
+     *
+     * @param args not used
+     * @throws Exception in case of any errors during the benchmark's run
+     */
+    public static void main(String[] args) throws Exception {
+        var aspectjWeaverJar = Paths.get(Agent.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        var options = new OptionsBuilder()
+                .include(PageObjectStepAspectBenchmark.class.getSimpleName())
+                .jvmArgsAppend("-javaagent:" + aspectjWeaverJar)
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * Use Allure's lifecycle that doesn't write any results to disk.
+     * <br/>
+     * Note: it should be set before the first intercepted call on the benchmark's thread
+     * (see {@link PageObjectStepAspect#getLifecycle()}).
+     */
+    @Setup(Level.Trial)
+    public void setUpLifecycle() {
+        Allure.setLifecycle(new AllureLifecycle(new AllureResultsWriter() {
+            @Override
+            public void write(TestResult testResult) {
+            }
+
+            @Override
+            public void write(TestResultContainer testResultContainer) {
+            }
+
+            @Override
+            public void write(String source, InputStream attachment) {
+            }
+        }));
+    }
+
+    /**
+     * Start a new Allure test case with a parent step for the steps of every iteration,
+     * so the steps are added to it like in the real tests (and don't pile up between iterations).
+     * <br/>
+     * Note: the repeated calls are aggregated only inside the parent steps.
+     */
+    @Setup(Level.Iteration)
+    public void startTestCase() {
+        contactRecordPage = new ContactRecordPage();
+        testCaseUuid = UUID.randomUUID().toString();
+        Allure.getLifecycle().scheduleTestCase(new TestResult().setUuid(testCaseUuid).setName("benchmark"));
+        Allure.getLifecycle().startTestCase(testCaseUuid);
+        parentStepUuid = UUID.randomUUID().toString();
+        Allure.getLifecycle().startStep(parentStepUuid, new StepResult().setName("benchmark's iteration"));
+    }
+
+    /**
+     * Stop the Allure test case of the iteration (with its parent step), and log the aspect's own statistics.
+     */
+    @TearDown(Level.Iteration)
+    public void stopTestCase() {
+        Allure.getLifecycle().stopStep(parentStepUuid);
+        Allure.getLifecycle().stopTestCase(testCaseUuid);
+        Allure.getLifecycle().writeTestCase(testCaseUuid);
+        LOG.info("Page object steps: {}", PageObjectStepAspect.getStatsFormatted());
+    }
+
+    @Benchmark
+    public Object tracedStep() {
+        if ((callIndex & (MAX_STEPS - 1)) == 0) {
+            Allure.getLifecycle().updateStep(parentStepUuid, parentStep -> parentStep.getSteps().clear());
+        }
+        return ContactRecordPage.getContactSavedSuccessMessage(CONTACT_NAMES[callIndex++ & 3]);
+    }
+
+    @Benchmark
+    public Object skippedAccessor() {
+        return contactRecordPage.getRelatedListByName(CONTACT_NAMES[0]);
+    }
+
+    @Benchmark
+    public Object aggregatedStep() {
+        return ContactRecordPage.getContactSavedSuccessMessage(CONTACT_NAMES[0]);
+    }
+
+    @Benchmark
+    public Object notIntercepted() {
+        return String.format(ContactRecordPage.CONTACT_SAVED_SUCCESSFUL_MESSAGE, CONTACT_NAMES[callIndex++ & 3]);
+    }
+}